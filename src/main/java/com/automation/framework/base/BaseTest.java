@@ -1,13 +1,32 @@
 package com.automation.framework.base;
 
 import com.automation.framework.config.ConfigLoader;
-import com.automation.framework.constants.FrameworkConstants;
+import com.automation.framework.driver.BrowserProfileManager;
 import com.automation.framework.driver.DriverFactory;
 import com.automation.framework.driver.DriverManager;
+import com.automation.framework.driver.DriverPool;
+import com.automation.framework.driver.DriverReaper;
+import com.automation.framework.driver.DriverRegistry;
+import com.automation.framework.driver.DriverScope;
+import com.automation.framework.driver.DriverStartupMetrics;
+import com.automation.framework.driver.NetworkActivity;
+import com.automation.framework.driver.PageLoadSettings;
+import com.automation.framework.driver.RequestBlocker;
 import com.automation.framework.exceptions.FrameworkExceptionHandler;
+import com.automation.framework.pages.BasePage;
 import com.automation.framework.retry.SmartRetryAnalyzer;
+import com.automation.framework.utils.ActionRetries;
+import com.automation.framework.utils.AdaptivePolling;
+import com.automation.framework.utils.ElementActions;
+import com.automation.framework.utils.ImplicitWaits;
 import com.automation.framework.utils.LogManager;
+import com.automation.framework.utils.MutationWaitEngine;
+import com.automation.framework.utils.RecoveryStrategies;
 import com.automation.framework.utils.ScreenshotUtil;
+import com.automation.framework.utils.TestDeadline;
+import com.automation.framework.utils.WaitFactory;
+import com.automation.framework.utils.WaitTelemetry;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.testng.ITestResult;
 import org.testng.annotations.*;
@@ -16,6 +35,14 @@ import java.lang.reflect.Method;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
 /**
  * Base Test Class - Provides comprehensive test lifecycle management with TestNG integration
@@ -30,6 +57,35 @@ public abstract class BaseTest {
     private static final ConfigLoader config = ConfigLoader.getInstance();
     private static final DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
     
+    // Sessions kept beyond a single test method, mapped to the scope owner that may reuse them
+    private static final Map<WebDriver, String> scopedSessions = new ConcurrentHashMap<>();
+    private static final ThreadLocal<String> sessionOwner = new ThreadLocal<>();
+    
+    // Subsystem statistics logged at the end of the suite
+    private static final List<Supplier<String>> statisticsProviders = List.of(
+        SmartRetryAnalyzer::getRetryStatistics,
+        FrameworkExceptionHandler::getExceptionSummary,
+        DriverPool::getPoolStatistics,
+        DriverRegistry::getRegistryStatistics,
+        DriverStartupMetrics::getStartupStatistics,
+        RequestBlocker::getBlockerStatistics,
+        NetworkActivity::getNetworkStatistics,
+        MutationWaitEngine::getEngineStatistics,
+        AdaptivePolling::getPollingStatistics,
+        ImplicitWaits::getImplicitWaitStatistics,
+        WaitFactory::getWaitCacheStatistics,
+        TestDeadline::getBudgetStatistics,
+        WaitTelemetry::getTelemetryStatistics,
+        ActionRetries::getRetryStatistics,
+        RecoveryStrategies::getRecoveryStatistics,
+        ElementActions::getElementCacheStatistics,
+        ElementActions::getFormFillStatistics,
+        ElementActions::getExtractionStatistics,
+        BasePage::getPageStatistics);
+    
+    // A non-zero count in a statistics summary; numbers followed by a unit or percent sign (10s, 0.0%) are not counts
+    private static final Pattern activityCount = Pattern.compile("(?<![\\w.])[1-9]\\d*(?![\\d.]*[A-Za-z%])");
+    
     // Test execution tracking
     private LocalDateTime testStartTime;
     private LocalDateTime suiteStartTime;
@@ -54,6 +110,11 @@ public abstract class BaseTest {
         // Initialize framework components
         initializeFramework();
         
+        // Start warming pooled sessions while the rest of the suite boots
+        if (config.isDriverPoolEnabled()) {
+            DriverPool.prewarm(config.getBrowser(), config.isHeadless());
+        }
+        
         // Clean up old screenshots if configured
         int cleanupDays = config.getPropertyAsInt("screenshot.cleanup.days", 7);
         if (cleanupDays > 0) {
@@ -104,11 +165,32 @@ public abstract class BaseTest {
         LogManager.info("└─────────────────────────────────────────────────────────────────");
         
         try {
-            // Initialize WebDriver for this test
-            initializeDriver();
+            // Page load strategy and URL blocklist for this test
+            PageLoadSettings pageLoadSettings = PageLoadSettings.resolve(getClass(), method);
+            PageLoadSettings.setCurrent(pageLoadSettings);
+            
+            // Initialize or reuse the WebDriver according to the driver scope; a new browser starts in the background
+            CompletableFuture<WebDriver> pendingDriver = acquireDriver(pageLoadSettings);
+            
+            // Setup that does not need the browser overlaps its startup
+            try {
+                prepareTest(method);
+            } catch (RuntimeException e) {
+                if (pendingDriver != null) {
+                    pendingDriver.thenAccept(DriverManager::quitDriver);
+                }
+                throw e;
+            }
+            
+            if (pendingDriver != null) {
+                bindDriver(awaitDriver(pendingDriver));
+            }
+            
+            // Reused and pooled sessions may carry another test's blocklist
+            RequestBlocker.apply(DriverManager.getDriver(), pageLoadSettings.getBlockedUrls());
             
-            // Configure driver timeouts
-            configureDriver();
+            // Wait budget; browser startup is not charged to it
+            TestDeadline.start(testName, TestDeadline.resolveBudget(getClass(), method));
             
             // Perform any custom test setup
             customTestSetup(method);
@@ -132,6 +214,9 @@ public abstract class BaseTest {
         Duration testDuration = Duration.between(testStartTime, testEndTime);
         String testName = getTestName(result);
         
+        // Cleanup is not bound by the test's wait budget
+        TestDeadline.clear();
+        
         try {
             // Handle test result
             handleTestResult(result, testName, testDuration);
@@ -142,8 +227,11 @@ public abstract class BaseTest {
         } catch (Exception e) {
             LogManager.warn("Error during test teardown for {}: {}", testName, e.getMessage());
         } finally {
-            // Always clean up driver
-            cleanupDriver();
+            // Method-scoped drivers are always cleaned up; wider scopes are released by their owner
+            if (resolveDriverScope() == DriverScope.Scope.METHOD) {
+                cleanupDriver();
+            }
+            PageLoadSettings.clearCurrent();
             
             LogManager.info("┌─────────────────────────────────────────────────────────────────");
             LogManager.info("│ COMPLETED TEST: {}", testName);
@@ -155,46 +243,172 @@ public abstract class BaseTest {
     }
     
     /**
-     * Initializes the WebDriver for the current test
+     * Class teardown - Releases sessions kept for the methods of this class
      */
-    private void initializeDriver() {
-        String browserType = config.getBrowser();
-        boolean headless = config.isHeadless();
+    @AfterClass(alwaysRun = true)
+    public void classTeardown() {
+        String owner = sessionOwnerKey(DriverScope.Scope.CLASS);
+        releaseScopedSessions(owner::equals);
+    }
+    
+    /**
+     * Test tag teardown - Releases thread-scoped sessions before TestNG retires its worker threads
+     */
+    @AfterTest(alwaysRun = true)
+    public void testTagTeardown() {
+        releaseScopedSessions(owner -> owner.startsWith(DriverScope.Scope.THREAD.name()));
+    }
+    
+    /**
+     * Provides a driver for the current test according to the driver scope
+     * Reuses the thread's session when it belongs to the same scope owner, is still alive and uses
+     * the test's page load strategy, otherwise starts a fresh session without waiting for it
+     * 
+     * @param pageLoadSettings Page load settings of the test
+     * @return Future of the new driver to bind with bindDriver, or null if the current session was reused
+     */
+    private CompletableFuture<WebDriver> acquireDriver(PageLoadSettings pageLoadSettings) {
+        DriverScope.Scope scope = resolveDriverScope();
+        String owner = sessionOwnerKey(scope);
+        WebDriver current = DriverManager.hasDriver() ? DriverManager.getDriver() : null;
         
-        LogManager.debug("Initializing {} driver (headless: {})", browserType, headless);
+        // A scoped session released by another thread at the end of its scope
+        if (current != null && sessionOwner.get() != null && !scopedSessions.containsKey(current)) {
+            DriverManager.detachDriver();
+            sessionOwner.remove();
+            current = null;
+        }
         
-        WebDriver driver;
-        if (headless) {
-            driver = DriverFactory.createHeadlessDriver(browserType);
-        } else {
-            driver = DriverFactory.createDriver(browserType);
+        if (current != null && owner != null && owner.equals(sessionOwner.get())) {
+            if (!DriverManager.isDriverSessionActive()) {
+                LogManager.warn("{}-scoped driver session is no longer active, starting a fresh session", scope);
+            } else if (!pageLoadSettings.matchesSession(current)) {
+                LogManager.info("Page load strategy changed to {}, starting a fresh session", pageLoadSettings.getStrategy());
+            } else {
+                resetDriverState(current);
+                LogManager.debug("Reusing {}-scoped driver for thread: {}", scope, Thread.currentThread().getName());
+                return null;
+            }
+            releaseCurrentDriver();
+        } else if (current != null) {
+            releaseCurrentDriver();
         }
         
-        DriverManager.setDriver(driver);
-        DriverManager.setBrowserType(browserType);
+        return initializeDriver(pageLoadSettings);
+    }
+    
+    /**
+     * Binds a newly started driver to the current thread and records it for its scope owner
+     * 
+     * @param driver The new WebDriver instance
+     */
+    private void bindDriver(WebDriver driver) {
+        // Pooled sessions are bound when they are leased
+        if (!DriverManager.hasDriver() || DriverManager.getDriver() != driver) {
+            DriverManager.setDriver(driver);
+            DriverManager.setBrowserType(config.getBrowser());
+        }
+        
+        String owner = sessionOwnerKey(resolveDriverScope());
+        if (owner != null) {
+            scopedSessions.put(driver, owner);
+            sessionOwner.set(owner);
+        }
         
         LogManager.debug("Driver initialized successfully: {}", driver.getClass().getSimpleName());
     }
     
     /**
-     * Configures the WebDriver with timeouts and other settings
+     * Waits for a driver started in the background
+     * 
+     * @param pendingDriver Future of the new driver
+     * @return WebDriver instance
+     */
+    private WebDriver awaitDriver(CompletableFuture<WebDriver> pendingDriver) {
+        try {
+            return pendingDriver.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException("Failed to create driver", e.getCause());
+        }
+    }
+    
+    /**
+     * Releases the current thread's driver, unless another thread already disposed of it
      */
-    private void configureDriver() {
+    private void releaseCurrentDriver() {
         WebDriver driver = DriverManager.getDriver();
+        boolean scoped = sessionOwner.get() != null;
+        sessionOwner.remove();
         
-        // Configure timeouts
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(FrameworkConstants.IMPLICIT_WAIT_TIMEOUT));
-        driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(FrameworkConstants.PAGE_LOAD_TIMEOUT));
-        driver.manage().timeouts().scriptTimeout(Duration.ofSeconds(FrameworkConstants.EXPLICIT_WAIT_TIMEOUT));
-        
-        // Maximize window if not headless
-        if (!config.isHeadless()) {
-            driver.manage().window().maximize();
-            LogManager.debug("Browser window maximized");
+        if (scoped && scopedSessions.remove(driver) == null) {
+            DriverManager.detachDriver();
+        } else {
+            cleanupDriver();
         }
+    }
+    
+    /**
+     * Quits scoped sessions whose owner matches, on whichever thread holds them
+     * 
+     * @param ownerFilter Selects the scope owners to release
+     */
+    private static void releaseScopedSessions(Predicate<String> ownerFilter) {
+        scopedSessions.forEach((driver, owner) -> {
+            if (ownerFilter.test(owner) && scopedSessions.remove(driver, owner)) {
+                LogManager.debug("Releasing scoped driver owned by: {}", owner);
+                DriverManager.quitDriver(driver);
+            }
+        });
+    }
+    
+    /**
+     * Resolves the driver scope from the class annotation or configuration
+     * 
+     * @return Driver scope for this test class
+     */
+    private DriverScope.Scope resolveDriverScope() {
+        DriverScope annotation = getClass().getAnnotation(DriverScope.class);
+        return annotation != null ? annotation.value() : DriverScope.Scope.fromValue(config.getDriverScope());
+    }
+    
+    /**
+     * Builds the key identifying who may reuse a scoped session
+     * 
+     * @param scope Driver scope
+     * @return Owner key, or null for method scope
+     */
+    private String sessionOwnerKey(DriverScope.Scope scope) {
+        return switch (scope) {
+            case METHOD -> null;
+            case CLASS -> scope.name() + ":" + getClass().getName();
+            case THREAD -> scope.name() + ":" + Thread.currentThread().getName();
+            case SUITE -> scope.name();
+        };
+    }
+    
+    /**
+     * Initializes the WebDriver for the current test
+     * Pooled sessions are leased right away; new sessions are created in the background
+     * Pooled sessions use the configured page load strategy, so tests overriding it get a new session
+     * 
+     * @param pageLoadSettings Page load settings of the test
+     * @return Future completed with the WebDriver instance
+     */
+    private CompletableFuture<WebDriver> initializeDriver(PageLoadSettings pageLoadSettings) {
+        String browserType = config.getBrowser();
+        boolean headless = config.isHeadless();
+        
+        LogManager.debug("Initializing {} driver (headless: {}, page load strategy: {})", 
+            browserType, headless, pageLoadSettings.getStrategy());
         
-        LogManager.debug("Driver configured with timeouts - Implicit: {}s, Page Load: {}s, Script: {}s",
-            FrameworkConstants.IMPLICIT_WAIT_TIMEOUT, FrameworkConstants.PAGE_LOAD_TIMEOUT, FrameworkConstants.EXPLICIT_WAIT_TIMEOUT);
+        if (config.isDriverPoolEnabled()
+            && pageLoadSettings.getStrategy() == PageLoadSettings.fromConfig().getStrategy()) {
+            return CompletableFuture.completedFuture(DriverManager.leaseDriver(browserType, headless));
+        }
+        return DriverFactory.createDriverAsync(browserType, headless);
     }
     
     /**
@@ -320,6 +534,9 @@ public abstract class BaseTest {
     private void cleanupFramework() {
         LogManager.info("Cleaning up framework resources...");
         
+        // Release sessions kept by class, thread or suite scopes
+        releaseScopedSessions(owner -> true);
+        
         // Force cleanup of any remaining drivers
         try {
             DriverManager.quitDriver();
@@ -327,6 +544,25 @@ public abstract class BaseTest {
             LogManager.debug("Driver cleanup during framework shutdown: {}", e.getMessage());
         }
         
+        // Quit warm sessions still held by driver pools
+        DriverPool.shutdownAll();
+        
+        // Quit sessions left behind by other worker threads
+        if (DriverRegistry.getActiveSessionCount() > 0) {
+            DriverRegistry.describeSessions().forEach(session -> LogManager.warn("Leftover driver {}", session));
+            DriverManager.quitAllDrivers();
+        }
+        
+        // Wait for background driver quits to finish before the JVM exits
+        DriverReaper.awaitDrain(config.getDriverReaperDrainTimeout());
+        logIfActive(DriverReaper.getReaperStatistics());
+        
+        // Delete per-slot browser profiles once every browser has exited
+        if (config.isBrowserProfileReuseEnabled()) {
+            LogManager.info("Deleted {} browser profile slot(s)", BrowserProfileManager.cleanup());
+            LogManager.info(BrowserProfileManager.getProfileStatistics());
+        }
+        
         LogManager.info("Framework cleanup completed");
     }
     
@@ -336,20 +572,27 @@ public abstract class BaseTest {
     private void printFrameworkStatistics() {
         LogManager.info("Framework Statistics:");
         
-        // Retry statistics
-        String retryStats = SmartRetryAnalyzer.getRetryStatistics();
-        LogManager.info("Retry Statistics: {}", retryStats);
-        
-        // Exception statistics
-        String exceptionStats = FrameworkExceptionHandler.getExceptionSummary();
-        LogManager.info("Exception Summary:");
-        LogManager.info(exceptionStats);
+        // Subsystems that were not used or are disabled have nothing to report
+        statisticsProviders.forEach(provider -> logIfActive(provider.get()));
+        DriverStartupMetrics.logStartupReport();
+        WaitTelemetry.writeReport();
         
         // Screenshot directory info
         String screenshotDir = ScreenshotUtil.getScreenshotsDirectory();
         LogManager.info("Screenshots Directory: {}", screenshotDir);
     }
     
+    /**
+     * Logs a statistics summary if it records any activity
+     * 
+     * @param summary Statistics summary
+     */
+    private static void logIfActive(String summary) {
+        if (activityCount.matcher(summary).find()) {
+            LogManager.info(summary.strip());
+        }
+    }
+    
     /**
      * Gets test name from method
      * 
@@ -397,6 +640,32 @@ public abstract class BaseTest {
         LogManager.debug("Custom test setup executed for: {}", method.getName());
     }
     
+    /**
+     * Test preparation that runs while a new browser session starts, e.g. loading test data or API login
+     * Must not use the driver; it becomes available from customTestSetup onwards
+     * 
+     * @param method Test method being executed
+     */
+    protected void prepareTest(Method method) {
+        // Default implementation - can be overridden
+    }
+    
+    /**
+     * Resets browser state between tests that share a scoped session
+     * The default clears cookies and web storage for the current origin; override for a cheaper or deeper reset
+     * 
+     * @param driver The reused WebDriver instance
+     */
+    protected void resetDriverState(WebDriver driver) {
+        try {
+            driver.manage().deleteAllCookies();
+            ((JavascriptExecutor) driver).executeScript(
+                "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+        } catch (Exception e) {
+            LogManager.debug("Driver state reset skipped: {}", e.getMessage());
+        }
+    }
+    
     /**
      * Custom test teardown that can be overridden by subclasses
      * 
@@ -426,6 +695,7 @@ public abstract class BaseTest {
     protected void navigateTo(String url) {
         LogManager.info("Navigating to: {}", url);
         getDriver().get(url);
+        ElementActions.clearElementCache();
         LogManager.info("Navigation completed to: {}", url);
     }
     
@@ -450,6 +720,7 @@ public abstract class BaseTest {
     
     /**
      * Waits for specified duration
+     * Prefer WaitFactory.waitForNetworkIdle or waitForFrameworkReady when waiting for the application to settle
      * 
      * @param milliseconds Duration to wait in milliseconds
      */
@@ -6,7 +6,10 @@ import com.automation.framework.utils.LogManager;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Properties;
+import java.util.stream.Collectors;
 
 /**
  * Config Loader - Singleton class for loading and managing configuration properties
@@ -248,6 +251,7 @@ public final class ConfigLoader {
     
     /**
      * Gets the implicit wait timeout
+     * Sessions are created without an implicit wait when wait.mode is explicit
      * 
      * @return The implicit wait timeout in seconds
      */
@@ -273,6 +277,460 @@ public final class ConfigLoader {
         return getPropertyAsInt("page.load.timeout", FrameworkConstants.PAGE_LOAD_TIMEOUT);
     }
     
+    /**
+     * Gets the script timeout
+     * 
+     * @return The script timeout in seconds
+     */
+    public int getScriptTimeout() {
+        return getPropertyAsInt("script.timeout", FrameworkConstants.SCRIPT_TIMEOUT);
+    }
+    
+    /**
+     * Gets the browser window width requested at session creation
+     * 
+     * @return The window width in pixels
+     */
+    public int getWindowWidth() {
+        return getPropertyAsInt("window.width", FrameworkConstants.WINDOW_WIDTH);
+    }
+    
+    /**
+     * Gets the browser window height requested at session creation
+     * 
+     * @return The window height in pixels
+     */
+    public int getWindowHeight() {
+        return getPropertyAsInt("window.height", FrameworkConstants.WINDOW_HEIGHT);
+    }
+    
+    /**
+     * Gets whether WebDriver sessions should be leased from the warm driver pool
+     * 
+     * @return true if the driver pool is enabled
+     */
+    public boolean isDriverPoolEnabled() {
+        return getPropertyAsBoolean("driver.pool.enabled", false);
+    }
+    
+    /**
+     * Gets the number of warm sessions kept per browser profile
+     * 
+     * @return The driver pool size
+     */
+    public int getDriverPoolSize() {
+        return getPropertyAsInt("driver.pool.size", FrameworkConstants.DRIVER_POOL_SIZE);
+    }
+    
+    /**
+     * Gets the maximum age of a pooled session before it is retired
+     * 
+     * @return The maximum session age in seconds (0 for no limit)
+     */
+    public int getDriverPoolMaxSessionAge() {
+        return getPropertyAsInt("driver.pool.max.session.age", FrameworkConstants.DRIVER_POOL_MAX_SESSION_AGE);
+    }
+    
+    /**
+     * Gets the maximum number of leases a pooled session serves before it is retired
+     * 
+     * @return The maximum reuse count
+     */
+    public int getDriverPoolMaxReuseCount() {
+        return getPropertyAsInt("driver.pool.max.reuse.count", FrameworkConstants.DRIVER_POOL_MAX_REUSE_COUNT);
+    }
+    
+    /**
+     * Gets how long a thread waits for a pooled session before failing
+     * 
+     * @return The lease timeout in seconds
+     */
+    public int getDriverPoolLeaseTimeout() {
+        return getPropertyAsInt("driver.pool.lease.timeout", FrameworkConstants.DRIVER_POOL_LEASE_TIMEOUT);
+    }
+    
+    /**
+     * Gets the driver quit mode (sync quits on the test thread, async hands off to the reaper)
+     * 
+     * @return The driver quit mode
+     */
+    public String getDriverQuitMode() {
+        return getProperty("driver.quit.mode", FrameworkConstants.QUIT_MODE_SYNC).trim().toLowerCase();
+    }
+    
+    /**
+     * Gets the number of background threads quitting drivers in async mode
+     * 
+     * @return The reaper thread count
+     */
+    public int getDriverReaperThreads() {
+        return getPropertyAsInt("driver.reaper.threads", FrameworkConstants.DRIVER_REAPER_THREADS);
+    }
+    
+    /**
+     * Gets how many sessions may queue for the reaper before quitting falls back to the caller
+     * 
+     * @return The reaper queue capacity
+     */
+    public int getDriverReaperQueueCapacity() {
+        return getPropertyAsInt("driver.reaper.queue.capacity", FrameworkConstants.DRIVER_REAPER_QUEUE_CAPACITY);
+    }
+    
+    /**
+     * Gets the hard timeout for a single driver quit before its processes are killed
+     * 
+     * @return The quit timeout in seconds
+     */
+    public int getDriverQuitTimeout() {
+        return getPropertyAsInt("driver.quit.timeout", FrameworkConstants.DRIVER_QUIT_TIMEOUT);
+    }
+    
+    /**
+     * Gets how long suite teardown waits for queued driver quits to finish
+     * 
+     * @return The reaper drain timeout in seconds
+     */
+    public int getDriverReaperDrainTimeout() {
+        return getPropertyAsInt("driver.reaper.drain.timeout", FrameworkConstants.DRIVER_REAPER_DRAIN_TIMEOUT);
+    }
+    
+    /**
+     * Gets whether resolved driver binaries are remembered in the on-disk manifest
+     * 
+     * @return true if the driver binary cache is enabled
+     */
+    public boolean isDriverBinaryCacheEnabled() {
+        return getPropertyAsBoolean("driver.binary.cache.enabled", true);
+    }
+    
+    /**
+     * Gets the location of the resolved driver binary manifest
+     * 
+     * @return The manifest file path
+     */
+    public String getDriverBinaryManifestPath() {
+        return getProperty("driver.binary.manifest", FrameworkConstants.DRIVER_BINARY_MANIFEST);
+    }
+    
+    /**
+     * Gets how long a manifest entry is trusted before the binary is resolved again
+     * 
+     * @return The manifest entry time-to-live in hours
+     */
+    public int getDriverBinaryCacheTtl() {
+        return getPropertyAsInt("driver.binary.cache.ttl.hours", FrameworkConstants.DRIVER_BINARY_CACHE_TTL_HOURS);
+    }
+    
+    /**
+     * Gets the backend used by element waits (mutation or polling)
+     * 
+     * @return The wait engine
+     */
+    public String getWaitEngine() {
+        return getProperty("wait.engine", FrameworkConstants.WAIT_ENGINE_MUTATION).trim().toLowerCase();
+    }
+    
+    /**
+     * Gets how implicit and explicit waits interact (mixed, suspend or explicit)
+     * 
+     * @return The wait mode
+     */
+    public String getWaitMode() {
+        return getProperty("wait.mode", FrameworkConstants.WAIT_MODE_SUSPEND).trim().toLowerCase();
+    }
+    
+    /**
+     * Gets the default per-test wait budget
+     * 
+     * @return The wait budget in seconds (0 disables the budget)
+     */
+    public int getTestWaitBudget() {
+        return getPropertyAsInt("test.wait.budget.seconds", 0);
+    }
+    
+    /**
+     * Checks if element actions reuse elements found earlier on an unchanged page
+     * 
+     * @return true if the element cache is enabled
+     */
+    public boolean isElementCacheEnabled() {
+        return getPropertyAsBoolean("element.cache.enabled", true);
+    }
+    
+    /**
+     * Checks if page objects resolve their element fields in one script call when constructed
+     * 
+     * @return true if page element prefetch is enabled
+     */
+    public boolean isPagePrefetchEnabled() {
+        return getPropertyAsBoolean("page.prefetch.enabled", true);
+    }
+    
+    /**
+     * Gets the maximum number of attempts for an element action
+     * 
+     * @param actionType Action type, e.g. click; action.retry.&lt;type&gt;.max.attempts overrides the default
+     * @return Maximum attempts
+     */
+    public int getActionRetryMaxAttempts(String actionType) {
+        int defaultAttempts = getPropertyAsInt("action.retry.max.attempts", FrameworkConstants.MAX_RETRY_ATTEMPTS);
+        return getPropertyAsInt("action.retry." + actionType + ".max.attempts", defaultAttempts);
+    }
+    
+    /**
+     * Gets the base backoff between element action attempts
+     * 
+     * @return Backoff in milliseconds, doubled per failed attempt
+     */
+    public long getActionRetryBackoff() {
+        return getPropertyAsInt("action.retry.backoff.ms", (int) FrameworkConstants.ACTION_RETRY_BACKOFF_MS);
+    }
+    
+    /**
+     * Gets the longest backoff between element action attempts
+     * 
+     * @return Maximum backoff in milliseconds
+     */
+    public long getActionRetryMaxBackoff() {
+        return getPropertyAsInt("action.retry.backoff.max.ms", (int) FrameworkConstants.ACTION_RETRY_MAX_BACKOFF_MS);
+    }
+    
+    /**
+     * Gets the share of each backoff that is randomised
+     * 
+     * @return Jitter between 0 (none) and 1 (full jitter)
+     */
+    public double getActionRetryJitter() {
+        String value = getProperty("action.retry.jitter");
+        if (value != null) {
+            try {
+                return Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                LogManager.warn("Invalid decimal value for property action.retry.jitter: {}. Using default: {}", 
+                    value, FrameworkConstants.ACTION_RETRY_JITTER);
+            }
+        }
+        return FrameworkConstants.ACTION_RETRY_JITTER;
+    }
+    
+    /**
+     * Gets how long a retry waits for an intercepted or not-interactable element to become actionable
+     * 
+     * @return Timeout in milliseconds
+     */
+    public long getActionRetryConditionTimeout() {
+        return getPropertyAsInt("action.retry.condition.timeout.ms", (int) FrameworkConstants.ACTION_RETRY_CONDITION_TIMEOUT_MS);
+    }
+    
+    /**
+     * Gets the recovery strategy classes to load in addition to the built-in and ServiceLoader ones
+     * 
+     * @return Fully qualified class names
+     */
+    public List<String> getRecoveryStrategyClasses() {
+        String value = getProperty("recovery.strategies", "");
+        return Arrays.stream(value.split(","))
+            .map(String::trim)
+            .filter(className -> !className.isEmpty())
+            .collect(Collectors.toList());
+    }
+    
+    /**
+     * Gets how often a recovery strategy may act for a locator without helping before it is skipped for it
+     * 
+     * @return Number of unhelpful recoveries
+     */
+    public int getRecoverySkipThreshold() {
+        return getPropertyAsInt("recovery.skip.after", 3);
+    }
+    
+    /**
+     * Checks if wait latency telemetry is recorded
+     * 
+     * @return true if wait telemetry is enabled
+     */
+    public boolean isWaitTelemetryEnabled() {
+        return getPropertyAsBoolean("wait.telemetry.enabled", true);
+    }
+    
+    /**
+     * Gets the number of entries in the slowest locators table
+     * 
+     * @return Number of condition/locator pairs listed
+     */
+    public int getWaitTelemetryTopN() {
+        return getPropertyAsInt("wait.telemetry.top", FrameworkConstants.WAIT_TELEMETRY_TOP_N);
+    }
+    
+    /**
+     * Gets the maximum number of condition/locator pairs wait telemetry keeps; later pairs share an overflow entry
+     * 
+     * @return Maximum number of telemetry entries
+     */
+    public int getWaitTelemetryMaxEntries() {
+        return getPropertyAsInt("wait.telemetry.max.entries", FrameworkConstants.WAIT_TELEMETRY_MAX_ENTRIES);
+    }
+    
+    /**
+     * Gets the path of the wait telemetry JSON report
+     * 
+     * @return Report file path
+     */
+    public String getWaitTelemetryReportPath() {
+        return getProperty("wait.telemetry.report", FrameworkConstants.WAIT_TELEMETRY_REPORT);
+    }
+    
+    /**
+     * Gets whether WaitFactory reuses per-thread wait objects
+     * 
+     * @return true if the wait cache is enabled
+     */
+    public boolean isWaitCacheEnabled() {
+        return getPropertyAsBoolean("wait.cache.enabled", true);
+    }
+    
+    /**
+     * Gets whether polling waits back off adaptively instead of polling at a fixed interval
+     * 
+     * @return true if adaptive polling is enabled
+     */
+    public boolean isAdaptivePollingEnabled() {
+        return getPropertyAsBoolean("wait.polling.adaptive", true);
+    }
+    
+    /**
+     * Gets the first (shortest) adaptive polling interval
+     * 
+     * @return The minimum polling interval in milliseconds
+     */
+    public long getPollingMinInterval() {
+        return getPropertyAsInt("wait.polling.min.ms", (int) FrameworkConstants.POLLING_MIN_INTERVAL_MS);
+    }
+    
+    /**
+     * Gets the cap adaptive polling backs off to
+     * 
+     * @return The maximum polling interval in milliseconds
+     */
+    public long getPollingMaxInterval() {
+        return getPropertyAsInt("wait.polling.max.ms", (int) FrameworkConstants.POLLING_MAX_INTERVAL_MS);
+    }
+    
+    /**
+     * Gets the page load strategy (normal, eager or none)
+     * 
+     * @return The page load strategy
+     */
+    public String getPageLoadStrategy() {
+        return getProperty("page.load.strategy", "normal");
+    }
+    
+    /**
+     * Gets the URL patterns blocked on Chromium sessions
+     * 
+     * @return The blocked URL patterns (empty if blocking is disabled)
+     */
+    public List<String> getBlockedUrlPatterns() {
+        String value = getProperty("network.blocked.urls", "");
+        return Arrays.stream(value.split(","))
+            .map(String::trim)
+            .filter(pattern -> !pattern.isEmpty())
+            .collect(Collectors.toList());
+    }
+    
+    /**
+     * Gets how long the network must be quiet before a network-idle wait ends
+     * 
+     * @return The quiet period in milliseconds
+     */
+    public long getNetworkQuietPeriod() {
+        return getPropertyAsInt("wait.network.quiet.ms", (int) FrameworkConstants.NETWORK_QUIET_PERIOD_MS);
+    }
+    
+    /**
+     * Gets how many requests may stay in flight when the network counts as idle
+     * 
+     * @return The maximum number of in-flight requests
+     */
+    public int getNetworkMaxInflight() {
+        return getPropertyAsInt("wait.network.max.inflight", 0);
+    }
+    
+    /**
+     * Gets the application's own readiness check for framework-ready waits
+     * 
+     * @return JavaScript function body returning true when the app is idle (empty if none)
+     */
+    public String getAppReadyScript() {
+        return getProperty("wait.app.ready.script", "").trim();
+    }
+    
+    /**
+     * Gets whether each local session gets a persistent, template-cloned browser profile
+     * 
+     * @return true if browser profile reuse is enabled
+     */
+    public boolean isBrowserProfileReuseEnabled() {
+        return getPropertyAsBoolean("browser.profile.reuse", false);
+    }
+    
+    /**
+     * Gets the directory holding the per-slot browser profiles of this run
+     * 
+     * @return The profile slot directory
+     */
+    public String getBrowserProfileDir() {
+        return getProperty("browser.profile.dir", FrameworkConstants.BROWSER_PROFILE_DIR);
+    }
+    
+    /**
+     * Gets the template profile new profile slots are cloned from
+     * 
+     * @return The template profile directory
+     */
+    public String getBrowserProfileTemplate() {
+        return getProperty("browser.profile.template", FrameworkConstants.BROWSER_PROFILE_TEMPLATE);
+    }
+    
+    /**
+     * Gets the default driver lifecycle scope (method, class, thread or suite)
+     * 
+     * @return The driver scope
+     */
+    public String getDriverScope() {
+        return getProperty("driver.scope", "method");
+    }
+    
+    /**
+     * Gets how long a registered session may go unused before the sweeper warns about it;
+     * sessions of dead threads are quit
+     * 
+     * @return The idle timeout in seconds (0 disables the sweeper)
+     */
+    public int getDriverIdleTimeout() {
+        return getPropertyAsInt("driver.idle.timeout", FrameworkConstants.DRIVER_IDLE_TIMEOUT);
+    }
+    
+    /**
+     * Gets whether a JVM shutdown hook quits sessions still registered at exit
+     * 
+     * @return true if the shutdown hook is enabled
+     */
+    public boolean isDriverShutdownHookEnabled() {
+        return getPropertyAsBoolean("driver.shutdown.hook", true);
+    }
+    
+    /**
+     * Overrides a property value at runtime until the configuration is reloaded
+     * 
+     * @param key The property key
+     * @param value The new value
+     */
+    public void setProperty(String key, String value) {
+        properties.setProperty(key, value);
+        LogManager.debug("Property overridden at runtime: {}={}", key, value);
+    }
+    
     /**
      * Reloads the configuration (useful for dynamic configuration updates)
      */
@@ -19,11 +19,55 @@ public final class FrameworkConstants {
     public static final int PAGE_LOAD_TIMEOUT = 30;
     public static final int FLUENT_WAIT_TIMEOUT = 15;
     public static final int POLLING_INTERVAL = 2;
+    public static final int SCRIPT_TIMEOUT = 30;
+    
+    // ========== WAIT ENGINE CONSTANTS ==========
+    public static final String WAIT_ENGINE_POLLING = "polling";
+    public static final String WAIT_ENGINE_MUTATION = "mutation";
+    public static final long POLLING_MIN_INTERVAL_MS = 25;
+    public static final long POLLING_MAX_INTERVAL_MS = 500;
+    public static final String WAIT_MODE_MIXED = "mixed";
+    public static final String WAIT_MODE_SUSPEND = "suspend";
+    public static final String WAIT_MODE_EXPLICIT = "explicit";
+    public static final long NETWORK_QUIET_PERIOD_MS = 500;
+    public static final int WAIT_TELEMETRY_TOP_N = 10;
+    public static final int WAIT_TELEMETRY_MAX_ENTRIES = 256;
+    
+    // ========== WINDOW CONSTANTS ==========
+    public static final int WINDOW_WIDTH = 1920;
+    public static final int WINDOW_HEIGHT = 1080;
     
     // ========== RETRY CONSTANTS ==========
     public static final int DEFAULT_RETRY_COUNT = 2;
     public static final long RETRY_DELAY_MILLISECONDS = 1000;
     public static final int MAX_RETRY_ATTEMPTS = 3;
+    public static final long ACTION_RETRY_BACKOFF_MS = 200;
+    public static final long ACTION_RETRY_MAX_BACKOFF_MS = 2000;
+    public static final double ACTION_RETRY_JITTER = 0.5;
+    public static final long ACTION_RETRY_CONDITION_TIMEOUT_MS = 2000;
+    
+    // ========== DRIVER POOL CONSTANTS ==========
+    public static final int DRIVER_POOL_SIZE = 5;
+    public static final int DRIVER_POOL_MAX_SESSION_AGE = 1800;
+    public static final int DRIVER_POOL_MAX_REUSE_COUNT = 50;
+    public static final int DRIVER_POOL_LEASE_TIMEOUT = 120;
+    
+    // ========== DRIVER TEARDOWN CONSTANTS ==========
+    public static final String QUIT_MODE_SYNC = "sync";
+    public static final String QUIT_MODE_ASYNC = "async";
+    public static final int DRIVER_REAPER_THREADS = 2;
+    public static final int DRIVER_REAPER_QUEUE_CAPACITY = 20;
+    public static final int DRIVER_QUIT_TIMEOUT = 15;
+    public static final int DRIVER_REAPER_DRAIN_TIMEOUT = 120;
+    public static final int DRIVER_IDLE_TIMEOUT = 900;
+    
+    // ========== DRIVER BINARY CACHE CONSTANTS ==========
+    public static final String DRIVER_BINARY_MANIFEST = System.getProperty("user.home") + "/.cache/testveriq/driver-manifest.properties";
+    public static final int DRIVER_BINARY_CACHE_TTL_HOURS = 24;
+    
+    // ========== BROWSER PROFILE CONSTANTS ==========
+    public static final String BROWSER_PROFILE_DIR = "target/browser-profiles/";
+    public static final String BROWSER_PROFILE_TEMPLATE = System.getProperty("user.home") + "/.cache/testveriq/profile-template";
     
     // ========== FILE PATH CONSTANTS ==========
     public static final String CONFIG_DIR = "src/test/resources/config/";
@@ -31,6 +75,7 @@ public final class FrameworkConstants {
     public static final String REPORTS_DIR = "target/allure-results/";
     public static final String SCREENSHOTS_DIR = "target/screenshots/";
     public static final String LOGS_DIR = "logs/";
+    public static final String WAIT_TELEMETRY_REPORT = "target/wait-telemetry.json";
     
     // ========== BROWSER CONSTANTS ==========
     public static final String CHROME = "chrome";
@@ -0,0 +1,486 @@
+package com.automation.framework.driver;
+
+import com.automation.framework.config.ConfigLoader;
+import com.automation.framework.constants.FrameworkConstants;
+import com.automation.framework.utils.LogManager;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.remote.AbstractDriverOptions;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Browser Profile Manager - Gives local browser sessions persistent, template-cloned profiles
+ * Each concurrently running session holds its own profile slot, which is reused by later sessions
+ * so the HTTP cache stays warm; new slots are cloned copy-on-write from a seeded template profile
+ * and all slots are deleted at suite end. Cookies, web storage and service workers are scrubbed when a
+ * slot is released, and a slot whose browser may still be running is quarantined instead of reused
+ *
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+public final class BrowserProfileManager {
+
+    private static final ConfigLoader config = ConfigLoader.getInstance();
+
+    // Files a running browser keeps in its profile; never cloned or reused
+    private static final Set<String> LOCK_FILES = Set.of(
+        "SingletonLock", "SingletonSocket", "SingletonCookie", "lockfile", "parent.lock", ".parentlock", "lock");
+
+    // Per-site state scrubbed from a released profile so only caches carry over (Chromium and Firefox names);
+    // matched by file or directory name anywhere in the profile, including -journal, -wal and -shm companions
+    private static final Set<String> STATE_ENTRIES = Set.of(
+        "Cookies", "Local Storage", "Session Storage", "IndexedDB", "Service Worker", "File System", "databases",
+        "Sessions", "Current Session", "Current Tabs", "Last Session", "Last Tabs", "Login Data",
+        "cookies.sqlite", "webappsstore.sqlite", "storage", "serviceworker.txt", "sessionstore.jsonlz4",
+        "sessionstore-backups", "storage.sqlite");
+
+    // Free slot numbers and next new slot number per browser type
+    private static final Map<String, NavigableSet<Integer>> freeSlots = new ConcurrentHashMap<>();
+    private static final Map<String, AtomicInteger> slotCounters = new ConcurrentHashMap<>();
+    private static final Map<WebDriver, ProfileSlot> boundSlots = new ConcurrentHashMap<>();
+    private static final Set<String> seededTemplates = ConcurrentHashMap.newKeySet();
+    private static final Set<ProfileSlot> quarantinedSlots = ConcurrentHashMap.newKeySet();
+
+    // Profile statistics
+    private static final LongAdder clonedCount = new LongAdder();
+    private static final LongAdder reusedCount = new LongAdder();
+    private static final LongAdder deletedCount = new LongAdder();
+    private static final LongAdder quarantinedCount = new LongAdder();
+
+    // Prevent instantiation
+    private BrowserProfileManager() {
+        throw new UnsupportedOperationException("BrowserProfileManager is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Acquires a profile slot for a new local session
+     * Reuses the lowest free slot, or creates a new one cloned from the template profile
+     *
+     * @param browserType The browser type (chrome, firefox, edge)
+     * @return Profile slot, or null if profile reuse is disabled or unsupported for the browser
+     */
+    public static ProfileSlot acquire(String browserType) {
+        String browser = browserType.toLowerCase();
+        if (!config.isBrowserProfileReuseEnabled() || !isSupported(browser)) {
+            return null;
+        }
+
+        Integer index = freeSlots.computeIfAbsent(browser, b -> new ConcurrentSkipListSet<>()).pollFirst();
+        if (index == null) {
+            index = slotCounters.computeIfAbsent(browser, b -> new AtomicInteger()).getAndIncrement();
+        }
+
+        ProfileSlot slot = new ProfileSlot(browser, index,
+            Paths.get(config.getBrowserProfileDir(), browser + "-slot-" + index).toAbsolutePath());
+        try {
+            if (Files.isDirectory(slot.path)) {
+                removeLockFiles(slot.path);
+                reusedCount.increment();
+                LogManager.debug("Reusing {} profile slot {}", browser, index);
+            } else {
+                createProfile(browser, slot.path);
+            }
+            return slot;
+
+        } catch (IOException e) {
+            LogManager.warn("Could not prepare {} profile slot {}, using a fresh profile: {}", browser, index, e.getMessage());
+            freeSlots.get(browser).add(index);
+            return null;
+        }
+    }
+
+    /**
+     * Points browser options at a profile slot
+     *
+     * @param options Browser options to update
+     * @param slot Profile slot, may be null
+     */
+    public static void applyTo(AbstractDriverOptions<?> options, ProfileSlot slot) {
+        if (slot == null) {
+            return;
+        }
+        if (options instanceof ChromiumOptions) {
+            ((ChromiumOptions<?>) options).addArguments("--user-data-dir=" + slot.path);
+        } else if (options instanceof FirefoxOptions) {
+            ((FirefoxOptions) options).addArguments("-profile", slot.path.toString());
+        }
+    }
+
+    /**
+     * Records which session holds a profile slot so the slot is freed when the session quits
+     *
+     * @param driver The WebDriver instance
+     * @param slot Profile slot, may be null
+     */
+    public static void bind(WebDriver driver, ProfileSlot slot) {
+        if (slot != null) {
+            boundSlots.put(driver, slot);
+        }
+    }
+
+    /**
+     * Frees the profile slot held by a session that has quit
+     *
+     * @param driver The WebDriver instance
+     */
+    public static void release(WebDriver driver) {
+        ProfileSlot slot = driver != null ? boundSlots.remove(driver) : null;
+        if (slot != null) {
+            releaseSlot(slot);
+        }
+    }
+
+    /**
+     * Takes the profile slot of a session whose browser may still be running out of rotation,
+     * so no later session opens the same profile while it is in use
+     *
+     * @param driver The WebDriver instance whose quit did not complete
+     */
+    public static void quarantine(WebDriver driver) {
+        ProfileSlot slot = driver != null ? boundSlots.remove(driver) : null;
+        if (slot != null) {
+            quarantineSlot(slot);
+        }
+    }
+
+    /**
+     * Scrubs per-site state from a slot and returns it to the free list, first seeding the template
+     * profile from it if none exists yet
+     *
+     * @param slot Profile slot whose browser has exited
+     */
+    public static void releaseSlot(ProfileSlot slot) {
+        if (slot == null) {
+            return;
+        }
+        try {
+            scrubState(slot.path);
+        } catch (IOException e) {
+            LogManager.warn("Could not scrub {} profile slot {}: {}", slot.browser, slot.index, e.getMessage());
+            quarantineSlot(slot);
+            return;
+        }
+        Path template = templatePath(slot.browser);
+        if (!Files.isDirectory(template) && seededTemplates.add(slot.browser)) {
+            seedTemplate(slot.path, template);
+        }
+        freeSlots.computeIfAbsent(slot.browser, b -> new ConcurrentSkipListSet<>()).add(slot.index);
+    }
+
+    /**
+     * Deletes every free and quarantined profile slot; slots still held by a session are left in place
+     *
+     * @return Number of profile slots deleted
+     */
+    public static int cleanup() {
+        int deleted = 0;
+        for (Map.Entry<String, NavigableSet<Integer>> entry : freeSlots.entrySet()) {
+            Integer index;
+            while ((index = entry.getValue().pollFirst()) != null) {
+                Path slotPath = Paths.get(config.getBrowserProfileDir(), entry.getKey() + "-slot-" + index);
+                try {
+                    deleteRecursively(slotPath);
+                    deleted++;
+                } catch (IOException e) {
+                    LogManager.warn("Could not delete browser profile {}: {}", slotPath, e.getMessage());
+                }
+            }
+        }
+        for (ProfileSlot slot : quarantinedSlots) {
+            try {
+                deleteRecursively(slot.path);
+                quarantinedSlots.remove(slot);
+                deleted++;
+            } catch (IOException e) {
+                LogManager.warn("Could not delete quarantined browser profile {}: {}", slot.path, e.getMessage());
+            }
+        }
+        deletedCount.add(deleted);
+        if (!boundSlots.isEmpty()) {
+            LogManager.warn("{} browser profile slot(s) still in use at cleanup", boundSlots.size());
+        }
+        return deleted;
+    }
+
+    /**
+     * Gets browser profile statistics
+     *
+     * @return Profile statistics summary
+     */
+    public static String getProfileStatistics() {
+        return String.format("Browser Profiles - Cloned: %d, Reused: %d, In Use: %d, Quarantined: %d, Deleted: %d",
+            clonedCount.sum(), reusedCount.sum(), boundSlots.size(), quarantinedCount.sum(), deletedCount.sum());
+    }
+
+    /**
+     * Creates a slot profile, cloning the template if one exists
+     *
+     * @param browser The browser type
+     * @param slotPath Slot profile directory
+     * @throws IOException if the directory cannot be created
+     */
+    private static void createProfile(String browser, Path slotPath) throws IOException {
+        Path template = templatePath(browser);
+        Files.createDirectories(slotPath.getParent());
+
+        if (!Files.isDirectory(template)) {
+            Files.createDirectories(slotPath);
+            LogManager.debug("Created empty {} profile: {}", browser, slotPath);
+            return;
+        }
+
+        long start = System.nanoTime();
+        if (!cloneWithCp(template, slotPath)) {
+            deleteRecursively(slotPath);
+            copyRecursively(template, slotPath);
+        }
+        removeLockFiles(slotPath);
+        clonedCount.increment();
+        LogManager.debug("Cloned {} profile from template in {} ms: {}", browser,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), slotPath);
+    }
+
+    /**
+     * Copies the profile of a finished session into the template location
+     * The copy is staged next to the template and moved into place so other runs never see a partial template
+     *
+     * @param slotPath Source slot profile
+     * @param template Template profile directory
+     */
+    private static void seedTemplate(Path slotPath, Path template) {
+        Path staging = template.resolveSibling(template.getFileName() + ".staging-" + ProcessHandle.current().pid());
+        try {
+            Files.createDirectories(template.getParent());
+            deleteRecursively(staging);
+            if (!cloneWithCp(slotPath, staging)) {
+                deleteRecursively(staging);
+                copyRecursively(slotPath, staging);
+            }
+            removeLockFiles(staging);
+            scrubState(staging);
+            Files.move(staging, template, StandardCopyOption.ATOMIC_MOVE);
+            LogManager.info("Seeded browser profile template: {}", template);
+        } catch (IOException e) {
+            LogManager.debug("Browser profile template not seeded: {}", e.getMessage());
+            try {
+                deleteRecursively(staging);
+            } catch (IOException ignored) {
+                // Best effort
+            }
+        }
+    }
+
+    /**
+     * Clones a directory with cp, using reflinks (Linux) or clonefile (macOS) where the file system supports them
+     *
+     * @param source Source directory
+     * @param target Target directory (must not exist)
+     * @return true if cp succeeded
+     */
+    private static boolean cloneWithCp(Path source, Path target) {
+        String os = System.getProperty("os.name", "").toLowerCase();
+        ProcessBuilder builder;
+        if (os.contains("linux")) {
+            builder = new ProcessBuilder("cp", "-a", "--reflink=auto", source.toString(), target.toString());
+        } else if (os.contains("mac")) {
+            builder = new ProcessBuilder("cp", "-cpR", source.toString(), target.toString());
+        } else {
+            return false;
+        }
+
+        try {
+            Process process = builder.redirectErrorStream(true).redirectOutput(ProcessBuilder.Redirect.DISCARD).start();
+            if (!process.waitFor(120, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                return false;
+            }
+            return process.exitValue() == 0;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Copies a directory tree file by file, skipping browser lock files
+     *
+     * @param source Source directory
+     * @param target Target directory
+     * @throws IOException if copying fails
+     */
+    private static void copyRecursively(Path source, Path target) throws IOException {
+        try (Stream<Path> paths = Files.walk(source)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                if (LOCK_FILES.contains(path.getFileName().toString())) {
+                    continue;
+                }
+                Path destination = target.resolve(source.relativize(path).toString());
+                if (Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS)) {
+                    Files.createDirectories(destination);
+                } else {
+                    Files.copy(path, destination, StandardCopyOption.REPLACE_EXISTING, LinkOption.NOFOLLOW_LINKS);
+                }
+            }
+        }
+    }
+
+    /**
+     * Deletes cookies, web storage, IndexedDB, service worker and session data from a profile, keeping the caches
+     *
+     * @param profile Profile directory
+     * @throws IOException if state cannot be deleted
+     */
+    private static void scrubState(Path profile) throws IOException {
+        if (!Files.isDirectory(profile)) {
+            return;
+        }
+        List<Path> state = new ArrayList<>();
+        Files.walkFileTree(profile, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes) {
+                if (!directory.equals(profile) && isState(directory)) {
+                    state.add(directory);
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                if (isState(file)) {
+                    state.add(file);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        for (Path path : state) {
+            deleteRecursively(path);
+        }
+    }
+
+    /**
+     * Checks whether a profile entry holds per-site state
+     *
+     * @param path Profile file or directory
+     * @return true for state entries and their journal files
+     */
+    private static boolean isState(Path path) {
+        String name = path.getFileName().toString();
+        for (String entry : STATE_ENTRIES) {
+            if (name.equals(entry) || name.startsWith(entry + "-")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Keeps a slot out of the free list until cleanup
+     *
+     * @param slot Profile slot
+     */
+    private static void quarantineSlot(ProfileSlot slot) {
+        if (quarantinedSlots.add(slot)) {
+            quarantinedCount.increment();
+            LogManager.warn("Quarantined {} profile slot {}; it is not reused in this run", slot.browser, slot.index);
+        }
+    }
+
+    /**
+     * Removes stale lock files left by a browser that did not exit cleanly
+     *
+     * @param profile Profile directory
+     * @throws IOException if a lock file cannot be removed
+     */
+    private static void removeLockFiles(Path profile) throws IOException {
+        for (String lockFile : LOCK_FILES) {
+            Files.deleteIfExists(profile.resolve(lockFile));
+        }
+    }
+
+    /**
+     * Deletes a directory tree if it exists
+     *
+     * @param directory Directory to delete
+     * @throws IOException if deletion fails
+     */
+    private static void deleteRecursively(Path directory) throws IOException {
+        if (!Files.exists(directory, LinkOption.NOFOLLOW_LINKS)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    /**
+     * Gets the template profile directory for a browser type
+     *
+     * @param browser The browser type
+     * @return Template profile directory
+     */
+    private static Path templatePath(String browser) {
+        return Paths.get(config.getBrowserProfileTemplate(), browser).toAbsolutePath();
+    }
+
+    /**
+     * Checks whether a browser type supports a custom profile directory
+     *
+     * @param browser The browser type
+     * @return true for Chrome, Edge and Firefox
+     */
+    private static boolean isSupported(String browser) {
+        return FrameworkConstants.CHROME.equals(browser) || FrameworkConstants.EDGE.equals(browser)
+            || FrameworkConstants.FIREFOX.equals(browser);
+    }
+
+    /**
+     * Profile directory held by one running session
+     */
+    public static final class ProfileSlot {
+        private final String browser;
+        private final int index;
+        private final Path path;
+
+        private ProfileSlot(String browser, int index, Path path) {
+            this.browser = browser;
+            this.index = index;
+            this.path = path;
+        }
+
+        /**
+         * Gets the profile directory
+         *
+         * @return Profile directory path
+         */
+        public Path getPath() {
+            return path;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.automation.framework.driver;
+
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpHandler;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Command Counter - HTTP client filter that counts the WebDriver commands a session sends
+ * Installed through the session's ClientConfig, so new-session and every later command are seen on the wire;
+ * counting stops once {@link #stop()} is called, leaving a pass-through filter for the rest of the session
+ *
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+final class CommandCounter implements Filter {
+
+    private final AtomicInteger commands = new AtomicInteger();
+    private volatile boolean counting = true;
+
+    @Override
+    public HttpHandler apply(HttpHandler next) {
+        return request -> {
+            if (counting) {
+                commands.incrementAndGet();
+            }
+            return next.execute(request);
+        };
+    }
+
+    /**
+     * Stops counting
+     *
+     * @return Number of commands sent so far
+     */
+    int stop() {
+        counting = false;
+        return commands.get();
+    }
+}
@@ -0,0 +1,266 @@
+package com.automation.framework.driver;
+
+import com.automation.framework.config.ConfigLoader;
+import com.automation.framework.constants.FrameworkConstants;
+import com.automation.framework.utils.LogManager;
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Driver Binary Cache - Resolves driver binaries once per browser type and remembers them across runs
+ * The first driver creation in a JVM consults an on-disk manifest of resolved binary paths and versions,
+ * and only falls back to WebDriverManager (and the network) when the manifest entry is missing or stale
+ *
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+public final class DriverBinaryCache {
+
+    private static final ConfigLoader config = ConfigLoader.getInstance();
+
+    // Resolved binaries for this JVM, one entry per browser type; resolution runs outside the map
+    private static final Map<String, CompletableFuture<ResolvedBinary>> resolvedBinaries = new ConcurrentHashMap<>();
+    private static final Object manifestLock = new Object();
+
+    // Prevent instantiation
+    private DriverBinaryCache() {
+        throw new UnsupportedOperationException("DriverBinaryCache is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Makes sure the driver binary for a browser type is resolved
+     * Concurrent callers for the same browser wait for a single resolution
+     *
+     * @param browserType The browser type (chrome, firefox, edge)
+     */
+    public static void ensureResolved(String browserType) {
+        String browser = browserType.toLowerCase();
+        if (driverSystemProperty(browser) == null) {
+            return;
+        }
+        CompletableFuture<ResolvedBinary> created = new CompletableFuture<>();
+        CompletableFuture<ResolvedBinary> resolution = resolvedBinaries.putIfAbsent(browser, created);
+        if (resolution != null) {
+            awaitResolution(resolution);
+            return;
+        }
+
+        try {
+            created.complete(resolve(browser));
+        } catch (RuntimeException e) {
+            // Let the next creation try again
+            resolvedBinaries.remove(browser, created);
+            created.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Waits for a resolution started by another thread
+     *
+     * @param resolution The pending resolution
+     */
+    private static void awaitResolution(CompletableFuture<ResolvedBinary> resolution) {
+        try {
+            resolution.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Forgets the resolved binary for a browser type so the next creation resolves it again
+     * Used when a cached driver no longer matches the installed browser
+     *
+     * @param browserType The browser type
+     */
+    public static void invalidate(String browserType) {
+        String browser = browserType.toLowerCase();
+        resolvedBinaries.remove(browser);
+
+        synchronized (manifestLock) {
+            Properties manifest = loadManifest();
+            manifest.remove(browser + ".path");
+            manifest.remove(browser + ".version");
+            manifest.remove(browser + ".resolved.at");
+            saveManifest(manifest);
+        }
+        LogManager.info("Driver binary cache invalidated for: {}", browser);
+    }
+
+    /**
+     * Resolves a driver binary from the manifest or through WebDriverManager
+     *
+     * @param browser The browser type
+     * @return Resolved binary information
+     */
+    private static ResolvedBinary resolve(String browser) {
+        long start = System.nanoTime();
+        String systemProperty = driverSystemProperty(browser);
+
+        if (config.isDriverBinaryCacheEnabled()) {
+            ResolvedBinary cached = readManifestEntry(browser);
+            if (cached != null) {
+                System.setProperty(systemProperty, cached.path);
+                LogManager.info("Using cached {} driver {} from manifest: {}", browser, cached.version, cached.path);
+                return cached;
+            }
+        }
+
+        WebDriverManager manager = switch (browser) {
+            case FrameworkConstants.FIREFOX -> WebDriverManager.firefoxdriver();
+            case FrameworkConstants.EDGE -> WebDriverManager.edgedriver();
+            default -> WebDriverManager.chromedriver();
+        };
+        manager.setup();
+
+        ResolvedBinary resolved = new ResolvedBinary(manager.getDownloadedDriverPath(),
+            manager.getDownloadedDriverVersion(), System.currentTimeMillis());
+
+        if (resolved.path != null) {
+            System.setProperty(systemProperty, resolved.path);
+            if (config.isDriverBinaryCacheEnabled()) {
+                writeManifestEntry(browser, resolved);
+            }
+        }
+
+        LogManager.info("Resolved {} driver {} in {} ms: {}", browser, resolved.version,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), resolved.path);
+        return resolved;
+    }
+
+    /**
+     * Reads a manifest entry if it is present, fresh and still points at an existing file
+     *
+     * @param browser The browser type
+     * @return Cached binary information or null
+     */
+    private static ResolvedBinary readManifestEntry(String browser) {
+        Properties manifest;
+        synchronized (manifestLock) {
+            manifest = loadManifest();
+        }
+
+        String path = manifest.getProperty(browser + ".path");
+        String version = manifest.getProperty(browser + ".version");
+        String resolvedAt = manifest.getProperty(browser + ".resolved.at");
+        if (path == null || resolvedAt == null || !Files.isExecutable(Paths.get(path))) {
+            return null;
+        }
+
+        try {
+            long timestamp = Long.parseLong(resolvedAt);
+            long ttlMillis = TimeUnit.HOURS.toMillis(config.getDriverBinaryCacheTtl());
+            if (System.currentTimeMillis() - timestamp > ttlMillis) {
+                LogManager.debug("Manifest entry for {} driver is older than {}h", browser, config.getDriverBinaryCacheTtl());
+                return null;
+            }
+            return new ResolvedBinary(path, version, timestamp);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Records a resolved binary in the manifest, merging with entries written by other runs
+     *
+     * @param browser The browser type
+     * @param resolved Resolved binary information
+     */
+    private static void writeManifestEntry(String browser, ResolvedBinary resolved) {
+        synchronized (manifestLock) {
+            Properties manifest = loadManifest();
+            manifest.setProperty(browser + ".path", resolved.path);
+            if (resolved.version != null) {
+                manifest.setProperty(browser + ".version", resolved.version);
+            } else {
+                manifest.remove(browser + ".version");
+            }
+            manifest.setProperty(browser + ".resolved.at", String.valueOf(resolved.resolvedAt));
+            saveManifest(manifest);
+        }
+    }
+
+    /**
+     * Loads the manifest file
+     *
+     * @return Manifest properties (empty if the file does not exist)
+     */
+    private static Properties loadManifest() {
+        Properties manifest = new Properties();
+        Path manifestPath = Paths.get(config.getDriverBinaryManifestPath());
+        if (Files.exists(manifestPath)) {
+            try (InputStream inputStream = Files.newInputStream(manifestPath)) {
+                manifest.load(inputStream);
+            } catch (IOException e) {
+                LogManager.warn("Could not read driver binary manifest {}: {}", manifestPath, e.getMessage());
+            }
+        }
+        return manifest;
+    }
+
+    /**
+     * Saves the manifest atomically so concurrent runs never read a partial file
+     *
+     * @param manifest Manifest properties
+     */
+    private static void saveManifest(Properties manifest) {
+        Path manifestPath = Paths.get(config.getDriverBinaryManifestPath()).toAbsolutePath();
+        try {
+            Files.createDirectories(manifestPath.getParent());
+            Path tempFile = Files.createTempFile(manifestPath.getParent(), "driver-manifest", ".tmp");
+            try (OutputStream outputStream = Files.newOutputStream(tempFile)) {
+                manifest.store(outputStream, "Resolved WebDriver binaries");
+            }
+            Files.move(tempFile, manifestPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LogManager.warn("Could not write driver binary manifest {}: {}", manifestPath, e.getMessage());
+        }
+    }
+
+    /**
+     * Gets the system property Selenium reads the driver binary path from
+     *
+     * @param browser The browser type
+     * @return System property name, or null for browsers without a managed driver
+     */
+    private static String driverSystemProperty(String browser) {
+        return switch (browser) {
+            case FrameworkConstants.CHROME -> "webdriver.chrome.driver";
+            case FrameworkConstants.FIREFOX -> "webdriver.gecko.driver";
+            case FrameworkConstants.EDGE -> "webdriver.edge.driver";
+            default -> null;
+        };
+    }
+
+    /**
+     * Resolved driver binary information
+     */
+    private static final class ResolvedBinary {
+        private final String path;
+        private final String version;
+        private final long resolvedAt;
+
+        private ResolvedBinary(String path, String version, long resolvedAt) {
+            this.path = path;
+            this.version = version;
+            this.resolvedAt = resolvedAt;
+        }
+    }
+}
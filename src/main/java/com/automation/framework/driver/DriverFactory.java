@@ -2,27 +2,44 @@ package com.automation.framework.driver;
 
 import com.automation.framework.config.ConfigLoader;
 import com.automation.framework.constants.FrameworkConstants;
+import com.automation.framework.utils.ImplicitWaits;
 import com.automation.framework.utils.LogManager;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.SessionNotCreatedException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeDriverService;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.remote.AbstractDriverOptions;
+import org.openqa.selenium.remote.HttpCommandExecutor;
 import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.service.DriverService;
 import org.openqa.selenium.safari.SafariDriver;
+import org.openqa.selenium.safari.SafariDriverService;
 import org.openqa.selenium.safari.SafariOptions;
 
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Driver Factory - Creates and configures WebDriver instances
  * Supports local and remote execution with multiple browsers
- * Integrates with WebDriverManager for automatic driver management
+ * Integrates with WebDriverManager for automatic driver management, resolved once per browser through DriverBinaryCache
  * 
  * @author Test Automation Framework
  * @version 1.0.0
@@ -31,6 +48,12 @@ public final class DriverFactory {
     
     private static final ConfigLoader config = ConfigLoader.getInstance();
     
+    // Counts the commands of the session being created on this thread until its setup is complete
+    private static final ThreadLocal<CommandCounter> setupCounter = new ThreadLocal<>();
+    
+    // Runs asynchronous driver creation so browser startup overlaps the rest of test setup
+    private static final ExecutorService startupExecutor = Executors.newCachedThreadPool(DriverReaper.daemonThreads("driver-startup"));
+    
     // Prevent instantiation
     private DriverFactory() {
         throw new UnsupportedOperationException("DriverFactory is a utility class and cannot be instantiated");
@@ -49,18 +72,61 @@ public final class DriverFactory {
         
         WebDriver driver;
         
-        if (isRemote) {
-            driver = createRemoteDriver(browserType);
-        } else {
-            driver = createLocalDriver(browserType);
+        try {
+            if (isRemote) {
+                driver = createRemoteDriver(browserType);
+            } else {
+                driver = createLocalDriver(browserType);
+            }
+            
+            configureDriver(driver);
+        } finally {
+            // A failed creation must not leave its counter to the next one on this thread
+            setupCounter.remove();
         }
         
-        configureDriver(driver);
-        
         LogManager.info(FrameworkConstants.DRIVER_INITIALIZED_SUCCESS, browserType);
         return driver;
     }
     
+    /**
+     * Creates a WebDriver instance based on configuration without blocking the caller
+     * 
+     * @return Future completed with the WebDriver instance
+     */
+    public static CompletableFuture<WebDriver> createDriverAsync() {
+        return supplyWithCurrentSettings(DriverFactory::createDriver);
+    }
+    
+    /**
+     * Creates a local WebDriver instance for a specific browser without blocking the caller
+     * 
+     * @param browserType The browser type to create
+     * @param headless Whether to create a headless session
+     * @return Future completed with the WebDriver instance
+     */
+    public static CompletableFuture<WebDriver> createDriverAsync(String browserType, boolean headless) {
+        return supplyWithCurrentSettings(() -> headless ? createHeadlessDriver(browserType) : createDriver(browserType));
+    }
+    
+    /**
+     * Runs a driver creation on the startup executor with the caller's page load settings
+     * 
+     * @param creator Creates the driver
+     * @return Future completed with the WebDriver instance
+     */
+    private static CompletableFuture<WebDriver> supplyWithCurrentSettings(Supplier<WebDriver> creator) {
+        PageLoadSettings settings = PageLoadSettings.current();
+        return CompletableFuture.supplyAsync(() -> {
+            PageLoadSettings.setCurrent(settings);
+            try {
+                return creator.get();
+            } finally {
+                PageLoadSettings.clearCurrent();
+            }
+        }, startupExecutor);
+    }
+    
     /**
      * Creates a local WebDriver instance
      * 
@@ -89,18 +155,22 @@ public final class DriverFactory {
     private static WebDriver createRemoteDriver(String browserType) {
         try {
             URL hubUrl = new URL(config.getHubUrl());
+            long handshakeStart = System.nanoTime();
             
-            return switch (browserType) {
-                case FrameworkConstants.CHROME -> new RemoteWebDriver(hubUrl, getChromeOptions());
-                case FrameworkConstants.FIREFOX -> new RemoteWebDriver(hubUrl, getFirefoxOptions());
-                case FrameworkConstants.SAFARI -> new RemoteWebDriver(hubUrl, getSafariOptions());
-                case FrameworkConstants.EDGE -> new RemoteWebDriver(hubUrl, getEdgeOptions());
+            WebDriver driver = switch (browserType) {
+                case FrameworkConstants.CHROME -> new RemoteWebDriver(remoteExecutor(hubUrl), getChromeOptions());
+                case FrameworkConstants.FIREFOX -> new RemoteWebDriver(remoteExecutor(hubUrl), getFirefoxOptions());
+                case FrameworkConstants.SAFARI -> new RemoteWebDriver(remoteExecutor(hubUrl), getSafariOptions());
+                case FrameworkConstants.EDGE -> new RemoteWebDriver(remoteExecutor(hubUrl), getEdgeOptions());
                 default -> {
                     LogManager.warn("Unsupported browser type for remote execution: {}. Defaulting to Chrome.", browserType);
-                    yield new RemoteWebDriver(hubUrl, getChromeOptions());
+                    yield new RemoteWebDriver(remoteExecutor(hubUrl), getChromeOptions());
                 }
             };
             
+            DriverStartupMetrics.recordPhase(DriverStartupMetrics.Phase.HANDSHAKE, handshakeStart);
+            return driver;
+            
         } catch (MalformedURLException e) {
             LogManager.error(FrameworkConstants.DRIVER_INITIALIZATION_ERROR, "Invalid hub URL: " + config.getHubUrl());
             throw new RuntimeException("Failed to create remote driver", e);
@@ -113,8 +183,8 @@ public final class DriverFactory {
      * @return ChromeDriver instance
      */
     private static WebDriver createChromeDriver() {
-        WebDriverManager.chromedriver().setup();
-        return new ChromeDriver(getChromeOptions());
+        return launchLocalDriver(FrameworkConstants.CHROME, getChromeOptions(),
+            ChromeDriverService::createDefaultService, DriverFactory::newChromeDriver);
     }
     
     /**
@@ -123,8 +193,8 @@ public final class DriverFactory {
      * @return FirefoxDriver instance
      */
     private static WebDriver createFirefoxDriver() {
-        WebDriverManager.firefoxdriver().setup();
-        return new FirefoxDriver(getFirefoxOptions());
+        return launchLocalDriver(FrameworkConstants.FIREFOX, getFirefoxOptions(),
+            GeckoDriverService::createDefaultService, DriverFactory::newFirefoxDriver);
     }
     
     /**
@@ -134,7 +204,10 @@ public final class DriverFactory {
      */
     private static WebDriver createSafariDriver() {
         // Safari driver doesn't need WebDriverManager setup
-        return new SafariDriver(getSafariOptions());
+        long handshakeStart = System.nanoTime();
+        WebDriver driver = new SafariDriver(SafariDriverService.createDefaultService(), getSafariOptions(), countingClientConfig());
+        DriverStartupMetrics.recordPhase(DriverStartupMetrics.Phase.HANDSHAKE, handshakeStart);
+        return driver;
     }
     
     /**
@@ -143,8 +216,82 @@ public final class DriverFactory {
      * @return EdgeDriver instance
      */
     private static WebDriver createEdgeDriver() {
-        WebDriverManager.edgedriver().setup();
-        return new EdgeDriver(getEdgeOptions());
+        return launchLocalDriver(FrameworkConstants.EDGE, getEdgeOptions(),
+            EdgeDriverService::createDefaultService, DriverFactory::newEdgeDriver);
+    }
+    
+    /**
+     * Launches a local driver after making sure its binary is resolved
+     * If the cached binary no longer matches the installed browser, resolves it again and retries once
+     * When browser profile reuse is enabled the session runs on its own persistent profile slot
+     * 
+     * @param browserType The browser type being launched
+     * @param options Browser options for the session
+     * @param serviceFactory Creates the driver service
+     * @param sessionFactory Creates the driver instance on a started service
+     * @param <S> Driver service type
+     * @param <O> Browser options type
+     * @return WebDriver instance
+     */
+    private static <S extends DriverService, O extends AbstractDriverOptions<?>> WebDriver launchLocalDriver(
+            String browserType, O options, Supplier<S> serviceFactory, BiFunction<S, O, WebDriver> sessionFactory) {
+        long resolveStart = System.nanoTime();
+        DriverBinaryCache.ensureResolved(browserType);
+        DriverStartupMetrics.recordPhase(DriverStartupMetrics.Phase.RESOLVE, resolveStart);
+        
+        BrowserProfileManager.ProfileSlot profileSlot = BrowserProfileManager.acquire(browserType);
+        BrowserProfileManager.applyTo(options, profileSlot);
+        
+        WebDriver driver;
+        try {
+            try {
+                driver = startSession(serviceFactory, service -> sessionFactory.apply(service, options));
+            } catch (SessionNotCreatedException e) {
+                LogManager.warn("Session creation failed with cached {} driver, resolving again: {}", browserType, e.getMessage());
+                DriverBinaryCache.invalidate(browserType);
+                resolveStart = System.nanoTime();
+                DriverBinaryCache.ensureResolved(browserType);
+                DriverStartupMetrics.recordPhase(DriverStartupMetrics.Phase.RESOLVE, resolveStart);
+                driver = startSession(serviceFactory, service -> sessionFactory.apply(service, options));
+            }
+        } catch (RuntimeException e) {
+            BrowserProfileManager.releaseSlot(profileSlot);
+            throw e;
+        }
+        
+        BrowserProfileManager.bind(driver, profileSlot);
+        return driver;
+    }
+    
+    /**
+     * Starts the driver service and negotiates a new session on it, timing each step separately
+     * The service is stopped again if the session cannot be created
+     * 
+     * @param serviceFactory Creates the driver service
+     * @param sessionFactory Creates the driver instance on a started service
+     * @param <S> Driver service type
+     * @return WebDriver instance
+     */
+    private static <S extends DriverService> WebDriver startSession(Supplier<S> serviceFactory,
+                                                                    Function<S, WebDriver> sessionFactory) {
+        long launchStart = System.nanoTime();
+        S service = serviceFactory.get();
+        try {
+            service.start();
+        } catch (IOException e) {
+            throw new WebDriverException("Failed to start driver service", e);
+        }
+        DriverStartupMetrics.recordPhase(DriverStartupMetrics.Phase.LAUNCH, launchStart);
+        
+        long handshakeStart = System.nanoTime();
+        try {
+            WebDriver driver = sessionFactory.apply(service);
+            DriverStartupMetrics.recordPhase(DriverStartupMetrics.Phase.HANDSHAKE, handshakeStart);
+            return driver;
+        } catch (RuntimeException e) {
+            service.stop();
+            throw e;
+        }
     }
     
     /**
@@ -163,12 +310,13 @@ public final class DriverFactory {
         options.addArguments("--disable-infobars");
         options.addArguments("--disable-notifications");
         options.addArguments("--disable-popup-blocking");
-        options.addArguments("--start-maximized");
+        options.addArguments("--window-size=" + config.getWindowWidth() + "," + config.getWindowHeight());
         
         // Headless mode
         if (config.isHeadless()) {
             options.addArguments("--headless");
-            options.addArguments("--window-size=1920,1080");
+        } else {
+            options.addArguments("--start-maximized");
         }
         
         // Additional security and stability options
@@ -177,7 +325,7 @@ public final class DriverFactory {
         options.setExperimentalOption("useAutomationExtension", false);
         options.setExperimentalOption("excludeSwitches", new String[]{"enable-automation"});
         
-        return options;
+        return applySessionCapabilities(options);
     }
     
     /**
@@ -188,11 +336,13 @@ public final class DriverFactory {
     private static FirefoxOptions getFirefoxOptions() {
         FirefoxOptions options = new FirefoxOptions();
         
+        // Window size
+        options.addArguments("--width=" + config.getWindowWidth());
+        options.addArguments("--height=" + config.getWindowHeight());
+        
         // Headless mode
         if (config.isHeadless()) {
             options.addArguments("--headless");
-            options.addArguments("--width=1920");
-            options.addArguments("--height=1080");
         }
         
         // Additional Firefox preferences
@@ -202,7 +352,7 @@ public final class DriverFactory {
         options.addPreference("browser.helperApps.neverAsk.saveToDisk", 
             "application/pdf,application/octet-stream,application/x-winzip,application/x-pdf,application/pdf");
         
-        return options;
+        return applySessionCapabilities(options);
     }
     
     /**
@@ -217,7 +367,7 @@ public final class DriverFactory {
         options.setAutomaticInspection(false);
         options.setAutomaticProfiling(false);
         
-        return options;
+        return applySessionCapabilities(options);
     }
     
     /**
@@ -233,30 +383,103 @@ public final class DriverFactory {
         options.addArguments("--disable-dev-shm-usage");
         options.addArguments("--disable-gpu");
         options.addArguments("--disable-extensions");
-        options.addArguments("--start-maximized");
+        options.addArguments("--window-size=" + config.getWindowWidth() + "," + config.getWindowHeight());
         
         // Headless mode
         if (config.isHeadless()) {
             options.addArguments("--headless");
-            options.addArguments("--window-size=1920,1080");
+        } else {
+            options.addArguments("--start-maximized");
         }
         
+        return applySessionCapabilities(options);
+    }
+    
+    /**
+     * Sends the configured timeouts and the page load strategy as capabilities so they are applied
+     * during session creation instead of through separate WebDriver commands afterwards
+     * 
+     * @param options Browser options to update
+     * @param <T> Browser options type
+     * @return The updated options
+     */
+    private static <T extends AbstractDriverOptions<?>> T applySessionCapabilities(T options) {
+        options.setImplicitWaitTimeout(Duration.ofSeconds(ImplicitWaits.getSessionImplicitWait()));
+        options.setPageLoadTimeout(Duration.ofSeconds(config.getPageLoadTimeout()));
+        options.setScriptTimeout(Duration.ofSeconds(config.getScriptTimeout()));
+        options.setPageLoadStrategy(PageLoadSettings.current().getStrategy());
         return options;
     }
     
     /**
-     * Configures the WebDriver with timeouts and other settings
+     * Creates a ChromeDriver session whose setup commands are counted
+     * 
+     * @param service Started driver service
+     * @param options Browser options
+     * @return ChromeDriver instance
+     */
+    private static WebDriver newChromeDriver(ChromeDriverService service, ChromeOptions options) {
+        return new ChromeDriver(service, options, countingClientConfig());
+    }
+    
+    /**
+     * Creates a FirefoxDriver session whose setup commands are counted
+     * 
+     * @param service Started driver service
+     * @param options Browser options
+     * @return FirefoxDriver instance
+     */
+    private static WebDriver newFirefoxDriver(GeckoDriverService service, FirefoxOptions options) {
+        return new FirefoxDriver(service, options, countingClientConfig());
+    }
+    
+    /**
+     * Creates an EdgeDriver session whose setup commands are counted
+     * 
+     * @param service Started driver service
+     * @param options Browser options
+     * @return EdgeDriver instance
+     */
+    private static WebDriver newEdgeDriver(EdgeDriverService service, EdgeOptions options) {
+        return new EdgeDriver(service, options, countingClientConfig());
+    }
+    
+    /**
+     * Creates the HTTP client configuration for a new session, counting its commands until setup completes
+     * The counter stays on the creating thread until the public create method returns or throws
+     * 
+     * @return Client configuration with a command counter
+     */
+    private static ClientConfig countingClientConfig() {
+        CommandCounter counter = new CommandCounter();
+        setupCounter.set(counter);
+        return ClientConfig.defaultConfig().withFilter(counter);
+    }
+    
+    /**
+     * Creates the command executor for a session on a Selenium Grid, counting its commands until setup completes
+     * 
+     * @param hubUrl Grid URL
+     * @return Command executor
+     */
+    private static HttpCommandExecutor remoteExecutor(URL hubUrl) {
+        return new HttpCommandExecutor(countingClientConfig().baseUrl(hubUrl));
+    }
+    
+    /**
+     * Completes driver setup after session creation
+     * Timeouts and window size already travel with the session capabilities, so only browsers
+     * without a window-size switch need an extra command. The WebDriver commands sent from new-session
+     * to here are counted on the wire; CDP messages over the DevTools connection are not WebDriver commands
      * 
      * @param driver The WebDriver instance to configure
      */
     private static void configureDriver(WebDriver driver) {
-        // Set timeouts
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(config.getImplicitWaitTimeout()));
-        driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(config.getPageLoadTimeout()));
-        driver.manage().timeouts().scriptTimeout(Duration.ofSeconds(30));
+        long configureStart = System.nanoTime();
+        CommandCounter counter = setupCounter.get();
         
-        // Maximize window if not headless
-        if (!config.isHeadless()) {
+        // Safari has no window-size switch
+        if (driver instanceof SafariDriver && !config.isHeadless()) {
             try {
                 driver.manage().window().maximize();
             } catch (Exception e) {
@@ -264,8 +487,16 @@ public final class DriverFactory {
             }
         }
         
-        LogManager.debug("Driver configured with timeouts - Implicit: {}s, Page Load: {}s", 
-            config.getImplicitWaitTimeout(), config.getPageLoadTimeout());
+        // Block third-party and heavy requests before the first navigation
+        RequestBlocker.apply(driver, PageLoadSettings.current().getBlockedUrls());
+        
+        int commands = counter != null ? counter.stop() : 0;
+        if (counter != null) {
+            DriverStartupMetrics.recordSessionSetup(commands);
+        }
+        DriverStartupMetrics.recordPhase(DriverStartupMetrics.Phase.CONFIGURE, configureStart);
+        LogManager.debug("Driver configured with timeouts - Implicit: {}s, Page Load: {}s, Script: {}s ({} setup command(s))", 
+            ImplicitWaits.getSessionImplicitWait(), config.getPageLoadTimeout(), config.getScriptTimeout(), commands);
     }
     
     /**
@@ -277,10 +508,14 @@ public final class DriverFactory {
     public static WebDriver createDriver(String browserType) {
         LogManager.info("Creating driver with override browser type: {}", browserType);
         
-        WebDriver driver = createLocalDriver(browserType.toLowerCase());
-        configureDriver(driver);
-        
-        return driver;
+        try {
+            WebDriver driver = createLocalDriver(browserType.toLowerCase());
+            configureDriver(driver);
+            
+            return driver;
+        } finally {
+            setupCounter.remove();
+        }
     }
     
     /**
@@ -300,29 +535,29 @@ public final class DriverFactory {
             // Create driver with headless options
             driver = switch (browserType.toLowerCase()) {
                 case FrameworkConstants.CHROME -> {
-                    WebDriverManager.chromedriver().setup();
                     ChromeOptions options = getChromeOptions();
                     options.addArguments("--headless");
-                    yield new ChromeDriver(options);
+                    yield launchLocalDriver(FrameworkConstants.CHROME, options,
+                        ChromeDriverService::createDefaultService, DriverFactory::newChromeDriver);
                 }
                 case FrameworkConstants.FIREFOX -> {
-                    WebDriverManager.firefoxdriver().setup();
                     FirefoxOptions options = getFirefoxOptions();
                     options.addArguments("--headless");
-                    yield new FirefoxDriver(options);
+                    yield launchLocalDriver(FrameworkConstants.FIREFOX, options,
+                        GeckoDriverService::createDefaultService, DriverFactory::newFirefoxDriver);
                 }
                 case FrameworkConstants.EDGE -> {
-                    WebDriverManager.edgedriver().setup();
                     EdgeOptions options = getEdgeOptions();
                     options.addArguments("--headless");
-                    yield new EdgeDriver(options);
+                    yield launchLocalDriver(FrameworkConstants.EDGE, options,
+                        EdgeDriverService::createDefaultService, DriverFactory::newEdgeDriver);
                 }
                 default -> {
                     LogManager.warn("Headless mode not supported for browser: {}. Using Chrome.", browserType);
-                    WebDriverManager.chromedriver().setup();
                     ChromeOptions options = getChromeOptions();
                     options.addArguments("--headless");
-                    yield new ChromeDriver(options);
+                    yield launchLocalDriver(FrameworkConstants.CHROME, options,
+                        ChromeDriverService::createDefaultService, DriverFactory::newChromeDriver);
                 }
             };
             
@@ -331,6 +566,8 @@ public final class DriverFactory {
         } catch (Exception e) {
             LogManager.error(FrameworkConstants.DRIVER_INITIALIZATION_ERROR, e.getMessage());
             throw new RuntimeException("Failed to create headless driver", e);
+        } finally {
+            setupCounter.remove();
         }
         
         return driver;
@@ -1,11 +1,14 @@
 package com.automation.framework.driver;
 
+import com.automation.framework.utils.ElementActions;
 import com.automation.framework.utils.LogManager;
+import com.automation.framework.utils.WaitFactory;
 import org.openqa.selenium.WebDriver;
 
 /**
  * Driver Manager - Thread-safe WebDriver management using ThreadLocal
  * Ensures each test thread has its own WebDriver instance
+ * Mirrors every session into DriverRegistry so sessions can be enumerated across threads
  * Provides centralized driver lifecycle management
  * 
  * @author Test Automation Framework
@@ -32,7 +35,12 @@ public final class DriverManager {
             throw new IllegalArgumentException("WebDriver cannot be null");
         }
         
+        if (driverThreadLocal.get() != driver) {
+            WaitFactory.clearWaitCache();
+            ElementActions.clearElementCache();
+        }
         driverThreadLocal.set(driver);
+        DriverRegistry.register(driver, browserTypeThreadLocal.get());
         LogManager.debug("Driver set for thread: {}", getCurrentThreadId());
     }
     
@@ -63,6 +71,7 @@ public final class DriverManager {
                 ". Please ensure driver is initialized before accessing it.");
         }
         
+        DriverRegistry.touch(driver);
         return driver;
     }
     
@@ -82,6 +91,7 @@ public final class DriverManager {
      */
     public static void setBrowserType(String browserType) {
         browserTypeThreadLocal.set(browserType);
+        DriverRegistry.updateBrowserType(driverThreadLocal.get(), browserType);
         LogManager.debug("Browser type set to '{}' for thread: {}", browserType, getCurrentThreadId());
     }
     
@@ -97,6 +107,8 @@ public final class DriverManager {
     
     /**
      * Quits the WebDriver instance for the current thread and cleans up resources
+     * Pooled drivers are returned to their pool instead of being quit
+     * In async quit mode the driver is quit by the background reaper
      * This method should be called after test completion to prevent memory leaks
      */
     public static void quitDriver() {
@@ -105,14 +117,13 @@ public final class DriverManager {
         
         if (driver != null) {
             try {
-                driver.quit();
-                LogManager.info("Driver successfully quit for thread: {}", threadId);
-            } catch (Exception e) {
-                LogManager.error("Error occurred while quitting driver for thread {}: {}", threadId, e.getMessage());
+                disposeDriver(driver, threadId);
             } finally {
                 // Clean up ThreadLocal variables to prevent memory leaks
                 driverThreadLocal.remove();
                 browserTypeThreadLocal.remove();
+                WaitFactory.clearWaitCache();
+                ElementActions.clearElementCache();
                 LogManager.debug("ThreadLocal variables cleaned up for thread: {}", threadId);
             }
         } else {
@@ -120,6 +131,101 @@ public final class DriverManager {
         }
     }
     
+    /**
+     * Quits a WebDriver instance that may belong to another thread
+     * If the driver belongs to the current thread, this is equivalent to {@link #quitDriver()}
+     * 
+     * @param driver The WebDriver instance to quit
+     */
+    public static void quitDriver(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        if (driver == driverThreadLocal.get()) {
+            quitDriver();
+            return;
+        }
+        disposeDriver(driver, "released by " + getCurrentThreadId());
+    }
+    
+    /**
+     * Removes the driver from the current thread without quitting it
+     * Use when the session has already been disposed of elsewhere
+     */
+    public static void detachDriver() {
+        driverThreadLocal.remove();
+        browserTypeThreadLocal.remove();
+        WaitFactory.clearWaitCache();
+        ElementActions.clearElementCache();
+        LogManager.debug("Driver detached from thread: {}", getCurrentThreadId());
+    }
+    
+    /**
+     * Returns a driver to its pool, hands it to the reaper, or quits it, depending on configuration
+     * 
+     * @param driver The WebDriver instance to dispose of
+     * @param owner Owner description for logging
+     */
+    static void disposeDriver(WebDriver driver, String owner) {
+        DriverRegistry.unregister(driver);
+        try {
+            if (DriverPool.releaseToPool(driver)) {
+                LogManager.info("Driver returned to pool for: {}", owner);
+            } else if (DriverReaper.isAsyncQuitEnabled()) {
+                DriverReaper.reap(driver, owner);
+                LogManager.info("Driver handed to reaper for: {}", owner);
+            } else {
+                boolean exited = false;
+                try {
+                    driver.quit();
+                    exited = true;
+                } finally {
+                    releaseSessionResources(driver, exited);
+                }
+                LogManager.info("Driver successfully quit for: {}", owner);
+            }
+        } catch (Exception e) {
+            LogManager.error("Error occurred while quitting driver for {}: {}", owner, e.getMessage());
+        }
+    }
+    
+    /**
+     * Releases per-session resources (profile slot, DevTools bookkeeping) once a session has quit
+     * 
+     * @param driver The WebDriver instance that quit
+     * @param browserExited false if the quit failed and the browser may still be running; its profile slot is then quarantined
+     */
+    static void releaseSessionResources(WebDriver driver, boolean browserExited) {
+        if (browserExited) {
+            BrowserProfileManager.release(driver);
+        } else {
+            BrowserProfileManager.quarantine(driver);
+        }
+        RequestBlocker.release(driver);
+        NetworkActivity.release(driver);
+    }
+    
+    /**
+     * Leases a warm WebDriver session from the driver pool and sets it for the current thread
+     * The session goes back to the pool when {@link #quitDriver()} is called
+     * 
+     * @param browserType The browser type to lease
+     * @param headless Whether the session should run headless
+     * @return The leased WebDriver instance
+     */
+    public static WebDriver leaseDriver(String browserType, boolean headless) {
+        try {
+            WebDriver driver = DriverPool.forProfile(browserType, headless).lease();
+            setDriver(driver, browserType);
+            LogManager.info("Pooled driver leased for browser '{}' on thread: {}", browserType, getCurrentThreadId());
+            return driver;
+        } catch (Exception e) {
+            LogManager.error("Failed to lease {} driver for thread {}: {}", 
+                browserType, getCurrentThreadId(), e.getMessage());
+            throw new RuntimeException("Driver lease failed for browser: " + browserType, e);
+        }
+    }
+    
     /**
      * Creates and sets a new WebDriver instance for the current thread
      * Uses DriverFactory to create the driver based on configuration
@@ -251,7 +357,7 @@ public final class DriverManager {
     }
     
     /**
-     * Quits all drivers across all threads
+     * Quits all drivers across all threads in parallel using DriverRegistry
      * This method should only be used during framework shutdown
      * WARNING: Use with caution in parallel execution environments
      */
@@ -259,9 +365,9 @@ public final class DriverManager {
         LogManager.warn("Attempting to quit all drivers - this may affect other running tests");
         
         try {
-            // This will only quit the driver for the current thread
-            // ThreadLocal doesn't provide access to other threads' data
-            quitDriver();
+            int quit = DriverRegistry.quitAll();
+            detachDriver();
+            LogManager.info("Quit {} driver session(s) across all threads", quit);
         } catch (Exception e) {
             LogManager.error("Error during driver cleanup: {}", e.getMessage());
         }
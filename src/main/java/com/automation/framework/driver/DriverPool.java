@@ -0,0 +1,485 @@
+package com.automation.framework.driver;
+
+import com.automation.framework.config.ConfigLoader;
+import com.automation.framework.utils.LogManager;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.ChromiumDriver;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Driver Pool - Keeps pre-warmed WebDriver sessions per browser profile
+ * Leases sessions to test threads and resets them on release instead of quitting
+ * Retires sessions past the configured age or reuse count and refills in the background
+ *
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+public final class DriverPool {
+
+    private static final ConfigLoader config = ConfigLoader.getInstance();
+
+    // One pool per browser profile, and the owning pool of every leased driver
+    private static final Map<String, DriverPool> pools = new ConcurrentHashMap<>();
+    private static final Map<WebDriver, DriverPool> leaseOwners = new ConcurrentHashMap<>();
+
+    private final String profileKey;
+    private final Supplier<WebDriver> sessionFactory;
+    private final int poolSize;
+    private final long maxSessionAgeMillis;
+    private final int maxReuseCount;
+    private final long leaseTimeoutMillis;
+
+    private final LinkedBlockingDeque<PooledSession> idleSessions = new LinkedBlockingDeque<>();
+    private final Map<WebDriver, PooledSession> leasedSessions = new ConcurrentHashMap<>();
+    private final AtomicInteger reservedSlots = new AtomicInteger();
+    private final ExecutorService maintenanceExecutor;
+    private volatile boolean shutdown;
+
+    // Pool metrics
+    private final LongAdder leaseCount = new LongAdder();
+    private final LongAdder leaseWaitNanos = new LongAdder();
+    private final AtomicLong maxLeaseWaitNanos = new AtomicLong();
+    private final LongAdder createCount = new LongAdder();
+    private final LongAdder createNanos = new LongAdder();
+    private final AtomicLong maxCreateNanos = new AtomicLong();
+    private final LongAdder retiredCount = new LongAdder();
+    private final LongAdder resetFailures = new LongAdder();
+
+    private DriverPool(String browserType, boolean headless) {
+        this(profileKey(browserType, headless), config.getDriverPoolSize(), config.getDriverPoolMaxSessionAge(),
+            config.getDriverPoolMaxReuseCount(), config.getDriverPoolLeaseTimeout(),
+            headless ? () -> DriverFactory.createHeadlessDriver(browserType) : () -> DriverFactory.createDriver(browserType));
+    }
+
+    /**
+     * Creates a pool with explicit limits and session factory; it is not registered as a profile pool
+     *
+     * @param profileKey Pool name for logs and statistics
+     * @param poolSize Maximum number of sessions
+     * @param maxSessionAgeSeconds Age in seconds after which a session is retired; 0 or less for no limit
+     * @param maxReuseCount Number of leases after which a session is retired
+     * @param leaseTimeoutSeconds Seconds a lease waits for a session when every session is in use
+     * @param sessionFactory Starts a new session
+     */
+    DriverPool(String profileKey, int poolSize, int maxSessionAgeSeconds, int maxReuseCount, int leaseTimeoutSeconds,
+               Supplier<WebDriver> sessionFactory) {
+        this.profileKey = profileKey;
+        this.sessionFactory = sessionFactory;
+        this.poolSize = Math.max(1, poolSize);
+        // 0 or less means sessions are never retired for age
+        this.maxSessionAgeMillis = maxSessionAgeSeconds > 0 ? TimeUnit.SECONDS.toMillis(maxSessionAgeSeconds) : Long.MAX_VALUE;
+        this.maxReuseCount = Math.max(1, maxReuseCount);
+        this.leaseTimeoutMillis = TimeUnit.SECONDS.toMillis(leaseTimeoutSeconds);
+
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.maintenanceExecutor = Executors.newFixedThreadPool(Math.max(1, (this.poolSize + 1) / 2), runnable -> {
+            Thread thread = new Thread(runnable, "driver-pool-" + profileKey + "-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // Idle and pre-warmed sessions are not in the driver registry; quit them at JVM exit as well
+        DriverRegistry.installShutdownHook();
+
+        LogManager.info("Driver pool created for profile '{}' - Size: {}, Max Age: {}, Max Reuse: {}",
+            profileKey, this.poolSize, maxSessionAgeMillis == Long.MAX_VALUE ? "unlimited" : maxSessionAgeSeconds + "s",
+            maxReuseCount);
+    }
+
+    /**
+     * Gets the pool for a browser profile, creating it on first use
+     *
+     * @param browserType The browser type
+     * @param headless Whether sessions run headless
+     * @return DriverPool for the profile
+     */
+    public static DriverPool forProfile(String browserType, boolean headless) {
+        String key = profileKey(browserType, headless);
+        return pools.computeIfAbsent(key, k -> new DriverPool(browserType.toLowerCase(), headless));
+    }
+
+    /**
+     * Starts background creation of warm sessions until the pool is full
+     *
+     * @param browserType The browser type
+     * @param headless Whether sessions run headless
+     */
+    public static void prewarm(String browserType, boolean headless) {
+        DriverPool pool = forProfile(browserType, headless);
+        int scheduled = 0;
+        while (pool.scheduleRefill()) {
+            scheduled++;
+        }
+        LogManager.info("Pre-warming {} session(s) for driver pool '{}'", scheduled, pool.profileKey);
+    }
+
+    /**
+     * Returns a driver to the pool it was leased from
+     *
+     * @param driver The leased WebDriver instance
+     * @return true if the driver belonged to a pool and was handed back, false otherwise
+     */
+    public static boolean releaseToPool(WebDriver driver) {
+        DriverPool pool = driver != null ? leaseOwners.remove(driver) : null;
+        if (pool == null) {
+            return false;
+        }
+        pool.release(driver);
+        return true;
+    }
+
+    /**
+     * Takes a leased session out of its pool and quits it instead of resetting it for reuse
+     * A replacement is created in the background
+     *
+     * @param driver The leased WebDriver instance
+     * @param reason Reason for logging
+     * @return true if the driver belonged to a pool and was retired, false otherwise
+     */
+    public static boolean discardLeased(WebDriver driver, String reason) {
+        DriverPool pool = driver != null ? leaseOwners.remove(driver) : null;
+        if (pool == null) {
+            return false;
+        }
+        PooledSession session = pool.leasedSessions.remove(driver);
+        if (session != null) {
+            pool.retire(session, reason);
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether a driver is currently leased from a pool
+     *
+     * @param driver The WebDriver instance
+     * @return true if the driver is a pooled session
+     */
+    public static boolean isPooled(WebDriver driver) {
+        return driver != null && leaseOwners.containsKey(driver);
+    }
+
+    /**
+     * Leases a warm session, creating one when the pool has spare capacity
+     * Waits up to the configured lease timeout when every session is in use
+     *
+     * @return Leased WebDriver instance
+     */
+    public WebDriver lease() {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(leaseTimeoutMillis);
+
+        PooledSession session = null;
+        while (session == null) {
+            if (shutdown) {
+                throw new IllegalStateException("Driver pool '" + profileKey + "' has been shut down");
+            }
+
+            session = idleSessions.pollFirst();
+
+            if (session == null && tryReserveSlot()) {
+                session = createSession();
+            }
+
+            if (session == null) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new IllegalStateException("Timed out after " + leaseTimeoutMillis
+                        + " ms waiting for a session from driver pool '" + profileKey + "'");
+                }
+                try {
+                    session = idleSessions.pollFirst(remaining, TimeUnit.NANOSECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for driver pool '" + profileKey + "'", e);
+                }
+            }
+
+            if (session != null && session.isExpired()) {
+                retire(session, "expired before lease");
+                session = null;
+            }
+        }
+
+        int uses = session.leases.incrementAndGet();
+        leasedSessions.put(session.driver, session);
+        leaseOwners.put(session.driver, this);
+
+        long waited = System.nanoTime() - start;
+        leaseCount.increment();
+        leaseWaitNanos.add(waited);
+        maxLeaseWaitNanos.accumulateAndGet(waited, Math::max);
+
+        LogManager.debug("Leased session from pool '{}' (use {}/{}, waited {} ms)",
+            profileKey, uses, maxReuseCount, TimeUnit.NANOSECONDS.toMillis(waited));
+        return session.driver;
+    }
+
+    /**
+     * Hands a leased session back; state reset happens off the caller thread
+     *
+     * @param driver The leased WebDriver instance
+     */
+    private void release(WebDriver driver) {
+        PooledSession session = leasedSessions.remove(driver);
+        if (session == null) {
+            LogManager.warn("Driver released to pool '{}' was not leased from it", profileKey);
+            return;
+        }
+
+        if (shutdown || session.isExpired()) {
+            retire(session, shutdown ? "pool shut down" : "reached age or reuse limit");
+            return;
+        }
+
+        maintenanceExecutor.execute(() -> {
+            if (!resetSession(session.driver)) {
+                resetFailures.increment();
+                retire(session, "state reset failed");
+            } else if (shutdown) {
+                // The pool shut down while the session was being reset
+                retire(session, "pool shut down");
+            } else {
+                idleSessions.offerLast(session);
+            }
+        });
+    }
+
+    /**
+     * Resets a session so the next lease starts from a clean browser
+     * Clears cookies and storage, closes extra windows and navigates to about:blank
+     *
+     * @param driver The WebDriver instance to reset
+     * @return true if the session was reset successfully
+     */
+    private boolean resetSession(WebDriver driver) {
+        try {
+            Set<String> handles = driver.getWindowHandles();
+            if (handles.size() > 1) {
+                List<String> ordered = List.copyOf(handles);
+                String keep = ordered.get(0);
+                for (String handle : ordered.subList(1, ordered.size())) {
+                    driver.switchTo().window(handle).close();
+                }
+                driver.switchTo().window(keep);
+            }
+
+            ((JavascriptExecutor) driver).executeScript(
+                "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+
+            if (driver instanceof ChromiumDriver) {
+                // Clears cookies for every domain, not just the current one
+                ((ChromiumDriver) driver).executeCdpCommand("Network.clearBrowserCookies", Collections.emptyMap());
+            } else {
+                driver.manage().deleteAllCookies();
+            }
+
+            driver.get("about:blank");
+            return true;
+
+        } catch (Exception e) {
+            LogManager.warn("Failed to reset pooled session in '{}': {}", profileKey, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Creates a new pooled session in an already reserved slot
+     *
+     * @return New PooledSession
+     */
+    private PooledSession createSession() {
+        long start = System.nanoTime();
+        try {
+            WebDriver driver = sessionFactory.get();
+
+            long elapsed = System.nanoTime() - start;
+            createCount.increment();
+            createNanos.add(elapsed);
+            maxCreateNanos.accumulateAndGet(elapsed, Math::max);
+
+            LogManager.debug("Created pooled session for '{}' in {} ms", profileKey, TimeUnit.NANOSECONDS.toMillis(elapsed));
+            return new PooledSession(driver);
+
+        } catch (RuntimeException e) {
+            reservedSlots.decrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * Quits a session and schedules a replacement in the background
+     *
+     * @param session The session to retire
+     * @param reason Reason for logging
+     */
+    private void retire(PooledSession session, String reason) {
+        LogManager.debug("Retiring pooled session in '{}': {}", profileKey, reason);
+        retiredCount.increment();
+        reservedSlots.decrementAndGet();
+
+        DriverReaper.reap(session.driver, "pool " + profileKey);
+
+        if (!shutdown) {
+            scheduleRefill();
+        }
+    }
+
+    /**
+     * Schedules background creation of one session if the pool has capacity
+     *
+     * @return true if a refill was scheduled
+     */
+    private boolean scheduleRefill() {
+        if (shutdown || !tryReserveSlot()) {
+            return false;
+        }
+
+        maintenanceExecutor.execute(() -> {
+            try {
+                PooledSession session = createSession();
+                if (shutdown) {
+                    retire(session, "pool shut down");
+                } else {
+                    idleSessions.offerLast(session);
+                }
+            } catch (Exception e) {
+                LogManager.warn("Background session creation failed for pool '{}': {}", profileKey, e.getMessage());
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Reserves capacity for one more session (idle, leased or being created)
+     *
+     * @return true if a slot was reserved
+     */
+    private boolean tryReserveSlot() {
+        int current;
+        do {
+            current = reservedSlots.get();
+            if (current >= poolSize) {
+                return false;
+            }
+        } while (!reservedSlots.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * Quits idle sessions and stops background maintenance
+     * Sessions still leased are retired when they are released
+     */
+    void shutdown() {
+        shutdown = true;
+        retireIdleSessions();
+        maintenanceExecutor.shutdown();
+        try {
+            if (!maintenanceExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+                LogManager.warn("Driver pool '{}' maintenance did not finish within 30 seconds", profileKey);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // Resets and refills that saw the pool still running may have queued a session after the first drain
+            retireIdleSessions();
+        }
+    }
+
+    /**
+     * Quits every idle session
+     */
+    private void retireIdleSessions() {
+        PooledSession session;
+        while ((session = idleSessions.pollFirst()) != null) {
+            retire(session, "pool shut down");
+        }
+    }
+
+    /**
+     * Shuts down every driver pool
+     * This method should only be used during framework shutdown
+     */
+    public static void shutdownAll() {
+        if (pools.isEmpty()) {
+            return;
+        }
+        LogManager.info("Shutting down {} driver pool(s)", pools.size());
+        pools.values().forEach(DriverPool::shutdown);
+        pools.clear();
+    }
+
+    /**
+     * Gets lease-wait and create-time metrics for this pool
+     *
+     * @return Pool statistics summary
+     */
+    public String getStatistics() {
+        long leases = leaseCount.sum();
+        long creates = createCount.sum();
+        return String.format("Pool '%s' - Idle: %d, Leased: %d, Leases: %d, Avg Lease Wait: %d ms, Max Lease Wait: %d ms, "
+                + "Created: %d, Avg Create: %d ms, Max Create: %d ms, Retired: %d, Reset Failures: %d",
+            profileKey, idleSessions.size(), leasedSessions.size(), leases,
+            leases > 0 ? TimeUnit.NANOSECONDS.toMillis(leaseWaitNanos.sum() / leases) : 0,
+            TimeUnit.NANOSECONDS.toMillis(maxLeaseWaitNanos.get()),
+            creates, creates > 0 ? TimeUnit.NANOSECONDS.toMillis(createNanos.sum() / creates) : 0,
+            TimeUnit.NANOSECONDS.toMillis(maxCreateNanos.get()),
+            retiredCount.sum(), resetFailures.sum());
+    }
+
+    /**
+     * Gets metrics for every driver pool
+     *
+     * @return Pool statistics summary
+     */
+    public static String getPoolStatistics() {
+        if (pools.isEmpty()) {
+            return "Driver Pool - not used";
+        }
+        return pools.values().stream().map(DriverPool::getStatistics).collect(Collectors.joining("; "));
+    }
+
+    /**
+     * Builds the key identifying a browser/options profile
+     *
+     * @param browserType The browser type
+     * @param headless Whether sessions run headless
+     * @return Profile key
+     */
+    private static String profileKey(String browserType, boolean headless) {
+        return browserType.toLowerCase() + (headless ? "-headless" : "-headed");
+    }
+
+    /**
+     * Pooled session bookkeeping
+     */
+    private final class PooledSession {
+        private final WebDriver driver;
+        private final long createdAt = System.currentTimeMillis();
+        // Incremented by the leasing thread, read by releasing and maintenance threads
+        private final AtomicInteger leases = new AtomicInteger();
+
+        private PooledSession(WebDriver driver) {
+            this.driver = driver;
+        }
+
+        private boolean isExpired() {
+            return leases.get() >= maxReuseCount
+                || System.currentTimeMillis() - createdAt >= maxSessionAgeMillis;
+        }
+    }
+}
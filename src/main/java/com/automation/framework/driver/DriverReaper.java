@@ -0,0 +1,283 @@
+package com.automation.framework.driver;
+
+import com.automation.framework.config.ConfigLoader;
+import com.automation.framework.constants.FrameworkConstants;
+import com.automation.framework.utils.LogManager;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.service.DriverCommandExecutor;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Driver Reaper - Quits WebDriver sessions off the test thread
+ * Uses a bounded executor so a burst of teardowns falls back to the caller instead of queueing without limit
+ * Enforces a hard quit timeout and force-kills the local driver process tree of hung sessions
+ *
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+public final class DriverReaper {
+
+    private static final ConfigLoader config = ConfigLoader.getInstance();
+
+    // How long killed driver and browser processes get to exit before their profile is quarantined
+    private static final int KILL_EXIT_TIMEOUT_SECONDS = 5;
+
+    private static final ThreadPoolExecutor reaperExecutor = createReaperExecutor();
+    private static final ExecutorService quitExecutor = Executors.newCachedThreadPool(daemonThreads("driver-quit"));
+    private static final Set<CompletableFuture<Void>> pendingQuits = ConcurrentHashMap.newKeySet();
+
+    // Reaper statistics
+    private static final LongAdder reapedCount = new LongAdder();
+    private static final LongAdder reapNanos = new LongAdder();
+    private static final AtomicLong maxReapNanos = new AtomicLong();
+    private static final LongAdder forceKilledCount = new LongAdder();
+    private static final LongAdder failedCount = new LongAdder();
+
+    // Prevent instantiation
+    private DriverReaper() {
+        throw new UnsupportedOperationException("DriverReaper is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Checks whether drivers are quit asynchronously by the reaper
+     *
+     * @return true if the configured quit mode is async
+     */
+    public static boolean isAsyncQuitEnabled() {
+        return FrameworkConstants.QUIT_MODE_ASYNC.equals(config.getDriverQuitMode());
+    }
+
+    /**
+     * Hands a driver to the background reaper and returns immediately
+     * When the reaper queue is full the quit runs on the calling thread
+     *
+     * @param driver The WebDriver instance to quit
+     * @param owner Owner description for logging (usually the thread name)
+     */
+    public static void reap(WebDriver driver, String owner) {
+        if (driver == null) {
+            return;
+        }
+
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        pendingQuits.add(future);
+        future.whenComplete((ignored, error) -> pendingQuits.remove(future));
+
+        reaperExecutor.execute(() -> {
+            try {
+                quitWithTimeout(driver, owner);
+            } finally {
+                future.complete(null);
+            }
+        });
+        LogManager.debug("Driver handed to reaper for: {}", owner);
+    }
+
+    /**
+     * Quits a driver on the calling thread, enforcing the hard quit timeout
+     *
+     * @param driver The WebDriver instance to quit
+     * @param owner Owner description for logging
+     */
+    public static void quitWithTimeout(WebDriver driver, String owner) {
+        quitWithTimeout(driver, owner, config.getDriverQuitTimeout());
+    }
+
+    /**
+     * Quits a driver on the calling thread, killing its processes if the quit takes longer than the timeout
+     *
+     * @param driver The WebDriver instance to quit
+     * @param owner Owner description for logging
+     * @param timeoutSeconds Seconds the quit may take
+     */
+    static void quitWithTimeout(WebDriver driver, String owner, int timeoutSeconds) {
+        long start = System.nanoTime();
+
+        Future<?> quit = quitExecutor.submit(driver::quit);
+        boolean exited = false;
+        try {
+            quit.get(timeoutSeconds, TimeUnit.SECONDS);
+            exited = true;
+            LogManager.debug("Driver quit by reaper for: {}", owner);
+
+        } catch (TimeoutException e) {
+            LogManager.warn("Driver quit for {} exceeded {}s - killing driver processes", owner, timeoutSeconds);
+            // Interrupts the hung quit thread
+            quit.cancel(true);
+            Optional<Long> driverPid = findDriverProcessId(driver);
+            if (driverPid.isPresent() && forceKill(driverPid.get())) {
+                exited = true;
+                forceKilledCount.increment();
+            } else {
+                failedCount.increment();
+                LogManager.error("Could not locate driver process to kill for: {}", owner);
+            }
+
+        } catch (ExecutionException e) {
+            failedCount.increment();
+            LogManager.warn("Error quitting driver for {}: {}", owner, e.getCause().getMessage());
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failedCount.increment();
+
+        } finally {
+            DriverManager.releaseSessionResources(driver, exited);
+            long elapsed = System.nanoTime() - start;
+            reapedCount.increment();
+            reapNanos.add(elapsed);
+            maxReapNanos.accumulateAndGet(elapsed, Math::max);
+        }
+    }
+
+    /**
+     * Waits for every queued quit to finish
+     *
+     * @param timeoutSeconds Maximum time to wait in seconds
+     * @return true if the reaper drained within the timeout
+     */
+    public static boolean awaitDrain(int timeoutSeconds) {
+        int pending = pendingQuits.size();
+        if (pending == 0) {
+            return true;
+        }
+
+        LogManager.info("Waiting up to {}s for {} pending driver quit(s)", timeoutSeconds, pending);
+        try {
+            CompletableFuture.allOf(pendingQuits.toArray(new CompletableFuture<?>[0]))
+                .get(timeoutSeconds, TimeUnit.SECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            LogManager.warn("Driver reaper did not drain within {}s - {} quit(s) still pending", timeoutSeconds, pendingQuits.size());
+            return false;
+        } catch (ExecutionException e) {
+            return pendingQuits.isEmpty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Gets reaper statistics
+     *
+     * @return Reaper statistics summary
+     */
+    public static String getReaperStatistics() {
+        long reaped = reapedCount.sum();
+        return String.format("Driver Reaper - Reaped: %d, Avg Quit: %d ms, Max Quit: %d ms, Force Killed: %d, Failed: %d, Pending: %d",
+            reaped, reaped > 0 ? TimeUnit.NANOSECONDS.toMillis(reapNanos.sum() / reaped) : 0,
+            TimeUnit.NANOSECONDS.toMillis(maxReapNanos.get()), forceKilledCount.sum(), failedCount.sum(), pendingQuits.size());
+    }
+
+    /**
+     * Finds the process id of the local driver service (chromedriver, geckodriver, msedgedriver)
+     * Remote sessions have no local process and return empty
+     *
+     * @param driver The WebDriver instance
+     * @return Driver service process id if found
+     */
+    private static Optional<Long> findDriverProcessId(WebDriver driver) {
+        if (!(driver instanceof RemoteWebDriver)
+            || !(((RemoteWebDriver) driver).getCommandExecutor() instanceof DriverCommandExecutor)) {
+            return Optional.empty();
+        }
+
+        try {
+            URL address = ((DriverCommandExecutor) ((RemoteWebDriver) driver).getCommandExecutor()).getAddressOfRemoteServer();
+            String portArgument = "--port=" + address.getPort();
+
+            return ProcessHandle.current().descendants()
+                .filter(process -> process.info().arguments()
+                    .map(arguments -> Arrays.asList(arguments).contains(portArgument))
+                    .orElseGet(() -> process.info().commandLine().map(line -> line.contains(portArgument)).orElse(false)))
+                .map(ProcessHandle::pid)
+                .findFirst();
+
+        } catch (Exception e) {
+            LogManager.debug("Could not resolve driver process id: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Forcibly kills a driver process and the browser processes it spawned
+     *
+     * @param pid Driver process id
+     * @return true if the process was found and it and its browser processes have exited
+     */
+    static boolean forceKill(long pid) {
+        Optional<ProcessHandle> handle = ProcessHandle.of(pid);
+        if (handle.isEmpty()) {
+            return false;
+        }
+
+        List<ProcessHandle> processes = new ArrayList<>();
+        handle.get().descendants().forEach(processes::add);
+        processes.add(handle.get());
+        processes.forEach(ProcessHandle::destroyForcibly);
+        LogManager.warn("Force-killed driver process {} and its browser processes", pid);
+
+        try {
+            CompletableFuture.allOf(processes.stream().map(ProcessHandle::onExit).toArray(CompletableFuture<?>[]::new))
+                .get(KILL_EXIT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            return true;
+        } catch (TimeoutException | ExecutionException e) {
+            LogManager.warn("Processes of driver {} still running after force-kill", pid);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Creates the bounded reaper executor
+     *
+     * @return ThreadPoolExecutor for background quits
+     */
+    private static ThreadPoolExecutor createReaperExecutor() {
+        int threads = Math.max(1, config.getDriverReaperThreads());
+        int capacity = Math.max(1, config.getDriverReaperQueueCapacity());
+
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(capacity), daemonThreads("driver-reaper"),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Creates a thread factory for named daemon threads
+     *
+     * @param prefix Thread name prefix
+     * @return ThreadFactory instance
+     */
+    static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,275 @@
+package com.automation.framework.driver;
+
+import com.automation.framework.config.ConfigLoader;
+import com.automation.framework.utils.LogManager;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.SessionId;
+
+import java.lang.ref.WeakReference;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Driver Registry - Tracks every live WebDriver session alongside the DriverManager ThreadLocal
+ * Allows all sessions to be enumerated and shut down in parallel, installs a JVM shutdown hook,
+ * and runs a sweeper that quits sessions left behind by finished threads and reports stalled ones
+ *
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+public final class DriverRegistry {
+
+    private static final ConfigLoader config = ConfigLoader.getInstance();
+
+    private static final Map<WebDriver, SessionRecord> sessions = new ConcurrentHashMap<>();
+    private static final AtomicBoolean sweeperStarted = new AtomicBoolean();
+    private static final AtomicBoolean shutdownHookInstalled = new AtomicBoolean();
+    private static volatile ScheduledExecutorService sweeper;
+
+    // Registry statistics
+    private static final LongAdder registeredCount = new LongAdder();
+    private static final LongAdder sweptCount = new LongAdder();
+    private static final LongAdder idleWarningCount = new LongAdder();
+    private static final LongAdder shutdownQuitCount = new LongAdder();
+
+    // Prevent instantiation
+    private DriverRegistry() {
+        throw new UnsupportedOperationException("DriverRegistry is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Registers a session for the current thread, or moves an existing session to it
+     *
+     * @param driver The WebDriver instance
+     * @param browserType The browser type, may be null if not known yet
+     */
+    public static void register(WebDriver driver, String browserType) {
+        SessionRecord record = sessions.computeIfAbsent(driver, d -> {
+            registeredCount.increment();
+            return new SessionRecord(d);
+        });
+        record.owner = new WeakReference<>(Thread.currentThread());
+        record.threadName = Thread.currentThread().getName();
+        if (browserType != null) {
+            record.browserType = browserType;
+        }
+        record.touch();
+
+        installShutdownHook();
+        startIdleSweeper();
+    }
+
+    /**
+     * Updates the browser type recorded for a session
+     *
+     * @param driver The WebDriver instance
+     * @param browserType The browser type
+     */
+    public static void updateBrowserType(WebDriver driver, String browserType) {
+        SessionRecord record = driver != null ? sessions.get(driver) : null;
+        if (record != null) {
+            record.browserType = browserType;
+        }
+    }
+
+    /**
+     * Records that a session was just used
+     *
+     * @param driver The WebDriver instance
+     */
+    public static void touch(WebDriver driver) {
+        SessionRecord record = sessions.get(driver);
+        if (record != null) {
+            record.touch();
+        }
+    }
+
+    /**
+     * Removes a session from the registry (called when it is quit or returned to a pool)
+     *
+     * @param driver The WebDriver instance
+     * @return true if the session was registered
+     */
+    public static boolean unregister(WebDriver driver) {
+        return driver != null && sessions.remove(driver) != null;
+    }
+
+    /**
+     * Gets a snapshot of every live session
+     *
+     * @return List of session descriptions
+     */
+    public static List<String> describeSessions() {
+        List<String> descriptions = new ArrayList<>();
+        sessions.values().forEach(record -> descriptions.add(record.toString()));
+        return descriptions;
+    }
+
+    /**
+     * Gets the number of live sessions
+     *
+     * @return Live session count
+     */
+    public static int getActiveSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Quits every registered session in parallel, regardless of which thread owns it
+     *
+     * @return Number of sessions quit
+     */
+    public static int quitAll() {
+        List<SessionRecord> records = new ArrayList<>();
+        sessions.forEach((driver, record) -> {
+            if (sessions.remove(driver, record)) {
+                records.add(record);
+            }
+        });
+        if (records.isEmpty()) {
+            return 0;
+        }
+
+        LogManager.info("Quitting {} registered driver session(s) in parallel", records.size());
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(records.size(), 8), DriverReaper.daemonThreads("driver-shutdown"));
+        try {
+            CompletableFuture.allOf(records.stream()
+                    .map(record -> CompletableFuture.runAsync(
+                        () -> DriverReaper.quitWithTimeout(record.driver, record.describeOwner()), executor))
+                    .toArray(CompletableFuture<?>[]::new))
+                .join();
+        } finally {
+            executor.shutdown();
+        }
+        return records.size();
+    }
+
+    /**
+     * Quits sessions whose owning thread has died and warns about sessions idle past the threshold
+     * A session whose owner is still alive is never quit here: the owner still holds it and, with pooling,
+     * a session handed back to the pool could be leased to another thread while the owner keeps using it
+     */
+    private static void sweepIdleSessions() {
+        long idleMillis = TimeUnit.SECONDS.toMillis(config.getDriverIdleTimeout());
+        long now = System.currentTimeMillis();
+
+        sessions.forEach((driver, record) -> {
+            Thread owner = record.owner.get();
+            if (owner == null || !owner.isAlive()) {
+                if (sessions.remove(driver, record)) {
+                    sweptCount.increment();
+                    LogManager.warn("Sweeping orphaned session {} ({})", record.sessionId, record.describeOwner());
+                    // Never back to the pool: the session may be mid-test in whatever state the thread left it
+                    if (!DriverPool.discardLeased(driver, "owner thread died")) {
+                        DriverReaper.reap(driver, record.describeOwner());
+                    }
+                }
+            } else if (now - record.lastUsedAt > idleMillis && !record.idleReported) {
+                record.idleReported = true;
+                idleWarningCount.increment();
+                LogManager.warn("Session {} has been idle for {}s while its owner is alive ({})", record.sessionId,
+                    TimeUnit.MILLISECONDS.toSeconds(now - record.lastUsedAt), record.describeOwner());
+            }
+        });
+    }
+
+    /**
+     * Starts the sweeper on first registration if an idle timeout is configured
+     */
+    private static void startIdleSweeper() {
+        if (sweeperStarted.get()) {
+            return;
+        }
+        int idleTimeout = config.getDriverIdleTimeout();
+        if (idleTimeout <= 0 || !sweeperStarted.compareAndSet(false, true)) {
+            return;
+        }
+
+        long interval = Math.max(5, Math.min(60, idleTimeout / 4));
+        sweeper = Executors.newSingleThreadScheduledExecutor(DriverReaper.daemonThreads("driver-sweeper"));
+        sweeper.scheduleWithFixedDelay(() -> {
+            try {
+                sweepIdleSessions();
+            } catch (Exception e) {
+                LogManager.debug("Idle session sweep failed: {}", e.getMessage());
+            }
+        }, interval, interval, TimeUnit.SECONDS);
+        LogManager.debug("Idle driver sweeper started (idle timeout: {}s, interval: {}s)", idleTimeout, interval);
+    }
+
+    /**
+     * Installs a JVM shutdown hook that shuts down the driver pools and quits sessions still registered at exit
+     */
+    static void installShutdownHook() {
+        if (shutdownHookInstalled.get() || !config.isDriverShutdownHookEnabled()
+            || !shutdownHookInstalled.compareAndSet(false, true)) {
+            return;
+        }
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            if (sweeper != null) {
+                sweeper.shutdownNow();
+            }
+            DriverPool.shutdownAll();
+            int quit = quitAll();
+            shutdownQuitCount.add(quit);
+            DriverReaper.awaitDrain(config.getDriverQuitTimeout());
+        }, "driver-registry-shutdown"));
+    }
+
+    /**
+     * Gets registry statistics
+     *
+     * @return Registry statistics summary
+     */
+    public static String getRegistryStatistics() {
+        return String.format("Driver Registry - Registered: %d, Live: %d, Swept Orphaned: %d, Idle Warnings: %d, Quit At Exit: %d",
+            registeredCount.sum(), sessions.size(), sweptCount.sum(), idleWarningCount.sum(), shutdownQuitCount.sum());
+    }
+
+    /**
+     * Registered session information
+     */
+    private static final class SessionRecord {
+        private final WebDriver driver;
+        private final String sessionId;
+        private final Instant createdAt = Instant.now();
+        private volatile WeakReference<Thread> owner;
+        private volatile String threadName;
+        private volatile String browserType = "unknown";
+        private volatile long lastUsedAt;
+        private volatile boolean idleReported;
+
+        private SessionRecord(WebDriver driver) {
+            this.driver = driver;
+            SessionId id = driver instanceof RemoteWebDriver ? ((RemoteWebDriver) driver).getSessionId() : null;
+            this.sessionId = id != null ? id.toString() : driver.getClass().getSimpleName() + "@" + System.identityHashCode(driver);
+        }
+
+        private void touch() {
+            lastUsedAt = System.currentTimeMillis();
+            idleReported = false;
+        }
+
+        private String describeOwner() {
+            return "thread " + threadName + " (" + browserType + ")";
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Session %s - Thread: %s, Browser: %s, Created: %s, Last Used: %s",
+                sessionId, threadName, browserType, createdAt, Instant.ofEpochMilli(lastUsedAt));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.automation.framework.driver;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * DriverScope Annotation - Controls how long a test class keeps its WebDriver session
+ * Overrides the driver.scope configuration property for the annotated class and its subclasses
+ *
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Inherited
+public @interface DriverScope {
+
+    /**
+     * Lifecycle scope of the driver session
+     *
+     * @return Driver scope (default: METHOD)
+     */
+    Scope value() default Scope.METHOD;
+
+    /**
+     * Driver lifecycle scopes
+     */
+    enum Scope {
+        /** Fresh session for every test method */
+        METHOD,
+        /** Session reused by the methods of one class on a worker thread, quit after the class */
+        CLASS,
+        /** Session reused by everything a worker thread runs, quit when its &lt;test&gt; finishes */
+        THREAD,
+        /** Session reused by everything a worker thread runs, quit when the suite finishes */
+        SUITE;
+
+        /**
+         * Parses a scope from its configuration value
+         *
+         * @param value Configuration value (case-insensitive)
+         * @return Matching scope, or METHOD if the value is unknown
+         */
+        public static Scope fromValue(String value) {
+            if (value != null) {
+                for (Scope scope : values()) {
+                    if (scope.name().equalsIgnoreCase(value.trim())) {
+                        return scope;
+                    }
+                }
+            }
+            return METHOD;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.automation.framework.driver;
+
+import com.automation.framework.utils.LogManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Driver Startup Metrics - Records the cost of bringing up WebDriver sessions
+ * Counts the WebDriver commands the framework issues while setting up each session
+ * so that extra configuration round trips show up in the suite statistics,
+ * and times each startup phase for the startup-time report emitted at suite end
+ *
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+public final class DriverStartupMetrics {
+
+    private static final LongAdder sessionsSetUp = new LongAdder();
+    private static final LongAdder setupCommands = new LongAdder();
+    private static final AtomicInteger maxSetupCommands = new AtomicInteger();
+
+    // Per-phase timings in nanoseconds
+    private static final Map<Phase, PhaseTiming> phaseTimings = new EnumMap<>(Phase.class);
+
+    static {
+        for (Phase phase : Phase.values()) {
+            phaseTimings.put(phase, new PhaseTiming());
+        }
+    }
+
+    // Prevent instantiation
+    private DriverStartupMetrics() {
+        throw new UnsupportedOperationException("DriverStartupMetrics is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Driver startup phases
+     */
+    public enum Phase {
+        /** Driver binary resolution */
+        RESOLVE,
+        /** Driver service process launch */
+        LAUNCH,
+        /** New-session negotiation, including the browser launch */
+        HANDSHAKE,
+        /** Post-session configuration */
+        CONFIGURE
+    }
+
+    /**
+     * Records the number of WebDriver commands issued to set up one session
+     * The new-session command itself counts as one
+     *
+     * @param commands Number of commands issued
+     */
+    public static void recordSessionSetup(int commands) {
+        sessionsSetUp.increment();
+        setupCommands.add(commands);
+        maxSetupCommands.accumulateAndGet(commands, Math::max);
+    }
+
+    /**
+     * Records the duration of one startup phase
+     *
+     * @param phase The startup phase
+     * @param startNanos Value of System.nanoTime() when the phase started
+     */
+    public static void recordPhase(Phase phase, long startNanos) {
+        phaseTimings.get(phase).record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Gets the average number of setup commands per session
+     *
+     * @return Average setup commands, or 0 if no session was set up
+     */
+    public static double getAverageSetupCommands() {
+        long sessions = sessionsSetUp.sum();
+        return sessions > 0 ? (double) setupCommands.sum() / sessions : 0;
+    }
+
+    /**
+     * Gets the average duration of a startup phase
+     *
+     * @param phase The startup phase
+     * @return Average duration in milliseconds, or 0 if the phase was never recorded
+     */
+    public static double getAveragePhaseMillis(Phase phase) {
+        return phaseTimings.get(phase).averageMillis();
+    }
+
+    /**
+     * Gets driver startup statistics
+     *
+     * @return Startup statistics summary
+     */
+    public static String getStartupStatistics() {
+        return String.format("Driver Startup - Sessions: %d, Setup Commands: %d (avg %.1f, max %d per session)",
+            sessionsSetUp.sum(), setupCommands.sum(), getAverageSetupCommands(), maxSetupCommands.get());
+    }
+
+    /**
+     * Gets the startup-time report with one line per phase
+     *
+     * @return Startup-time report
+     */
+    public static String getStartupReport() {
+        StringBuilder report = new StringBuilder("Driver Startup Time Report");
+        for (Phase phase : Phase.values()) {
+            PhaseTiming timing = phaseTimings.get(phase);
+            report.append(String.format("%n  %-9s - Count: %d, Total: %d ms, Avg: %.1f ms, Max: %d ms",
+                phase, timing.count.sum(), TimeUnit.NANOSECONDS.toMillis(timing.totalNanos.sum()),
+                timing.averageMillis(), TimeUnit.NANOSECONDS.toMillis(timing.maxNanos.get())));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Logs the startup-time report
+     */
+    public static void logStartupReport() {
+        if (sessionsSetUp.sum() > 0) {
+            LogManager.info(getStartupReport());
+        }
+    }
+
+    /**
+     * Accumulated timing of one phase
+     */
+    private static final class PhaseTiming {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        private void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        private double averageMillis() {
+            long samples = count.sum();
+            return samples > 0 ? totalNanos.sum() / (samples * 1_000_000.0) : 0;
+        }
+    }
+}
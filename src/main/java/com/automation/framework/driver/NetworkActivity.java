@@ -0,0 +1,199 @@
+package com.automation.framework.driver;
+
+import com.automation.framework.utils.LogManager;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.json.Json;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Network Activity - Tracks in-flight requests so waits can end as soon as the page stops talking to the network
+ * Chromium sessions are tracked through CDP network events, which makes each idle check free of browser round trips;
+ * other sessions get a fetch/XHR interceptor installed in the page, checked with one script call
+ * Tracking starts on first use; requests already in flight at that point still count as activity when they finish
+ *
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+public final class NetworkActivity {
+
+    private static final Event<Map<String, Object>> REQUEST_WILL_BE_SENT =
+        new Event<>("Network.requestWillBeSent", input -> input.read(Json.MAP_TYPE));
+    private static final Event<Map<String, Object>> LOADING_FINISHED =
+        new Event<>("Network.loadingFinished", input -> input.read(Json.MAP_TYPE));
+    private static final Event<Map<String, Object>> LOADING_FAILED =
+        new Event<>("Network.loadingFailed", input -> input.read(Json.MAP_TYPE));
+
+    // Installs the interceptor once per document and reports {inflight, idleMillis}
+    private static final String INTERCEPTOR_SCRIPT =
+        "var w = window;" +
+        "if (!w.__testveriqNetwork) {" +
+        "  var state = w.__testveriqNetwork = {inflight: 0, last: Date.now()};" +
+        "  var started = function() { state.inflight++; state.last = Date.now(); };" +
+        "  var ended = function() { state.inflight = Math.max(0, state.inflight - 1); state.last = Date.now(); };" +
+        "  if (w.fetch) {" +
+        "    var fetch = w.fetch;" +
+        "    w.fetch = function() {" +
+        "      started();" +
+        "      return fetch.apply(this, arguments).then(function(response) { ended(); return response; }," +
+        "        function(error) { ended(); throw error; });" +
+        "    };" +
+        "  }" +
+        "  if (w.XMLHttpRequest) {" +
+        "    var send = XMLHttpRequest.prototype.send;" +
+        "    XMLHttpRequest.prototype.send = function() {" +
+        "      started(); this.addEventListener('loadend', ended); return send.apply(this, arguments);" +
+        "    };" +
+        "  }" +
+        "}" +
+        "var last = w.__testveriqNetwork.last;" +
+        "if (w.performance && performance.getEntriesByType) {" +
+        "  var origin = performance.timeOrigin || performance.timing.navigationStart;" +
+        "  performance.getEntriesByType('resource').forEach(function(entry) {" +
+        "    last = Math.max(last, origin + entry.responseEnd);" +
+        "  });" +
+        "}" +
+        "return {inflight: w.__testveriqNetwork.inflight, idleMillis: Math.max(0, Date.now() - last)};";
+
+    private static final Map<WebDriver, SessionActivity> sessions = new ConcurrentHashMap<>();
+
+    // Tracking statistics
+    private static final LongAdder trackedSessions = new LongAdder();
+    private static final LongAdder scriptChecks = new LongAdder();
+
+    // Prevent instantiation
+    private NetworkActivity() {
+        throw new UnsupportedOperationException("NetworkActivity is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Checks whether the page's network activity has settled
+     *
+     * @param driver The WebDriver instance
+     * @param quietPeriod How long no request may have started or finished
+     * @param maxInflight Number of requests allowed to stay open (e.g. long polling)
+     * @return true if at most maxInflight requests are open and the network has been quiet for the quiet period
+     */
+    public static boolean isIdle(WebDriver driver, Duration quietPeriod, int maxInflight) {
+        SessionActivity activity = sessions.computeIfAbsent(driver, NetworkActivity::startTracking);
+        if (activity.devTools != null) {
+            return activity.inflight.size() <= maxInflight
+                && System.nanoTime() - activity.lastActivityNanos >= quietPeriod.toNanos();
+        }
+
+        Map<?, ?> state = checkInPage(driver);
+        if (state == null) {
+            return true;
+        }
+        return ((Number) state.get("inflight")).intValue() <= maxInflight
+            && ((Number) state.get("idleMillis")).longValue() >= quietPeriod.toMillis();
+    }
+
+    /**
+     * Describes the current network activity for timeout messages
+     *
+     * @param driver The WebDriver instance
+     * @return Description of in-flight requests
+     */
+    public static String describe(WebDriver driver) {
+        SessionActivity activity = sessions.get(driver);
+        if (activity != null && activity.devTools != null) {
+            return String.format("%d request(s) in flight, last activity %d ms ago", activity.inflight.size(),
+                Duration.ofNanos(System.nanoTime() - activity.lastActivityNanos).toMillis());
+        }
+        Map<?, ?> state = checkInPage(driver);
+        return state != null
+            ? String.format("%s request(s) in flight, last activity %s ms ago", state.get("inflight"), state.get("idleMillis"))
+            : "network activity unknown";
+    }
+
+    /**
+     * Stops tracking a session that has quit
+     *
+     * @param driver The WebDriver instance
+     */
+    public static void release(WebDriver driver) {
+        sessions.remove(driver);
+    }
+
+    /**
+     * Gets network tracking statistics
+     *
+     * @return Network tracking statistics summary
+     */
+    public static String getNetworkStatistics() {
+        return String.format("Network Activity - CDP Tracked Sessions: %d, In-Page Checks: %d",
+            trackedSessions.sum(), scriptChecks.sum());
+    }
+
+    /**
+     * Starts tracking a session through CDP when the browser supports it
+     *
+     * @param driver The WebDriver instance
+     * @return Session activity; without a DevTools connection it only marks the session as script-checked
+     */
+    private static SessionActivity startTracking(WebDriver driver) {
+        SessionActivity activity = new SessionActivity();
+        if (!(driver instanceof ChromiumDriver)) {
+            return activity;
+        }
+        try {
+            DevTools devTools = ((ChromiumDriver) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            devTools.send(new Command<>("Network.enable", Collections.emptyMap()));
+            devTools.addListener(REQUEST_WILL_BE_SENT, event -> activity.started(String.valueOf(event.get("requestId"))));
+            devTools.addListener(LOADING_FINISHED, event -> activity.ended(String.valueOf(event.get("requestId"))));
+            devTools.addListener(LOADING_FAILED, event -> activity.ended(String.valueOf(event.get("requestId"))));
+            activity.devTools = devTools;
+            trackedSessions.increment();
+            LogManager.debug("Tracking network activity through DevTools");
+        } catch (Exception e) {
+            LogManager.debug("DevTools unavailable, network activity will be checked in the page: {}", e.getMessage());
+        }
+        return activity;
+    }
+
+    /**
+     * Reads the in-page interceptor state, installing the interceptor if needed
+     *
+     * @param driver The WebDriver instance
+     * @return {inflight, idleMillis}, or null if the driver cannot run scripts
+     */
+    private static Map<?, ?> checkInPage(WebDriver driver) {
+        if (!(driver instanceof JavascriptExecutor)) {
+            return null;
+        }
+        scriptChecks.increment();
+        Object state = ((JavascriptExecutor) driver).executeScript(INTERCEPTOR_SCRIPT);
+        return state instanceof Map ? (Map<?, ?>) state : null;
+    }
+
+    /**
+     * Requests in flight for one session, fed by CDP events
+     */
+    private static final class SessionActivity {
+        private final Set<String> inflight = ConcurrentHashMap.newKeySet();
+        private volatile long lastActivityNanos = System.nanoTime();
+        private volatile DevTools devTools;
+
+        private void started(String requestId) {
+            inflight.add(requestId);
+            lastActivityNanos = System.nanoTime();
+        }
+
+        private void ended(String requestId) {
+            inflight.remove(requestId);
+            lastActivityNanos = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.automation.framework.driver;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * PageLoadProfile Annotation - Overrides the page load strategy and URL blocklist for a test
+ * A method annotation takes precedence over a class annotation; anything not set falls back to configuration
+ *
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Inherited
+public @interface PageLoadProfile {
+
+    /**
+     * Page load strategy (normal, eager or none)
+     *
+     * @return Page load strategy (default: page.load.strategy)
+     */
+    String strategy() default "";
+
+    /**
+     * URL patterns blocked in addition to the configured blocklist
+     *
+     * @return Additional blocked URL patterns
+     */
+    String[] block() default {};
+
+    /**
+     * Whether the network.blocked.urls patterns apply to this test
+     *
+     * @return true to keep the configured blocklist (default: true)
+     */
+    boolean useConfiguredBlocklist() default true;
+}
@@ -0,0 +1,172 @@
+package com.automation.framework.driver;
+
+import com.automation.framework.config.ConfigLoader;
+import com.automation.framework.utils.LogManager;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriver;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Page Load Settings - Page load strategy and blocked URL patterns for new and reused sessions
+ * Resolved per test from {@link PageLoadProfile} or configuration and made available to
+ * DriverFactory through the current thread
+ *
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+public final class PageLoadSettings {
+
+    private static final ConfigLoader config = ConfigLoader.getInstance();
+    private static final ThreadLocal<PageLoadSettings> currentSettings = new ThreadLocal<>();
+
+    private final PageLoadStrategy strategy;
+    private final List<String> blockedUrls;
+
+    private PageLoadSettings(PageLoadStrategy strategy, List<String> blockedUrls) {
+        this.strategy = strategy;
+        this.blockedUrls = Collections.unmodifiableList(blockedUrls);
+    }
+
+    /**
+     * Creates settings from configuration
+     *
+     * @return Configured page load settings
+     */
+    public static PageLoadSettings fromConfig() {
+        return new PageLoadSettings(parseStrategy(config.getPageLoadStrategy()), config.getBlockedUrlPatterns());
+    }
+
+    /**
+     * Resolves the settings for a test method from its annotations and configuration
+     *
+     * @param testClass The test class (annotations are inherited from superclasses)
+     * @param method The test method
+     * @return Page load settings for the test
+     */
+    public static PageLoadSettings resolve(Class<?> testClass, Method method) {
+        PageLoadProfile profile = method.getAnnotation(PageLoadProfile.class);
+        if (profile == null) {
+            profile = testClass.getAnnotation(PageLoadProfile.class);
+        }
+        if (profile == null) {
+            return fromConfig();
+        }
+
+        PageLoadStrategy strategy = profile.strategy().isEmpty()
+            ? parseStrategy(config.getPageLoadStrategy())
+            : parseStrategy(profile.strategy());
+
+        List<String> blockedUrls = new ArrayList<>();
+        if (profile.useConfiguredBlocklist()) {
+            blockedUrls.addAll(config.getBlockedUrlPatterns());
+        }
+        Arrays.stream(profile.block()).filter(pattern -> !blockedUrls.contains(pattern)).forEach(blockedUrls::add);
+
+        return new PageLoadSettings(strategy, blockedUrls);
+    }
+
+    /**
+     * Gets the settings for sessions created on the current thread
+     *
+     * @return Settings set for the current thread, or the configured settings
+     */
+    public static PageLoadSettings current() {
+        PageLoadSettings settings = currentSettings.get();
+        return settings != null ? settings : fromConfig();
+    }
+
+    /**
+     * Sets the settings for sessions created on the current thread
+     *
+     * @param settings Page load settings
+     */
+    public static void setCurrent(PageLoadSettings settings) {
+        currentSettings.set(settings);
+    }
+
+    /**
+     * Clears the settings of the current thread
+     */
+    public static void clearCurrent() {
+        currentSettings.remove();
+    }
+
+    /**
+     * Gets the page load strategy
+     *
+     * @return Page load strategy
+     */
+    public PageLoadStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Gets the blocked URL patterns
+     *
+     * @return Blocked URL patterns (empty if nothing is blocked)
+     */
+    public List<String> getBlockedUrls() {
+        return blockedUrls;
+    }
+
+    /**
+     * Checks whether an existing session was created with this page load strategy
+     * The strategy is a session capability, so a mismatch requires a new session
+     *
+     * @param driver The WebDriver instance
+     * @return true if the session uses this strategy (or its strategy is unknown)
+     */
+    public boolean matchesSession(WebDriver driver) {
+        if (!(driver instanceof HasCapabilities)) {
+            return true;
+        }
+        Capabilities capabilities = ((HasCapabilities) driver).getCapabilities();
+        Object sessionStrategy = capabilities.getCapability("pageLoadStrategy");
+        return sessionStrategy == null || strategy.toString().equalsIgnoreCase(sessionStrategy.toString());
+    }
+
+    /**
+     * Parses a page load strategy, falling back to normal for unknown values
+     *
+     * @param value Strategy name
+     * @return Page load strategy
+     */
+    private static PageLoadStrategy parseStrategy(String value) {
+        PageLoadStrategy strategy = value != null ? PageLoadStrategy.fromString(value.trim().toLowerCase()) : null;
+        if (strategy == null) {
+            LogManager.warn("Unknown page load strategy '{}', using normal", value);
+            return PageLoadStrategy.NORMAL;
+        }
+        return strategy;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof PageLoadSettings)) {
+            return false;
+        }
+        PageLoadSettings that = (PageLoadSettings) other;
+        return strategy == that.strategy && blockedUrls.equals(that.blockedUrls);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(strategy, blockedUrls);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PageLoadSettings{strategy=%s, blockedUrls=%s}", strategy, blockedUrls);
+    }
+}
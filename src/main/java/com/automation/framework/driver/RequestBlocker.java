@@ -0,0 +1,146 @@
+package com.automation.framework.driver;
+
+import com.automation.framework.utils.LogManager;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.json.Json;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request Blocker - Blocks third-party and heavy requests on Chromium sessions through CDP
+ * Applies Network.setBlockedURLs patterns and counts the requests the browser refused to load,
+ * so suites stop paying for analytics, ads, fonts and media they never assert on
+ *
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+public final class RequestBlocker {
+
+    // Fired for every failed request; blocked ones carry a blockedReason
+    private static final Event<Map<String, Object>> LOADING_FAILED =
+        new Event<>("Network.loadingFailed", input -> input.read(Json.MAP_TYPE));
+
+    // Patterns currently applied and DevTools connections, per session
+    private static final Map<WebDriver, List<String>> appliedPatterns = new ConcurrentHashMap<>();
+    private static final Map<WebDriver, DevTools> devToolsSessions = new ConcurrentHashMap<>();
+
+    // Blocking statistics
+    private static final LongAdder blockingSessions = new LongAdder();
+    private static final LongAdder blockedRequests = new LongAdder();
+
+    // Prevent instantiation
+    private RequestBlocker() {
+        throw new UnsupportedOperationException("RequestBlocker is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Applies a URL blocklist to a session, replacing any patterns applied before
+     * Does nothing for non-Chromium sessions or when the patterns are unchanged
+     *
+     * @param driver The WebDriver instance
+     * @param patterns URL patterns with * wildcards (empty clears the blocklist)
+     * @return true if a CDP command was sent
+     */
+    public static boolean apply(WebDriver driver, List<String> patterns) {
+        if (!(driver instanceof ChromiumDriver)) {
+            if (!patterns.isEmpty()) {
+                LogManager.debug("URL blocking is only supported on Chromium browsers");
+            }
+            return false;
+        }
+        List<String> previous = appliedPatterns.getOrDefault(driver, Collections.emptyList());
+        if (previous.equals(patterns)) {
+            return false;
+        }
+
+        Map<String, Object> parameters = Map.of("urls", new ArrayList<>(patterns));
+        try {
+            Optional<DevTools> devTools = devToolsFor(driver);
+            if (devTools.isPresent()) {
+                devTools.get().send(new Command<>("Network.setBlockedURLs", parameters));
+            } else {
+                // No DevTools connection: block through the driver, without counting
+                ChromiumDriver chromiumDriver = (ChromiumDriver) driver;
+                chromiumDriver.executeCdpCommand("Network.enable", Collections.emptyMap());
+                chromiumDriver.executeCdpCommand("Network.setBlockedURLs", parameters);
+            }
+        } catch (Exception e) {
+            LogManager.warn("Could not apply URL blocklist: {}", e.getMessage());
+            return false;
+        }
+
+        if (previous.isEmpty()) {
+            blockingSessions.increment();
+        }
+        appliedPatterns.put(driver, List.copyOf(patterns));
+        LogManager.debug("Blocking {} URL pattern(s): {}", patterns.size(), patterns);
+        return true;
+    }
+
+    /**
+     * Forgets a session that has quit
+     *
+     * @param driver The WebDriver instance
+     */
+    public static void release(WebDriver driver) {
+        appliedPatterns.remove(driver);
+        devToolsSessions.remove(driver);
+    }
+
+    /**
+     * Gets the number of requests blocked so far
+     *
+     * @return Blocked request count
+     */
+    public static long getBlockedRequestCount() {
+        return blockedRequests.sum();
+    }
+
+    /**
+     * Gets request blocking statistics
+     *
+     * @return Blocking statistics summary
+     */
+    public static String getBlockerStatistics() {
+        return String.format("Request Blocking - Sessions: %d, Blocked Requests: %d",
+            blockingSessions.sum(), blockedRequests.sum());
+    }
+
+    /**
+     * Gets the DevTools connection of a session, opening it and subscribing to blocked requests on first use
+     *
+     * @param driver The Chromium WebDriver instance
+     * @return DevTools connection, or empty if the browser's CDP version is not available
+     */
+    private static Optional<DevTools> devToolsFor(WebDriver driver) {
+        DevTools existing = devToolsSessions.get(driver);
+        if (existing != null) {
+            return Optional.of(existing);
+        }
+        try {
+            DevTools devTools = ((ChromiumDriver) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            devTools.send(new Command<>("Network.enable", Collections.emptyMap()));
+            devTools.addListener(LOADING_FAILED, event -> {
+                if (event.get("blockedReason") != null) {
+                    blockedRequests.increment();
+                }
+            });
+            devToolsSessions.put(driver, devTools);
+            return Optional.of(devTools);
+        } catch (Exception e) {
+            LogManager.debug("DevTools unavailable, blocked requests will not be counted: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
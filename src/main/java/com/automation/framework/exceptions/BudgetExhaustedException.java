@@ -0,0 +1,33 @@
+package com.automation.framework.exceptions;
+
+import org.openqa.selenium.TimeoutException;
+
+/**
+ * Budget Exhausted Exception - Thrown when a test has used up its wait time budget
+ * Extends Selenium's TimeoutException so existing timeout handling still applies,
+ * while letting retry loops recognise that further attempts cannot succeed in time
+ * 
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+public class BudgetExhaustedException extends TimeoutException {
+    
+    /**
+     * Creates a BudgetExhaustedException with message and cause
+     * 
+     * @param message Exception message
+     * @param cause The timeout that ran into the end of the budget
+     */
+    public BudgetExhaustedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+    
+    /**
+     * Creates a BudgetExhaustedException with message only
+     * 
+     * @param message Exception message
+     */
+    public BudgetExhaustedException(String message) {
+        super(message);
+    }
+}
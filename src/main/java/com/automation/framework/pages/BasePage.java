@@ -0,0 +1,196 @@
+package com.automation.framework.pages;
+
+import com.automation.framework.config.ConfigLoader;
+import com.automation.framework.driver.DriverManager;
+import com.automation.framework.utils.LocatorScripts;
+import com.automation.framework.utils.LogManager;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+import org.openqa.selenium.support.pagefactory.Annotations;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Base Page - Base class for page objects with lazy element fields
+ * WebElement fields annotated with {@link FindBy}, {@link FindBys} or {@link FindAll} become proxies that find
+ * their element on first use, keep it for the life of the page instance and find it again when it goes stale.
+ * When the page is constructed, every field locator is resolved in one script call so that elements already
+ * rendered need no findElement command at all. List&lt;WebElement&gt; fields are looked up on every use
+ * 
+ * <pre>
+ * public class LoginPage extends BasePage {
+ *     &#64;FindBy(id = "username")
+ *     private WebElement username;
+ *     
+ *     public void enterUsername(String name) {
+ *         ElementActions.smartSendKeys(locatorOf("username"), name, "username");
+ *         // or use the element directly: username.sendKeys(name);
+ *     }
+ * }
+ * </pre>
+ * 
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+public abstract class BasePage {
+    
+    private static final ConfigLoader config = ConfigLoader.getInstance();
+    
+    // Returns the first match per locator, or null
+    private static final String PREFETCH_SCRIPT =
+        LocatorScripts.FIND_ALL_FUNCTION +
+        "var locators = arguments[0], elements = [];" +
+        "for (var i = 0; i < locators.length; i++) { elements.push(findAll(locators[i])[0] || null); }" +
+        "return elements;";
+    
+    // Page statistics
+    private static final LongAdder pagesCreated = new LongAdder();
+    private static final LongAdder elementsPrefetched = new LongAdder();
+    private static final LongAdder prefetchCalls = new LongAdder();
+    
+    protected final WebDriver driver;
+    private final Map<String, ElementProxy> elements = new LinkedHashMap<>();
+    
+    /**
+     * Creates the page for the current thread's driver and sets up its element fields
+     */
+    protected BasePage() {
+        this.driver = DriverManager.getDriver();
+        initElements();
+        pagesCreated.increment();
+        if (config.isPagePrefetchEnabled()) {
+            prefetch();
+        }
+    }
+    
+    /**
+     * Gets the locator of an element field
+     * 
+     * @param fieldName Field name
+     * @return The field's locator
+     * @throws IllegalArgumentException if the field is not an element field of this page
+     */
+    protected By locatorOf(String fieldName) {
+        ElementProxy proxy = elements.get(fieldName);
+        if (proxy == null) {
+            throw new IllegalArgumentException("No element field '" + fieldName + "' on " + getClass().getSimpleName());
+        }
+        return proxy.getLocator();
+    }
+    
+    /**
+     * Drops every cached element, e.g. after an action that re-renders the page
+     */
+    protected void invalidateElements() {
+        elements.values().forEach(ElementProxy::invalidate);
+    }
+    
+    /**
+     * Resolves every element field that has not been found yet in one script call
+     * Fields whose element is not rendered yet stay lazy
+     */
+    protected void prefetch() {
+        List<ElementProxy> pending = new ArrayList<>();
+        List<Map<String, Object>> locators = new ArrayList<>();
+        for (ElementProxy proxy : elements.values()) {
+            Optional<Map<String, Object>> scriptLocator = LocatorScripts.toScriptLocator(proxy.getLocator());
+            if (!proxy.isResolved() && scriptLocator.isPresent()) {
+                pending.add(proxy);
+                locators.add(scriptLocator.get());
+            }
+        }
+        if (pending.isEmpty() || !(driver instanceof JavascriptExecutor)) {
+            return;
+        }
+        
+        try {
+            prefetchCalls.increment();
+            Object found = ((JavascriptExecutor) driver).executeScript(PREFETCH_SCRIPT, locators);
+            if (!(found instanceof List) || ((List<?>) found).size() != pending.size()) {
+                return;
+            }
+            int resolved = 0;
+            for (int i = 0; i < pending.size(); i++) {
+                Object element = ((List<?>) found).get(i);
+                if (element instanceof WebElement) {
+                    pending.get(i).prefetched((WebElement) element);
+                    resolved++;
+                }
+            }
+            elementsPrefetched.add(resolved);
+            LogManager.debug("Prefetched {} of {} elements for {}", resolved, pending.size(), getClass().getSimpleName());
+        } catch (WebDriverException e) {
+            LogManager.debug("Element prefetch failed for {}: {}", getClass().getSimpleName(), e.getMessage());
+        }
+    }
+    
+    /**
+     * Gets page object statistics
+     * 
+     * @return Page object statistics summary
+     */
+    public static String getPageStatistics() {
+        return String.format("Page Objects - Pages: %d, Prefetched Elements: %d (%d script calls), Lazy Lookups: %d, "
+                + "Cached Uses: %d, Stale Refreshes: %d",
+            pagesCreated.sum(), elementsPrefetched.sum(), prefetchCalls.sum(), ElementProxy.lazyLookups.sum(),
+            ElementProxy.cachedUses.sum(), ElementProxy.staleRefreshes.sum());
+    }
+    
+    /**
+     * Replaces annotated WebElement and List&lt;WebElement&gt; fields, including inherited ones, with proxies
+     */
+    private void initElements() {
+        for (Class<?> type = getClass(); type != BasePage.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (!field.isAnnotationPresent(FindBy.class) && !field.isAnnotationPresent(FindBys.class)
+                    && !field.isAnnotationPresent(FindAll.class)) {
+                    continue;
+                }
+                By locator = new Annotations(field).buildBy();
+                try {
+                    field.setAccessible(true);
+                    if (field.getType() == WebElement.class) {
+                        ElementProxy proxy = ElementProxy.create(locator, field.getName());
+                        elements.put(field.getName(), proxy);
+                        field.set(this, proxy.newProxy());
+                    } else if (field.getType() == List.class) {
+                        field.set(this, newListProxy(locator));
+                    }
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException("Cannot set up element field " + type.getSimpleName() + "." + field.getName(), e);
+                }
+            }
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private List<WebElement> newListProxy(By locator) {
+        return (List<WebElement>) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {List.class},
+            (proxy, method, args) -> {
+                if ("toString".equals(method.getName()) && args == null) {
+                    return "Page elements (" + locator + ")";
+                }
+                List<WebElement> current = Collections.unmodifiableList(driver.findElements(locator));
+                try {
+                    return method.invoke(current, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+    }
+}
@@ -0,0 +1,131 @@
+package com.automation.framework.pages;
+
+import com.automation.framework.utils.LogManager;
+import com.automation.framework.utils.WaitFactory;
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Element Proxy - Lazy WebElement behind a page-object field
+ * Finds the element on first use, keeps it for the life of the page instance and finds it again
+ * once if a call fails with StaleElementReferenceException
+ * 
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+final class ElementProxy implements InvocationHandler {
+    
+    // Proxy statistics
+    static final LongAdder lazyLookups = new LongAdder();
+    static final LongAdder cachedUses = new LongAdder();
+    static final LongAdder staleRefreshes = new LongAdder();
+    
+    private final By locator;
+    private final String name;
+    private volatile WebElement element;
+    
+    private ElementProxy(By locator, String name) {
+        this.locator = locator;
+        this.name = name;
+    }
+    
+    /**
+     * Creates the proxy for a page-object field
+     * 
+     * @param locator The element locator
+     * @param name Field name for logging
+     * @return Proxy handler
+     */
+    static ElementProxy create(By locator, String name) {
+        return new ElementProxy(locator, name);
+    }
+    
+    /**
+     * Creates the WebElement proxy backed by this handler
+     * 
+     * @return WebElement proxy
+     */
+    WebElement newProxy() {
+        return (WebElement) Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class<?>[] {WebElement.class, WrapsElement.class, Locatable.class}, this);
+    }
+    
+    By getLocator() {
+        return locator;
+    }
+    
+    boolean isResolved() {
+        return element != null;
+    }
+    
+    /**
+     * Sets the element found by a batch prefetch
+     * 
+     * @param found The element
+     */
+    void prefetched(WebElement found) {
+        element = found;
+    }
+    
+    /**
+     * Drops the cached element so the next call finds it again
+     */
+    void invalidate() {
+        element = null;
+    }
+    
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "toString":
+                return "Page element '" + name + "' (" + locator + ")";
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "getWrappedElement":
+                return resolve();
+            default:
+                break;
+        }
+        
+        WebElement target = resolve();
+        try {
+            return call(target, method, args);
+        } catch (StaleElementReferenceException e) {
+            LogManager.debug("Page element '{}' went stale, finding it again", name);
+            staleRefreshes.increment();
+            element = null;
+            return call(resolve(), method, args);
+        }
+    }
+    
+    private WebElement resolve() {
+        WebElement current = element;
+        if (current != null) {
+            cachedUses.increment();
+            return current;
+        }
+        lazyLookups.increment();
+        current = WaitFactory.waitForElementPresent(locator);
+        element = current;
+        return current;
+    }
+    
+    private static Object call(WebElement target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
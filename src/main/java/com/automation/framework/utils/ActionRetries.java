@@ -0,0 +1,264 @@
+package com.automation.framework.utils;
+
+import com.automation.framework.config.ConfigLoader;
+import com.automation.framework.exceptions.BudgetExhaustedException;
+import org.openqa.selenium.By;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Action Retries - Retry policies and retry accounting for {@link ElementActions}
+ * Picks the recovery between attempts from the failure: stale references are retried at once,
+ * intercepted and not-interactable elements are retried once they can take a click, and anything
+ * else backs off with jitter. Policies can be replaced per action type and attempt caps come from configuration
+ *
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+public final class ActionRetries {
+
+    private static final ConfigLoader config = ConfigLoader.getInstance();
+
+    // Policies registered for individual action types; others use the standard policy
+    private static final Map<String, ActionRetryPolicy> policies = new ConcurrentHashMap<>();
+
+    // Retry accounting per action type
+    private static final Map<String, ActionStats> stats = new ConcurrentHashMap<>();
+    private static final LongAdder immediateRetries = new LongAdder();
+    private static final LongAdder conditionRetries = new LongAdder();
+    private static final LongAdder backoffRetries = new LongAdder();
+
+    private static final ActionRetryPolicy IMMEDIATE = (failure, attempt, target) -> {
+        immediateRetries.increment();
+        return true;
+    };
+
+    private static final ActionRetryPolicy AWAIT_ACTIONABLE = ActionRetries::awaitActionable;
+
+    private static final ActionRetryPolicy JITTERED_BACKOFF = ActionRetries::backOff;
+
+    private static final ActionRetryPolicy STANDARD = (failure, attempt, target) -> {
+        if (hasCause(failure, StaleElementReferenceException.class)) {
+            return IMMEDIATE.beforeRetry(failure, attempt, target);
+        }
+        // ElementClickInterceptedException is an ElementNotInteractableException
+        if (hasCause(failure, ElementNotInteractableException.class)) {
+            return AWAIT_ACTIONABLE.beforeRetry(failure, attempt, target);
+        }
+        return JITTERED_BACKOFF.beforeRetry(failure, attempt, target);
+    };
+
+    // Prevent instantiation
+    private ActionRetries() {
+        throw new UnsupportedOperationException("ActionRetries is a utility class and cannot be instantiated");
+    }
+
+    // ========== POLICIES ==========
+
+    /**
+     * Gets the policy that retries straight away
+     *
+     * @return Immediate retry policy
+     */
+    public static ActionRetryPolicy immediate() {
+        return IMMEDIATE;
+    }
+
+    /**
+     * Gets the policy that waits until the target is displayed, enabled and not covered by another element,
+     * bounded by action.retry.condition.timeout.ms
+     *
+     * @return Wait-for-condition retry policy
+     */
+    public static ActionRetryPolicy awaitActionable() {
+        return AWAIT_ACTIONABLE;
+    }
+
+    /**
+     * Gets the policy that sleeps for an exponentially growing, jittered delay
+     *
+     * @return Jittered backoff retry policy
+     */
+    public static ActionRetryPolicy jitteredBackoff() {
+        return JITTERED_BACKOFF;
+    }
+
+    /**
+     * Gets the policy that chooses immediate, wait-for-condition or backoff retry from the failure
+     *
+     * @return Standard retry policy
+     */
+    public static ActionRetryPolicy standard() {
+        return STANDARD;
+    }
+
+    /**
+     * Registers the retry policy for an action type
+     *
+     * @param actionType Action type, e.g. click or send-keys
+     * @param policy The policy to use
+     */
+    public static void setPolicy(String actionType, ActionRetryPolicy policy) {
+        policies.put(actionType, policy);
+    }
+
+    /**
+     * Restores the standard policy for every action type
+     */
+    public static void resetPolicies() {
+        policies.clear();
+    }
+
+    /**
+     * Gets the retry policy for an action type
+     *
+     * @param actionType Action type
+     * @return The registered policy, or the standard policy
+     */
+    public static ActionRetryPolicy getPolicy(String actionType) {
+        return policies.getOrDefault(actionType, STANDARD);
+    }
+
+    /**
+     * Gets the maximum number of attempts for an action type
+     *
+     * @param actionType Action type
+     * @return Maximum attempts, at least 1
+     */
+    public static int getMaxAttempts(String actionType) {
+        return Math.max(1, config.getActionRetryMaxAttempts(actionType));
+    }
+
+    // ========== ACCOUNTING ==========
+
+    /**
+     * Records one action execution
+     *
+     * @param actionType Action type
+     * @param attempts Attempts made
+     * @param lostNanos Time spent on failed attempts and between attempts
+     * @param succeeded true if an attempt succeeded
+     */
+    static void recordAction(String actionType, int attempts, long lostNanos, boolean succeeded) {
+        ActionStats entry = stats.computeIfAbsent(actionType, key -> new ActionStats());
+        entry.actions.increment();
+        if (attempts > 1) {
+            entry.retries.add(attempts - 1);
+        }
+        if (!succeeded) {
+            entry.failures.increment();
+        }
+        entry.lostNanos.add(lostNanos);
+    }
+
+    /**
+     * Gets action retry statistics
+     *
+     * @return Retry statistics summary, with retries and time lost per action type
+     */
+    public static String getRetryStatistics() {
+        long actions = stats.values().stream().mapToLong(entry -> entry.actions.sum()).sum();
+        long retries = stats.values().stream().mapToLong(entry -> entry.retries.sum()).sum();
+        long failures = stats.values().stream().mapToLong(entry -> entry.failures.sum()).sum();
+        long lostMillis = TimeUnit.NANOSECONDS.toMillis(stats.values().stream().mapToLong(entry -> entry.lostNanos.sum()).sum());
+        String perAction = new TreeMap<>(stats).entrySet().stream()
+            .filter(entry -> entry.getValue().retries.sum() > 0 || entry.getValue().failures.sum() > 0)
+            .map(entry -> String.format("%s: %d retries, %d ms", entry.getKey(), entry.getValue().retries.sum(),
+                TimeUnit.NANOSECONDS.toMillis(entry.getValue().lostNanos.sum())))
+            .collect(Collectors.joining("; "));
+        return String.format("Action Retries - Actions: %d, Retries: %d (immediate %d, on condition %d, backoff %d), "
+                + "Failed: %d, Time Lost: %d ms%s",
+            actions, retries, immediateRetries.sum(), conditionRetries.sum(), backoffRetries.sum(), failures, lostMillis,
+            perAction.isEmpty() ? "" : " [" + perAction + "]");
+    }
+
+    // ========== POLICY IMPLEMENTATIONS ==========
+
+    private static boolean awaitActionable(Exception failure, int attempt, Object target) {
+        conditionRetries.increment();
+        Duration timeout = Duration.ofMillis(config.getActionRetryConditionTimeout());
+        try {
+            if (target instanceof By) {
+                WaitFactory.waitForElementUnobscured((By) target, timeout);
+            } else if (target instanceof WebElement) {
+                WaitFactory.waitForElementUnobscured((WebElement) target, timeout);
+            }
+        } catch (BudgetExhaustedException e) {
+            throw e;
+        } catch (WebDriverException e) {
+            // Let the next attempt report the actual failure
+            LogManager.debug("Target still not actionable before retry {}: {}", attempt + 1, e.getMessage());
+        }
+        return true;
+    }
+
+    private static boolean backOff(Exception failure, int attempt, Object target) {
+        backoffRetries.increment();
+        long delay = backoffMillis(attempt);
+        Duration remaining = TestDeadline.remaining();
+        if (remaining != null) {
+            delay = Math.min(delay, remaining.toMillis());
+        }
+        try {
+            Thread.sleep(delay);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Computes the backoff before the next attempt: the base delay doubled per failed attempt,
+     * capped, with up to action.retry.jitter of it taken off at random
+     *
+     * @param attempt The number of the attempt that failed
+     * @return Delay in milliseconds
+     */
+    static long backoffMillis(int attempt) {
+        long base = Math.max(0, config.getActionRetryBackoff());
+        long delay = Math.min(config.getActionRetryMaxBackoff(), base << Math.min(attempt - 1, 20));
+        double jitter = Math.min(1.0, Math.max(0.0, config.getActionRetryJitter()));
+        return delay - (long) (delay * jitter * ThreadLocalRandom.current().nextDouble());
+    }
+
+    /**
+     * Checks a failure and its causes for an exception type
+     *
+     * @param failure The failure
+     * @param type Exception type to look for
+     * @return true if the failure or one of its causes is of the type
+     */
+    static boolean hasCause(Throwable failure, Class<? extends Throwable> type) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return true;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Retry accounting of one action type
+     */
+    private static final class ActionStats {
+        private final LongAdder actions = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder lostNanos = new LongAdder();
+    }
+}
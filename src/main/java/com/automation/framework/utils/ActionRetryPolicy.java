@@ -0,0 +1,23 @@
+package com.automation.framework.utils;
+
+/**
+ * Action Retry Policy - Decides how an element action recovers between a failed attempt and the next one
+ * Policies are registered per action type with {@link ActionRetries#setPolicy(String, ActionRetryPolicy)};
+ * the number of attempts is capped by configuration, not by the policy
+ *
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+@FunctionalInterface
+public interface ActionRetryPolicy {
+
+    /**
+     * Prepares the next attempt, for example by waiting for a condition or backing off
+     *
+     * @param failure The exception thrown by the failed attempt
+     * @param attempt The number of the attempt that failed, starting at 1
+     * @param target The By locator or WebElement the action works on
+     * @return true to retry, false to give up and rethrow the failure
+     */
+    boolean beforeRetry(Exception failure, int attempt, Object target);
+}
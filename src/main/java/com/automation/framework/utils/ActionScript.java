@@ -0,0 +1,396 @@
+package com.automation.framework.utils;
+
+import com.automation.framework.driver.DriverManager;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.Actions;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Action Script - Fluent builder for a sequence of user gestures performed as one W3C actions payload
+ * Hovers, clicks, key presses and drags over several locators are accumulated, the locators are resolved
+ * in one script call and the chain is dispatched with a single perform(). Steps whose targets only show up
+ * after earlier gestures go into a follow-up payload. The chain is retried as a unit with the same retry
+ * policies and recovery as the other element actions
+ * 
+ * <pre>
+ * ActionScript.create("open account menu")
+ *     .hover(menu)
+ *     .click(accountItem)
+ *     .press(Keys.ESCAPE)
+ *     .perform();
+ * </pre>
+ * 
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+public final class ActionScript {
+    
+    // Returns the first match per locator if visible, else null, and whether it is inside the viewport;
+    // scrolls the first arguments[1] locators (the targets of the next step) into view first
+    private static final String RESOLVE_SCRIPT =
+        LocatorScripts.FIND_ALL_FUNCTION +
+        LocatorScripts.IS_VISIBLE_FUNCTION +
+        "function inView(e) {" +
+        "  var rect = e.getBoundingClientRect();" +
+        "  return rect.bottom >= 0 && rect.right >= 0 && rect.top <= window.innerHeight && rect.left <= window.innerWidth;" +
+        "}" +
+        "var locators = arguments[0], scrollCount = arguments[1], elements = [], visible = [];" +
+        "for (var i = 0; i < locators.length; i++) {" +
+        "  var element = findAll(locators[i])[0] || null;" +
+        "  elements.push(element && isVisible(element) ? element : null);" +
+        "}" +
+        "for (var j = 0; j < scrollCount && j < elements.length; j++) {" +
+        "  if (elements[j] && !inView(elements[j])) {" +
+        "    elements[j].scrollIntoView({block: 'center', inline: 'center'});" +
+        "  }" +
+        "}" +
+        "for (var k = 0; k < elements.length; k++) {" +
+        "  visible.push(!!elements[k] && inView(elements[k]));" +
+        "}" +
+        "return {elements: elements, inView: visible};";
+    
+    private static final String SCROLL_SCRIPT =
+        "arguments[0].scrollIntoView({block: 'center', inline: 'center'});";
+    
+    private final String description;
+    private final List<Step> steps = new ArrayList<>();
+    
+    private ActionScript(String description) {
+        this.description = description;
+    }
+    
+    /**
+     * Starts an action script
+     * 
+     * @param description Description for logging and reporting
+     * @return Empty action script
+     */
+    public static ActionScript create(String description) {
+        return new ActionScript(description);
+    }
+    
+    /**
+     * Moves the pointer to the centre of an element
+     * 
+     * @param locator Element locator
+     * @return This action script
+     */
+    public ActionScript hover(By locator) {
+        return add(StepType.HOVER, null, locator);
+    }
+    
+    /**
+     * Clicks an element
+     * 
+     * @param locator Element locator
+     * @return This action script
+     */
+    public ActionScript click(By locator) {
+        return add(StepType.CLICK, null, locator);
+    }
+    
+    /**
+     * Double clicks an element
+     * 
+     * @param locator Element locator
+     * @return This action script
+     */
+    public ActionScript doubleClick(By locator) {
+        return add(StepType.DOUBLE_CLICK, null, locator);
+    }
+    
+    /**
+     * Right clicks an element
+     * 
+     * @param locator Element locator
+     * @return This action script
+     */
+    public ActionScript rightClick(By locator) {
+        return add(StepType.RIGHT_CLICK, null, locator);
+    }
+    
+    /**
+     * Clicks an element and types into it
+     * 
+     * @param locator Element locator
+     * @param keys Text or keys to type
+     * @return This action script
+     */
+    public ActionScript type(By locator, CharSequence... keys) {
+        return add(StepType.TYPE, keys, locator);
+    }
+    
+    /**
+     * Presses and releases keys on the focused element
+     * 
+     * @param keys Text or keys to press
+     * @return This action script
+     */
+    public ActionScript press(CharSequence... keys) {
+        return add(StepType.TYPE, keys);
+    }
+    
+    /**
+     * Presses a modifier key and keeps it down until {@link #keyUp(CharSequence)}
+     * 
+     * @param key Modifier key, e.g. Keys.SHIFT
+     * @return This action script
+     */
+    public ActionScript keyDown(CharSequence key) {
+        return add(StepType.KEY_DOWN, new CharSequence[] {key});
+    }
+    
+    /**
+     * Releases a modifier key
+     * 
+     * @param key Modifier key
+     * @return This action script
+     */
+    public ActionScript keyUp(CharSequence key) {
+        return add(StepType.KEY_UP, new CharSequence[] {key});
+    }
+    
+    /**
+     * Drags one element onto another
+     * 
+     * @param source Locator of the element to drag
+     * @param target Locator of the drop target
+     * @return This action script
+     */
+    public ActionScript dragAndDrop(By source, By target) {
+        return add(StepType.DRAG, null, source, target);
+    }
+    
+    /**
+     * Pauses between gestures, e.g. for hover menus with an open delay
+     * 
+     * @param duration Pause duration
+     * @return This action script
+     */
+    public ActionScript pause(Duration duration) {
+        Step step = new Step(StepType.PAUSE, null);
+        step.pause = duration;
+        steps.add(step);
+        return this;
+    }
+    
+    /**
+     * Performs the gestures in as few actions payloads as possible, retrying the whole chain on failure.
+     * The chain is split before a step whose target is not visible or not in view yet, e.g. a menu item that
+     * only appears after the hover, and the rest is resolved once the earlier steps have been performed
+     */
+    public void perform() {
+        if (steps.isEmpty()) {
+            return;
+        }
+        List<By> locators = distinctLocators(0);
+        ElementActions.executeWithRetry(
+            () -> {
+                WebDriver driver = DriverManager.getDriver();
+                int stages = 0;
+                int start = 0;
+                while (start < steps.size()) {
+                    Map<By, WebElement> elements = new LinkedHashMap<>();
+                    int end = resolveStage(driver, start, elements);
+                    Actions actions = new Actions(driver);
+                    for (int i = start; i < end; i++) {
+                        steps.get(i).addTo(actions, elements);
+                    }
+                    actions.perform();
+                    stages++;
+                    start = end;
+                }
+                
+                LogManager.debug("Performed {} gestures over {} elements in {} payloads: {}", 
+                    steps.size(), locators.size(), stages, description);
+                return true;
+            },
+            "action-script",
+            description,
+            locators.isEmpty() ? description : locators.get(0)
+        );
+    }
+    
+    @Override
+    public String toString() {
+        return "ActionScript{" + description + ", steps=" + steps + "}";
+    }
+    
+    private ActionScript add(StepType type, CharSequence[] keys, By... locators) {
+        steps.add(new Step(type, keys, locators));
+        return this;
+    }
+    
+    private List<By> distinctLocators(int from) {
+        List<By> locators = new ArrayList<>();
+        for (Step step : steps.subList(from, steps.size())) {
+            for (By locator : step.locators) {
+                if (!locators.contains(locator)) {
+                    locators.add(locator);
+                }
+            }
+        }
+        return locators;
+    }
+    
+    /**
+     * Resolves the targets of the steps from start on in one script call and finds where the next payload ends:
+     * the first step always goes in, waiting for its targets if needed, and later steps follow
+     * as long as their targets are already visible and in view
+     * 
+     * @param driver The WebDriver instance
+     * @param start Index of the first step of the payload
+     * @param elements Receives the element per locator of the payload
+     * @return Index of the first step of the next payload
+     */
+    private int resolveStage(WebDriver driver, int start, Map<By, WebElement> elements) {
+        List<By> locators = distinctLocators(start);
+        List<By> leading = Arrays.asList(steps.get(start).locators);
+        Map<By, WebElement> ready = new LinkedHashMap<>();
+        resolve(driver, locators, leading.size(), elements, ready);
+        
+        for (By locator : leading) {
+            if (!elements.containsKey(locator)) {
+                WebElement element = WaitFactory.waitForElementVisible(locator);
+                if (driver instanceof JavascriptExecutor) {
+                    ((JavascriptExecutor) driver).executeScript(SCROLL_SCRIPT, element);
+                }
+                elements.put(locator, element);
+            }
+        }
+        
+        int end = start + 1;
+        while (end < steps.size() && ready.keySet().containsAll(Arrays.asList(steps.get(end).locators))) {
+            end++;
+        }
+        return end;
+    }
+    
+    /**
+     * Finds every locator in one script call, scrolling the targets of the next step into view
+     * 
+     * @param driver The WebDriver instance
+     * @param locators Distinct locators in first-use order
+     * @param scrollCount Number of leading locators to bring into view
+     * @param elements Receives every visible element
+     * @param ready Receives the visible elements that are in view
+     */
+    private static void resolve(WebDriver driver, List<By> locators, int scrollCount, 
+                                Map<By, WebElement> elements, Map<By, WebElement> ready) {
+        List<By> batched = new ArrayList<>();
+        List<Map<String, Object>> scriptLocators = new ArrayList<>();
+        for (By locator : locators) {
+            Optional<Map<String, Object>> scriptLocator = LocatorScripts.toScriptLocator(locator);
+            if (scriptLocator.isPresent()) {
+                batched.add(locator);
+                scriptLocators.add(scriptLocator.get());
+            }
+        }
+        if (batched.isEmpty() || !(driver instanceof JavascriptExecutor)) {
+            return;
+        }
+        
+        try {
+            // Locators without a script form are not batched, so only scroll while the leading ones line up
+            int leadingBatched = batched.size() >= scrollCount 
+                && batched.subList(0, scrollCount).equals(locators.subList(0, scrollCount)) ? scrollCount : 0;
+            Object response = ((JavascriptExecutor) driver).executeScript(RESOLVE_SCRIPT, scriptLocators, leadingBatched);
+            if (!(response instanceof Map)) {
+                return;
+            }
+            Object found = ((Map<?, ?>) response).get("elements");
+            Object inView = ((Map<?, ?>) response).get("inView");
+            if (!(found instanceof List) || ((List<?>) found).size() != batched.size() 
+                    || !(inView instanceof List) || ((List<?>) inView).size() != batched.size()) {
+                return;
+            }
+            for (int i = 0; i < batched.size(); i++) {
+                Object element = ((List<?>) found).get(i);
+                if (element instanceof WebElement) {
+                    elements.put(batched.get(i), (WebElement) element);
+                    if (Boolean.TRUE.equals(((List<?>) inView).get(i))) {
+                        ready.put(batched.get(i), (WebElement) element);
+                    }
+                }
+            }
+        } catch (WebDriverException e) {
+            LogManager.debug("Batch locator resolution failed, waiting per locator: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * Kinds of gestures
+     */
+    private enum StepType {
+        HOVER, CLICK, DOUBLE_CLICK, RIGHT_CLICK, TYPE, KEY_DOWN, KEY_UP, DRAG, PAUSE
+    }
+    
+    /**
+     * One gesture of the chain
+     */
+    private static final class Step {
+        private final StepType type;
+        private final CharSequence[] keys;
+        private final By[] locators;
+        private Duration pause;
+        
+        private Step(StepType type, CharSequence[] keys, By... locators) {
+            this.type = type;
+            this.keys = keys;
+            this.locators = locators;
+        }
+        
+        private void addTo(Actions actions, Map<By, WebElement> elements) {
+            WebElement element = locators.length > 0 ? elements.get(locators[0]) : null;
+            switch (type) {
+                case HOVER:
+                    actions.moveToElement(element);
+                    break;
+                case CLICK:
+                    actions.click(element);
+                    break;
+                case DOUBLE_CLICK:
+                    actions.doubleClick(element);
+                    break;
+                case RIGHT_CLICK:
+                    actions.contextClick(element);
+                    break;
+                case TYPE:
+                    if (element != null) {
+                        actions.sendKeys(element, keys);
+                    } else {
+                        actions.sendKeys(keys);
+                    }
+                    break;
+                case KEY_DOWN:
+                    actions.keyDown(keys[0]);
+                    break;
+                case KEY_UP:
+                    actions.keyUp(keys[0]);
+                    break;
+                case DRAG:
+                    actions.dragAndDrop(element, elements.get(locators[1]));
+                    break;
+                default:
+                    actions.pause(pause);
+                    break;
+            }
+        }
+        
+        @Override
+        public String toString() {
+            return type + (locators.length > 0 ? " " + Arrays.toString(locators) : "");
+        }
+    }
+}
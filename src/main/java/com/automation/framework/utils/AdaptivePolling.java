@@ -0,0 +1,187 @@
+package com.automation.framework.utils;
+
+import com.automation.framework.config.ConfigLoader;
+import org.openqa.selenium.support.ui.Sleeper;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Adaptive Polling - Polling schedule and poll accounting for waits
+ * Polls start at a short interval and back off exponentially up to a cap; the starting interval is
+ * tuned per condition type from an average of how long that condition usually takes to be satisfied
+ * 
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+public final class AdaptivePolling {
+    
+    private static final ConfigLoader config = ConfigLoader.getInstance();
+    
+    // Weight of the newest observation in the per-condition average
+    private static final double SMOOTHING = 0.2;
+    
+    // First poll lands at roughly this fraction of the usual satisfaction time
+    private static final int INITIAL_INTERVAL_DIVISOR = 4;
+    
+    private static final Map<String, ConditionProfile> profiles = new ConcurrentHashMap<>();
+    
+    // Polling statistics
+    private static final LongAdder totalWaits = new LongAdder();
+    private static final LongAdder totalPolls = new LongAdder();
+    private static final LongAdder timedOutWaits = new LongAdder();
+    private static final AtomicLong maxPolls = new AtomicLong();
+    
+    // Prevent instantiation
+    private AdaptivePolling() {
+        throw new UnsupportedOperationException("AdaptivePolling is a utility class and cannot be instantiated");
+    }
+    
+    /**
+     * Creates a sleeper for one wait object
+     * 
+     * @param conditionKey Condition type the wait evaluates (e.g. visible, clickable)
+     * @param fixedInterval Interval to poll at, or null to poll adaptively
+     * @return Polling sleeper
+     */
+    public static PollingSleeper newSleeper(String conditionKey, Duration fixedInterval) {
+        if (fixedInterval == null && !config.isAdaptivePollingEnabled()) {
+            fixedInterval = Duration.ofMillis(config.getPollingMaxInterval());
+        }
+        return new PollingSleeper(conditionKey, fixedInterval);
+    }
+    
+    /**
+     * Records a finished wait and tunes the condition's starting interval
+     * 
+     * @param conditionKey Condition type
+     * @param polls Number of times the condition was evaluated
+     * @param elapsedNanos Time the wait took
+     * @param satisfied true if the condition was met, false if the wait timed out
+     */
+    public static void recordWait(String conditionKey, int polls, long elapsedNanos, boolean satisfied) {
+        totalWaits.increment();
+        totalPolls.add(polls);
+        maxPolls.accumulateAndGet(polls, Math::max);
+        
+        ConditionProfile profile = profiles.computeIfAbsent(conditionKey, key -> new ConditionProfile());
+        profile.waits.increment();
+        profile.polls.add(polls);
+        if (satisfied) {
+            profile.observe(TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        } else {
+            timedOutWaits.increment();
+        }
+        
+        LogManager.debug("Wait '{}' {} after {} poll(s) in {} ms", conditionKey, satisfied ? "satisfied" : "timed out", 
+            polls, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+    }
+    
+    /**
+     * Gets the starting interval for a condition type
+     * 
+     * @param conditionKey Condition type
+     * @return First polling interval in milliseconds
+     */
+    static long initialIntervalMillis(String conditionKey) {
+        long min = config.getPollingMinInterval();
+        long max = Math.max(min, config.getPollingMaxInterval());
+        ConditionProfile profile = profiles.get(conditionKey);
+        if (profile == null || profile.averageMillis < 0) {
+            return min;
+        }
+        return Math.max(min, Math.min(max, Math.round(profile.averageMillis / INITIAL_INTERVAL_DIVISOR)));
+    }
+    
+    /**
+     * Gets polling statistics, including the conditions that polled most
+     * 
+     * @return Polling statistics summary
+     */
+    public static String getPollingStatistics() {
+        long waits = totalWaits.sum();
+        String busiest = profiles.entrySet().stream()
+            .sorted(Comparator.comparingLong((Map.Entry<String, ConditionProfile> entry) -> entry.getValue().polls.sum()).reversed())
+            .limit(5)
+            .map(entry -> String.format("%s=%d/%d (avg %.0f ms)", entry.getKey(), entry.getValue().polls.sum(),
+                entry.getValue().waits.sum(), Math.max(0, entry.getValue().averageMillis)))
+            .collect(Collectors.joining(", "));
+        return String.format("Wait Polling - Waits: %d, Polls: %d (avg %.1f, max %d per wait), Timed Out: %d, By Condition (polls/waits): [%s]",
+            waits, totalPolls.sum(), waits > 0 ? (double) totalPolls.sum() / waits : 0, maxPolls.get(), timedOutWaits.sum(), busiest);
+    }
+    
+    /**
+     * Sleeper that ignores the wait's fixed interval and follows the adaptive schedule
+     * Counts polls; not thread-safe, like the wait object that owns it
+     */
+    public static final class PollingSleeper implements Sleeper {
+        private final String conditionKey;
+        private final Duration fixedInterval;
+        private int polls;
+        private long nextMillis;
+        private long deadlineNanos;
+        
+        private PollingSleeper(String conditionKey, Duration fixedInterval) {
+            this.conditionKey = conditionKey;
+            this.fixedInterval = fixedInterval;
+        }
+        
+        /**
+         * Restarts the schedule for a new wait
+         * 
+         * @param timeout Timeout of the wait, so the last sleep does not overshoot it
+         */
+        public void reset(Duration timeout) {
+            polls = 1;
+            nextMillis = fixedInterval != null ? fixedInterval.toMillis() : initialIntervalMillis(conditionKey);
+            deadlineNanos = System.nanoTime() + timeout.toNanos();
+        }
+        
+        @Override
+        public void sleep(Duration ignored) throws InterruptedException {
+            long remaining = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+            Thread.sleep(Math.max(1, Math.min(nextMillis, remaining)));
+            polls++;
+            if (fixedInterval == null) {
+                nextMillis = Math.max(nextMillis, Math.min(config.getPollingMaxInterval(), nextMillis * 2));
+            }
+        }
+        
+        /**
+         * Gets the number of times the condition was evaluated in the current wait
+         * 
+         * @return Poll count
+         */
+        public int getPolls() {
+            return polls;
+        }
+        
+        /**
+         * Gets the condition type this sleeper polls for
+         * 
+         * @return Condition key
+         */
+        public String getConditionKey() {
+            return conditionKey;
+        }
+    }
+    
+    /**
+     * Observed behaviour of one condition type
+     */
+    private static final class ConditionProfile {
+        private final LongAdder waits = new LongAdder();
+        private final LongAdder polls = new LongAdder();
+        private volatile double averageMillis = -1;
+        
+        private synchronized void observe(long millis) {
+            averageMillis = averageMillis < 0 ? millis : SMOOTHING * millis + (1 - SMOOTHING) * averageMillis;
+        }
+    }
+}
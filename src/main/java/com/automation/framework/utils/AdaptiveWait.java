@@ -0,0 +1,91 @@
+package com.automation.framework.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Adaptive Wait - WebDriverWait that polls on the adaptive schedule and records how many polls each wait took
+ * Behaves like WebDriverWait otherwise (ignores NotFoundException, same timeout messages); the implicit wait
+ * is suspended while an element condition polls when wait.mode is suspend
+ * 
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+public class AdaptiveWait extends WebDriverWait {
+    
+    private final WebDriver driver;
+    private final Duration timeout;
+    private final AdaptivePolling.PollingSleeper sleeper;
+    private int lastPollCount;
+    private boolean inUse;
+    
+    /**
+     * Creates a wait that polls adaptively
+     * 
+     * @param driver The WebDriver instance
+     * @param conditionKey Condition type used to tune the polling schedule
+     * @param timeout Maximum time to wait
+     */
+    public AdaptiveWait(WebDriver driver, String conditionKey, Duration timeout) {
+        this(driver, timeout, AdaptivePolling.newSleeper(conditionKey, null));
+    }
+    
+    /**
+     * Creates a wait that polls at a fixed interval
+     * 
+     * @param driver The WebDriver instance
+     * @param conditionKey Condition type used for statistics
+     * @param timeout Maximum time to wait
+     * @param pollingInterval Interval between polls
+     */
+    public AdaptiveWait(WebDriver driver, String conditionKey, Duration timeout, Duration pollingInterval) {
+        this(driver, timeout, AdaptivePolling.newSleeper(conditionKey, pollingInterval));
+    }
+    
+    private AdaptiveWait(WebDriver driver, Duration timeout, AdaptivePolling.PollingSleeper sleeper) {
+        super(driver, timeout, Duration.ofMillis(1), Clock.systemDefaultZone(), sleeper);
+        this.driver = driver;
+        this.timeout = timeout;
+        this.sleeper = sleeper;
+    }
+    
+    @Override
+    public <V> V until(Function<? super WebDriver, V> isTrue) {
+        sleeper.reset(timeout);
+        long start = System.nanoTime();
+        boolean satisfied = false;
+        inUse = true;
+        try {
+            V result = ImplicitWaits.suspendFor(driver, sleeper.getConditionKey(), () -> super.until(isTrue));
+            satisfied = true;
+            return result;
+        } finally {
+            inUse = false;
+            lastPollCount = sleeper.getPolls();
+            WaitTelemetry.addPolls(lastPollCount);
+            AdaptivePolling.recordWait(sleeper.getConditionKey(), lastPollCount, System.nanoTime() - start, satisfied);
+        }
+    }
+    
+    /**
+     * Checks whether until() is running, so a cached wait is not shared with a nested wait
+     * 
+     * @return true while a wait is in progress
+     */
+    boolean isInUse() {
+        return inUse;
+    }
+    
+    /**
+     * Gets the number of polls the most recent wait took
+     * 
+     * @return Poll count of the last until() call
+     */
+    public int getLastPollCount() {
+        return lastPollCount;
+    }
+}
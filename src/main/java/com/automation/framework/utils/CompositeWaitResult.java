@@ -0,0 +1,88 @@
+package com.automation.framework.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Composite Wait Result - Outcome of an allOf, anyOf or firstOf wait
+ * Tells which conditions held on the poll that ended the wait
+ * 
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+public final class CompositeWaitResult {
+    
+    private final List<PageCondition> conditions;
+    private final boolean[] satisfied;
+    private final int polls;
+    
+    CompositeWaitResult(List<PageCondition> conditions, boolean[] satisfied, int polls) {
+        this.conditions = conditions;
+        this.satisfied = satisfied.clone();
+        this.polls = polls;
+    }
+    
+    /**
+     * Checks whether one condition held
+     * 
+     * @param index Position of the condition in the wait's argument list
+     * @return true if the condition was satisfied
+     */
+    public boolean isSatisfied(int index) {
+        return satisfied[index];
+    }
+    
+    /**
+     * Gets the conditions that held
+     * 
+     * @return Satisfied conditions in argument order
+     */
+    public List<PageCondition> getSatisfied() {
+        List<PageCondition> met = new ArrayList<>();
+        for (int i = 0; i < satisfied.length; i++) {
+            if (satisfied[i]) {
+                met.add(conditions.get(i));
+            }
+        }
+        return Collections.unmodifiableList(met);
+    }
+    
+    /**
+     * Gets the position of the first condition that held, which is the branch that fired for firstOf
+     * 
+     * @return Index of the first satisfied condition, or -1 if none held
+     */
+    public int getFiredIndex() {
+        for (int i = 0; i < satisfied.length; i++) {
+            if (satisfied[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * Gets the first condition that held
+     * 
+     * @return The condition that fired, or null if none held
+     */
+    public PageCondition getFired() {
+        int index = getFiredIndex();
+        return index >= 0 ? conditions.get(index) : null;
+    }
+    
+    /**
+     * Gets the number of polls the wait took; each poll is one browser round trip when the conditions run in the page
+     * 
+     * @return Poll count
+     */
+    public int getPolls() {
+        return polls;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("CompositeWaitResult{satisfied=%s, polls=%d}", getSatisfied(), polls);
+    }
+}
@@ -1,16 +1,23 @@
 package com.automation.framework.utils;
 
 import com.automation.framework.driver.DriverManager;
+import com.automation.framework.exceptions.BudgetExhaustedException;
 import io.qameta.allure.Step;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.Select;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ToIntFunction;
 
 /**
  * Element Actions - Provides smart element interactions with automatic recovery mechanisms
@@ -22,10 +29,6 @@ import java.util.function.Function;
  */
 public final class ElementActions {
     
-    // Maximum retry attempts for element actions
-    private static final int MAX_RETRY_ATTEMPTS = 3;
-    private static final long RETRY_DELAY_MS = 500;
-    
     // Prevent instantiation
     private ElementActions() {
         throw new UnsupportedOperationException("ElementActions is a utility class and cannot be instantiated");
@@ -40,11 +43,12 @@ public final class ElementActions {
     @Step("Click on element: {description}")
     public static void smartClick(By locator, String description) {
         executeWithRetry(
-            () -> {
-                WebElement element = WaitFactory.waitForElementClickable(locator);
-                element.click();
-                return true;
-            },
+            () -> ElementCache.withElement(DriverManager.getDriver(), locator, ElementCache.Condition.CLICKABLE,
+                () -> WaitFactory.waitForElementClickable(locator),
+                element -> {
+                    element.click();
+                    return true;
+                }),
             "click",
             description,
             locator
@@ -124,6 +128,80 @@ public final class ElementActions {
         );
     }
     
+    /**
+     * Fills text fields in bulk, in map order
+     * 
+     * @param fields Text per field locator; use a LinkedHashMap to control the fill order
+     * @see #fillForm(FormSpec)
+     */
+    @Step("Fill form")
+    public static void fillForm(Map<By, String> fields) {
+        fillForm(FormSpec.ofText(fields));
+    }
+    
+    /**
+     * Fills a form in bulk: one script resolves every field, text is typed with one command per field
+     * and one script validates every value, so a form costs about one round trip per text field
+     * instead of four to six. Only fields that cannot be resolved in the page or fail validation
+     * fall back to the per-field actions with their waits and retries
+     * 
+     * @param form The form and its values
+     */
+    @Step("Fill form: {form.name}")
+    public static void fillForm(FormSpec form) {
+        TestDeadline.check("fill " + form.getName());
+        FormFiller.Result result = FormFiller.fill(DriverManager.getDriver(), form);
+        
+        for (FormSpec.Field field : result.getFailedFields()) {
+            String description = form.getName() + " field " + field.getLocator();
+            switch (field.getType()) {
+                case TEXT:
+                    smartSendKeys(field.getLocator(), field.getValue(), description);
+                    break;
+                case SELECT_BY_TEXT:
+                    smartSelectByText(field.getLocator(), field.getValue(), description);
+                    break;
+                case SELECT_BY_VALUE:
+                    smartSelectByValue(field.getLocator(), field.getValue(), description);
+                    break;
+                default:
+                    smartSetChecked(field.getLocator(), Boolean.parseBoolean(field.getValue()), description);
+                    break;
+            }
+        }
+        
+        LogManager.info("Filled form '{}': {} fields in {} bulk round trips, {} handled per field", 
+            form.getName(), form.size(), result.getRoundTrips(), result.getFailedFields().size());
+    }
+    
+    /**
+     * Checks or unchecks a checkbox
+     * 
+     * @param locator Checkbox locator
+     * @param checked Whether the checkbox ends up checked
+     * @param description Description for logging and reporting
+     */
+    @Step("Set checkbox {description} to {checked}")
+    public static void smartSetChecked(By locator, boolean checked, String description) {
+        executeWithRetry(
+            () -> {
+                WebElement checkbox = WaitFactory.waitForElementClickable(locator);
+                if (checkbox.isSelected() != checked) {
+                    checkbox.click();
+                }
+                
+                // Validate state
+                if (checkbox.isSelected() != checked) {
+                    throw new RuntimeException("Checkbox validation failed. Expected checked: " + checked);
+                }
+                return true;
+            },
+            "set-checked",
+            description + " (checked: " + checked + ")",
+            locator
+        );
+    }
+    
     /**
      * Gets text from an element with retry mechanism
      * 
@@ -135,13 +213,18 @@ public final class ElementActions {
     public static String smartGetText(By locator, String description) {
         return executeWithRetry(
             () -> {
-                WebElement element = WaitFactory.waitForElementVisible(locator);
-                String text = element.getText();
-                if (text == null || text.trim().isEmpty()) {
-                    // Try getting text using JavaScript if regular getText() returns empty
-                    WebDriver driver = DriverManager.getDriver();
-                    text = (String) ((JavascriptExecutor) driver).executeScript("return arguments[0].innerText || arguments[0].textContent;", element);
-                }
+                String text = ElementCache.readElement(DriverManager.getDriver(), locator, ElementCache.Condition.VISIBLE,
+                    () -> WaitFactory.waitForElementVisible(locator),
+                    null,
+                    element -> {
+                        String elementText = element.getText();
+                        if (elementText == null || elementText.trim().isEmpty()) {
+                            // Try getting text using JavaScript if regular getText() returns empty
+                            WebDriver driver = DriverManager.getDriver();
+                            elementText = (String) ((JavascriptExecutor) driver).executeScript("return arguments[0].innerText || arguments[0].textContent;", element);
+                        }
+                        return elementText;
+                    });
                 LogManager.debug("Retrieved text '{}' from element: {}", text, description);
                 return text;
             },
@@ -163,8 +246,10 @@ public final class ElementActions {
     public static String smartGetAttribute(By locator, String attributeName, String description) {
         return executeWithRetry(
             () -> {
-                WebElement element = WaitFactory.waitForElementPresent(locator);
-                String attributeValue = element.getAttribute(attributeName);
+                String attributeValue = ElementCache.readElement(DriverManager.getDriver(), locator, ElementCache.Condition.PRESENT,
+                    () -> WaitFactory.waitForElementPresent(locator),
+                    attributeName,
+                    element -> element.getAttribute(attributeName));
                 LogManager.debug("Retrieved attribute '{}' = '{}' from element: {}", attributeName, attributeValue, description);
                 return attributeValue;
             },
@@ -317,6 +402,38 @@ public final class ElementActions {
         }
     }
     
+    /**
+     * Checks that no element matches the locator right now, without waiting
+     * Answers with a single round trip: a findElements call when lookups do not block on the implicit wait,
+     * otherwise an in-page lookup script (or a findElements call with the implicit wait suspended)
+     * 
+     * @param locator Element locator
+     * @return true if no element matches
+     */
+    public static boolean isAbsentNow(By locator) {
+        WebDriver driver = DriverManager.getDriver();
+        Optional<Map<String, Object>> scriptLocator = LocatorScripts.toScriptLocator(locator);
+        
+        Boolean absent = null;
+        if (!ImplicitWaits.isLookupImmediate() && scriptLocator.isPresent() && driver instanceof JavascriptExecutor) {
+            try {
+                Object count = ((JavascriptExecutor) driver).executeScript(
+                    LocatorScripts.FIND_ALL_FUNCTION + "return findAll(arguments[0], document).length;", scriptLocator.get());
+                if (count instanceof Number) {
+                    absent = ((Number) count).intValue() == 0;
+                }
+            } catch (WebDriverException e) {
+                LogManager.debug("In-page lookup failed, using findElements: {}", e.getMessage());
+            }
+        }
+        if (absent == null) {
+            absent = ImplicitWaits.suspendFor(driver, () -> driver.findElements(locator).isEmpty());
+        }
+        
+        LogManager.debug("Element is {}absent: {}", absent ? "" : "not ", locator);
+        return absent;
+    }
+    
     /**
      * Gets all elements matching the locator
      * 
@@ -338,6 +455,106 @@ public final class ElementActions {
         );
     }
     
+    // ========== BULK EXTRACTION ==========
+    
+    /**
+     * Reads the visible text of every element matching the locator in one script call
+     * 
+     * @param locator Element locator
+     * @return Texts in document order
+     */
+    @Step("Extract texts: {locator}")
+    public static List<String> extractTexts(By locator) {
+        List<String> texts = new ArrayList<>();
+        extractTexts(locator, 0, texts::addAll);
+        return texts;
+    }
+    
+    /**
+     * Reads the visible text of every element matching the locator, one script call per page,
+     * so that only one page is held in memory at a time
+     * 
+     * @param locator Element locator
+     * @param pageSize Elements per page, 0 for a single page
+     * @param pageConsumer Receives each page of texts
+     * @return Number of matching elements
+     */
+    @Step("Extract texts in pages of {pageSize}: {locator}")
+    public static int extractTexts(By locator, int pageSize, Consumer<List<String>> pageConsumer) {
+        return extractOnceRendered(locator, driver -> ElementExtractor.texts(driver, locator, pageSize, pageConsumer));
+    }
+    
+    /**
+     * Reads attributes of every element matching the locator in one script call
+     * 
+     * @param locator Element locator
+     * @param attributes Attribute names, read like WebElement.getAttribute
+     * @return One map of attribute name to value per element, in document order
+     */
+    @Step("Extract attributes {attributes}: {locator}")
+    public static List<Map<String, String>> extractAttributes(By locator, String... attributes) {
+        List<Map<String, String>> values = new ArrayList<>();
+        extractOnceRendered(locator, driver -> ElementExtractor.attributes(driver, locator, attributes, 0, values::addAll));
+        return values;
+    }
+    
+    /**
+     * Reads a table in one script call
+     * 
+     * @param rowLocator Row locator
+     * @param columns Cell locators relative to the row, first match each (null cell if none matches);
+     *                without columns each child element of the row is a cell
+     * @return Cell texts per row
+     */
+    @Step("Extract table: {rowLocator}")
+    public static List<List<String>> extractTable(By rowLocator, By... columns) {
+        List<List<String>> rows = new ArrayList<>();
+        extractTable(rowLocator, 0, rows::addAll, columns);
+        return rows;
+    }
+    
+    /**
+     * Reads a large table one page of rows per script call, so that only one page is held in memory at a time
+     * 
+     * @param rowLocator Row locator
+     * @param pageSize Rows per page, 0 for a single page
+     * @param pageConsumer Receives each page of rows
+     * @param columns Cell locators relative to the row; without columns each child element of the row is a cell
+     * @return Number of matching rows
+     */
+    @Step("Extract table in pages of {pageSize}: {rowLocator}")
+    public static int extractTable(By rowLocator, int pageSize, Consumer<List<List<String>>> pageConsumer, By... columns) {
+        return extractOnceRendered(rowLocator, driver -> ElementExtractor.table(driver, rowLocator, columns, pageSize, pageConsumer));
+    }
+    
+    /**
+     * Gets bulk extraction statistics
+     * 
+     * @return Bulk extraction statistics summary
+     */
+    public static String getExtractionStatistics() {
+        return ElementExtractor.getStatistics();
+    }
+    
+    /**
+     * Runs an extraction, waiting for the first match like findElements does when nothing is rendered yet
+     * 
+     * @param locator Element locator
+     * @param extraction Extraction returning the number of matches
+     * @return Number of matching elements
+     */
+    private static int extractOnceRendered(By locator, ToIntFunction<WebDriver> extraction) {
+        TestDeadline.check("extract " + locator);
+        WebDriver driver = DriverManager.getDriver();
+        int total = extraction.applyAsInt(driver);
+        if (total == 0) {
+            WaitFactory.waitForElementPresent(locator);
+            total = extraction.applyAsInt(driver);
+        }
+        LogManager.debug("Extracted {} elements for: {}", total, locator);
+        return total;
+    }
+    
     /**
      * Double clicks on an element
      * 
@@ -386,6 +603,32 @@ public final class ElementActions {
         );
     }
     
+    /**
+     * Drops the elements the current thread has cached for reuse; called when the thread's driver is swapped or quit
+     * and after navigation
+     */
+    public static void clearElementCache() {
+        ElementCache.invalidate();
+    }
+    
+    /**
+     * Gets element cache statistics
+     * 
+     * @return Element cache statistics summary
+     */
+    public static String getElementCacheStatistics() {
+        return ElementCache.getStatistics();
+    }
+    
+    /**
+     * Gets form fill statistics
+     * 
+     * @return Form fill statistics summary
+     */
+    public static String getFormFillStatistics() {
+        return FormFiller.getStatistics();
+    }
+    
     /**
      * Executes an action with retry mechanism and error recovery
      * 
@@ -396,87 +639,75 @@ public final class ElementActions {
      * @param <T> Return type of the action
      * @return Result of the action
      */
-    private static <T> T executeWithRetry(ActionFunction<T> action, String actionType, String description, Object locator) {
+    static <T> T executeWithRetry(ActionFunction<T> action, String actionType, String description, Object locator) {
+        int maxAttempts = ActionRetries.getMaxAttempts(actionType);
+        ActionRetryPolicy policy = ActionRetries.getPolicy(actionType);
+        long start = System.nanoTime();
         Exception lastException = null;
+        RecoveryStrategy pendingRecovery = null;
+        int attempt = 1;
         
-        for (int attempt = 1; attempt <= MAX_RETRY_ATTEMPTS; attempt++) {
+        for (; attempt <= maxAttempts; attempt++) {
+            TestDeadline.check(actionType + " on " + description);
+            long attemptStart = System.nanoTime();
             try {
-                LogManager.debug("Executing {} action for '{}' (attempt {}/{})", actionType, description, attempt, MAX_RETRY_ATTEMPTS);
+                LogManager.debug("Executing {} action for '{}' (attempt {}/{})", actionType, description, attempt, maxAttempts);
                 
                 T result = action.execute();
                 
+                if (pendingRecovery != null) {
+                    RecoveryStrategies.recordOutcome(pendingRecovery, locator, true);
+                }
                 if (attempt > 1) {
                     LogManager.info("Action '{}' succeeded on attempt {} for: {}", actionType, attempt, description);
                 }
                 
+                ActionRetries.recordAction(actionType, attempt, attemptStart - start, true);
                 return result;
                 
+            } catch (BudgetExhaustedException e) {
+                // No time left for another attempt
+                ActionRetries.recordAction(actionType, attempt, System.nanoTime() - start, false);
+                throw e;
             } catch (Exception e) {
                 lastException = e;
                 LogManager.warn("Action '{}' failed on attempt {} for '{}': {}", actionType, attempt, description, e.getMessage());
+                if (pendingRecovery != null) {
+                    RecoveryStrategies.recordOutcome(pendingRecovery, locator, false);
+                    pendingRecovery = null;
+                }
                 
-                if (attempt < MAX_RETRY_ATTEMPTS) {
+                if (attempt < maxAttempts) {
                     // Try recovery strategies before retrying
-                    tryRecoveryStrategies(actionType, description, attempt);
+                    pendingRecovery = RecoveryStrategies.recover(DriverManager.getDriver(), e, locator);
                     
-                    // Wait before retry
-                    WaitFactory.sleep(RETRY_DELAY_MS);
-                } else {
-                    // Capture screenshot on final failure
+                    // Let the policy prepare the next attempt
+                    boolean retry;
                     try {
-                        ScreenshotUtil.captureFailureScreenshot(description + "_" + actionType + "_failed");
-                    } catch (Exception screenshotException) {
-                        LogManager.warn("Failed to capture failure screenshot: {}", screenshotException.getMessage());
+                        retry = policy.beforeRetry(e, attempt, locator);
+                    } catch (BudgetExhaustedException budgetException) {
+                        ActionRetries.recordAction(actionType, attempt, System.nanoTime() - start, false);
+                        throw budgetException;
+                    }
+                    if (retry) {
+                        continue;
                     }
                 }
-            }
-        }
-        
-        LogManager.error("Action '{}' failed after {} attempts for: {}", actionType, MAX_RETRY_ATTEMPTS, description);
-        throw new RuntimeException("Element action failed after " + MAX_RETRY_ATTEMPTS + " attempts: " + actionType + " on " + description, lastException);
-    }
-    
-    /**
-     * Attempts recovery strategies based on the type of action and failure
-     * 
-     * @param actionType Type of action that failed
-     * @param description Description of the element/action
-     * @param attemptNumber Current attempt number
-     */
-    private static void tryRecoveryStrategies(String actionType, String description, int attemptNumber) {
-        LogManager.debug("Attempting recovery strategies for '{}' action on attempt {}", actionType, attemptNumber);
-        
-        try {
-            // Strategy 1: Refresh driver state
-            if (attemptNumber == 1) {
-                // Check if driver session is still active
-                if (!DriverManager.isDriverSessionActive()) {
-                    LogManager.warn("Driver session appears inactive, cannot recover");
-                    return;
+                
+                // Capture screenshot on final failure
+                try {
+                    ScreenshotUtil.captureFailureScreenshot(description + "_" + actionType + "_failed");
+                } catch (Exception screenshotException) {
+                    LogManager.warn("Failed to capture failure screenshot: {}", screenshotException.getMessage());
                 }
+                break;
             }
-            
-            // Strategy 2: Scroll to top to reset page state
-            if (attemptNumber == 2) {
-                WebDriver driver = DriverManager.getDriver();
-                ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, 0);");
-                LogManager.debug("Scrolled to top of page for recovery");
-            }
-            
-            // Strategy 3: Clear any overlay or modal that might be blocking interaction
-            if (attemptNumber >= 2) {
-                WebDriver driver = DriverManager.getDriver();
-                // Try to close any modals or overlays
-                ((JavascriptExecutor) driver).executeScript(
-                    "var modals = document.querySelectorAll('.modal, .overlay, .popup'); " +
-                    "modals.forEach(function(modal) { modal.style.display = 'none'; });"
-                );
-                LogManager.debug("Attempted to close modals/overlays for recovery");
-            }
-            
-        } catch (Exception recoveryException) {
-            LogManager.debug("Recovery strategy failed: {}", recoveryException.getMessage());
         }
+        
+        int attempts = Math.min(attempt, maxAttempts);
+        ActionRetries.recordAction(actionType, attempts, System.nanoTime() - start, false);
+        LogManager.error("Action '{}' failed after {} attempts for: {}", actionType, attempts, description);
+        throw new RuntimeException("Element action failed after " + attempts + " attempts: " + actionType + " on " + description, lastException);
     }
     
     /**
@@ -485,7 +716,7 @@ public final class ElementActions {
      * @param <T> Return type of the action
      */
     @FunctionalInterface
-    private interface ActionFunction<T> {
+    interface ActionFunction<T> {
         T execute() throws Exception;
     }
 } 
\ No newline at end of file
@@ -0,0 +1,281 @@
+package com.automation.framework.utils;
+
+import com.automation.framework.config.ConfigLoader;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Element Cache - Per-thread, per-driver cache of resolved elements keyed by locator
+ * ElementActions reuses the element it last found for a locator instead of running a fresh wait. One script
+ * call checks that the cached element is still the first match of its locator and still meets the action's
+ * condition, so attribute and text changes that move a match are noticed as well as DOM replacements and
+ * navigation. Text and attribute reads are answered by that same call. A miss costs nothing on top of the
+ * wait; a cached element that turns out to be stale is dropped and found again transparently
+ * 
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+final class ElementCache {
+    
+    private static final ConfigLoader config = ConfigLoader.getInstance();
+    
+    // Bounds the cache on pages with many distinct locators
+    private static final int MAX_ENTRIES = 128;
+    
+    // Returns [whether the element is still the locator's first match and meets the condition, value read from it]
+    private static final String CHECK_SCRIPT =
+        LocatorScripts.FIND_ALL_FUNCTION +
+        LocatorScripts.IS_VISIBLE_FUNCTION +
+        LocatorScripts.TEXT_FUNCTION +
+        LocatorScripts.ATTRIBUTE_FUNCTION +
+        "var element = arguments[0], locator = arguments[1], condition = arguments[2], read = arguments[3];" +
+        "var usable = !!element && element.isConnected && findAll(locator)[0] === element;" +
+        "if (usable && condition !== 'present') { usable = isVisible(element); }" +
+        "if (usable && condition === 'clickable') { usable = !element.disabled; }" +
+        "if (!usable || !read) { return [usable, null]; }" +
+        "return [true, read.mode === 'text' ? text(element) : attribute(element, read.name)];";
+    
+    private static final ThreadLocal<ElementCache> threadCache = new ThreadLocal<>();
+    
+    // Cache statistics
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    private static final LongAdder combinedReads = new LongAdder();
+    private static final LongAdder mismatches = new LongAdder();
+    private static final LongAdder staleRefinds = new LongAdder();
+    private static final LongAdder invalidations = new LongAdder();
+    
+    private final WebDriver driver;
+    private final Map<Key, Entry> elements = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+    
+    // Set when the driver cannot run the check script; the cache is then bypassed
+    private boolean unsupported;
+    
+    private ElementCache(WebDriver driver) {
+        this.driver = driver;
+    }
+    
+    /**
+     * Element conditions a cached element is checked against before reuse
+     */
+    enum Condition {
+        PRESENT, VISIBLE, CLICKABLE;
+        
+        private String scriptName() {
+            return name().toLowerCase();
+        }
+    }
+    
+    /**
+     * Runs an action on the element for a locator, reusing the cached element while it still matches
+     * 
+     * @param driver The WebDriver instance
+     * @param locator The element locator
+     * @param condition Condition the element must meet, matching the wait the finder runs
+     * @param finder Waits for and returns the element when it is not cached
+     * @param action The action to run on the element
+     * @param <T> Result type
+     * @return Result of the action
+     */
+    static <T> T withElement(WebDriver driver, By locator, Condition condition, Supplier<WebElement> finder,
+                             Function<WebElement, T> action) {
+        ElementCache cache = forLocator(driver, locator);
+        if (cache == null) {
+            return action.apply(finder.get());
+        }
+        Key key = new Key(locator, condition);
+        Entry entry = cache.elements.get(key);
+        if (entry != null && cache.check(key, entry, null) != null) {
+            hits.increment();
+            return action.apply(entry.element);
+        }
+        return action.apply(cache.find(key, finder));
+    }
+    
+    /**
+     * Reads the text, or an attribute, of the element for a locator; for a cached element the check and the
+     * read are one script call
+     * 
+     * @param driver The WebDriver instance
+     * @param locator The element locator
+     * @param condition Condition the element must meet, matching the wait the finder runs
+     * @param finder Waits for and returns the element when it is not cached
+     * @param attributeName Attribute to read, or null for the text
+     * @param reader Reads the value from a freshly found element
+     * @return The text or attribute value
+     */
+    static String readElement(WebDriver driver, By locator, Condition condition, Supplier<WebElement> finder,
+                              String attributeName, Function<WebElement, String> reader) {
+        ElementCache cache = forLocator(driver, locator);
+        if (cache == null) {
+            return reader.apply(finder.get());
+        }
+        Key key = new Key(locator, condition);
+        Entry entry = cache.elements.get(key);
+        if (entry != null) {
+            Map<String, Object> read = new LinkedHashMap<>();
+            read.put("mode", attributeName == null ? "text" : "attribute");
+            read.put("name", attributeName);
+            List<?> result = cache.check(key, entry, read);
+            if (result != null) {
+                hits.increment();
+                combinedReads.increment();
+                return result.get(1) == null ? null : String.valueOf(result.get(1));
+            }
+        }
+        return reader.apply(cache.find(key, finder));
+    }
+    
+    /**
+     * Drops the current thread's cached elements
+     */
+    static void invalidate() {
+        ElementCache cache = threadCache.get();
+        if (cache != null) {
+            threadCache.remove();
+            invalidations.increment();
+        }
+    }
+    
+    /**
+     * Gets element cache statistics
+     * 
+     * @return Element cache statistics summary
+     */
+    static String getStatistics() {
+        long hitCount = hits.sum();
+        long lookups = hitCount + misses.sum();
+        return String.format("Element Cache - Hits: %d (%d with the read in the check), Misses: %d (%.1f%% hit rate), "
+                + "No Longer Matching: %d, Stale Re-finds: %d, Invalidations: %d",
+            hitCount, combinedReads.sum(), misses.sum(), lookups > 0 ? hitCount * 100.0 / lookups : 0.0, mismatches.sum(),
+            staleRefinds.sum(), invalidations.sum());
+    }
+    
+    /**
+     * Gets the current thread's cache for a locator
+     * 
+     * @param driver The WebDriver instance
+     * @param locator The element locator
+     * @return The cache, or null if caching is off or the locator or driver cannot be checked in the page
+     */
+    private static ElementCache forLocator(WebDriver driver, By locator) {
+        if (!config.isElementCacheEnabled() || !(driver instanceof JavascriptExecutor)) {
+            return null;
+        }
+        ElementCache cache = threadCache.get();
+        if (cache == null || cache.driver != driver) {
+            cache = new ElementCache(driver);
+            threadCache.set(cache);
+        }
+        return cache.unsupported ? null : cache;
+    }
+    
+    /**
+     * Finds the element and caches it; no extra command is sent, the first reuse checks it
+     * 
+     * @param key Cache key
+     * @param finder Waits for and returns the element
+     * @return The element
+     */
+    private WebElement find(Key key, Supplier<WebElement> finder) {
+        misses.increment();
+        Optional<Map<String, Object>> scriptLocator = LocatorScripts.toScriptLocator(key.locator);
+        WebElement element = finder.get();
+        scriptLocator.ifPresent(locator -> elements.put(key, new Entry(element, locator)));
+        return element;
+    }
+    
+    /**
+     * Checks a cached element against its locator and condition, optionally reading a value from it in the same call
+     * 
+     * @param key Cache key
+     * @param entry Cached element
+     * @param read Value to read, or null
+     * @return [true, value] if the cached element can be used, otherwise null and the entry is dropped
+     */
+    private List<?> check(Key key, Entry entry, Map<String, Object> read) {
+        Object result;
+        try {
+            result = ((JavascriptExecutor) driver).executeScript(CHECK_SCRIPT, entry.element, entry.scriptLocator,
+                key.condition.scriptName(), read);
+        } catch (StaleElementReferenceException e) {
+            LogManager.debug("Cached element went stale, finding it again: {}", key.locator);
+            staleRefinds.increment();
+            elements.remove(key);
+            return null;
+        } catch (WebDriverException e) {
+            LogManager.debug("Element cache check failed: {}", e.getMessage());
+            elements.remove(key);
+            return null;
+        }
+        if (!(result instanceof List) || ((List<?>) result).size() != 2) {
+            // Driver without script support
+            unsupported = true;
+            elements.clear();
+            return null;
+        }
+        if (!Boolean.TRUE.equals(((List<?>) result).get(0))) {
+            mismatches.increment();
+            elements.remove(key);
+            return null;
+        }
+        return (List<?>) result;
+    }
+    
+    /**
+     * Cached element with the script form of its locator
+     */
+    private static final class Entry {
+        private final WebElement element;
+        private final Map<String, Object> scriptLocator;
+        
+        private Entry(WebElement element, Map<String, Object> scriptLocator) {
+            this.element = element;
+            this.scriptLocator = scriptLocator;
+        }
+    }
+    
+    /**
+     * Cache key: locator and the condition the element was found under
+     */
+    private static final class Key {
+        private final By locator;
+        private final Condition condition;
+        
+        private Key(By locator, Condition condition) {
+            this.locator = locator;
+            this.condition = condition;
+        }
+        
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return locator.equals(key.locator) && condition == key.condition;
+        }
+        
+        @Override
+        public int hashCode() {
+            return 31 * locator.hashCode() + condition.hashCode();
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.automation.framework.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Element Extractor - Reads texts, attributes and table cells of many elements in one script call
+ * Returns plain arrays instead of element references, one call per extraction or per page for large grids.
+ * Locators that cannot be resolved in the page, and drivers that cannot run the script, fall back to
+ * one WebDriver command per element
+ * 
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+final class ElementExtractor {
+    
+    // Returns {total, items} for matches [offset, offset + limit); limit 0 reads to the end
+    private static final String EXTRACT_SCRIPT =
+        LocatorScripts.FIND_ALL_FUNCTION +
+        LocatorScripts.IS_VISIBLE_FUNCTION +
+        LocatorScripts.TEXT_FUNCTION +
+        LocatorScripts.ATTRIBUTE_FUNCTION +
+        "var locator = arguments[0], mode = arguments[1], details = arguments[2], offset = arguments[3], limit = arguments[4];" +
+        "var matches = findAll(locator), end = limit > 0 ? Math.min(matches.length, offset + limit) : matches.length, items = [];" +
+        "for (var i = offset; i < end; i++) {" +
+        "  var element = matches[i];" +
+        "  if (mode === 'text') {" +
+        "    items.push(text(element));" +
+        "  } else if (mode === 'attributes') {" +
+        "    items.push(details.map(function (name) { return attribute(element, name); }));" +
+        "  } else if (details.length) {" +
+        "    items.push(details.map(function (column) { var cell = findAll(column, element)[0]; return cell ? text(cell) : null; }));" +
+        "  } else {" +
+        "    items.push(Array.prototype.map.call(element.children, text));" +
+        "  }" +
+        "}" +
+        "return {total: matches.length, items: items};";
+    
+    private static final String TEXTS = "text";
+    private static final String ATTRIBUTES = "attributes";
+    private static final String TABLE = "table";
+    
+    // Extraction statistics
+    private static final LongAdder extractions = new LongAdder();
+    private static final LongAdder itemsRead = new LongAdder();
+    private static final LongAdder scriptCalls = new LongAdder();
+    private static final LongAdder fallbacks = new LongAdder();
+    
+    // Prevent instantiation
+    private ElementExtractor() {
+        throw new UnsupportedOperationException("ElementExtractor is a utility class and cannot be instantiated");
+    }
+    
+    /**
+     * Reads the visible text of every matching element
+     * 
+     * @param driver The WebDriver instance
+     * @param locator Element locator
+     * @param pageSize Elements per script call, 0 for all at once
+     * @param pageConsumer Receives each page
+     * @return Total number of matching elements
+     */
+    static int texts(WebDriver driver, By locator, int pageSize, Consumer<List<String>> pageConsumer) {
+        return extract(driver, locator, TEXTS, List.of(), pageSize, pageConsumer,
+            ElementExtractor::castItems, WebElement::getText);
+    }
+    
+    /**
+     * Reads attributes of every matching element
+     * 
+     * @param driver The WebDriver instance
+     * @param locator Element locator
+     * @param names Attribute names
+     * @param pageSize Elements per script call, 0 for all at once
+     * @param pageConsumer Receives each page, one map of attribute values per element
+     * @return Total number of matching elements
+     */
+    static int attributes(WebDriver driver, By locator, String[] names, int pageSize, 
+                          Consumer<List<Map<String, String>>> pageConsumer) {
+        return extract(driver, locator, ATTRIBUTES, Arrays.asList(names), pageSize, pageConsumer,
+            items -> {
+                List<Map<String, String>> rows = new ArrayList<>(items.size());
+                for (Object item : items) {
+                    rows.add(toAttributeMap(names, (List<?>) item));
+                }
+                return rows;
+            },
+            element -> {
+                Map<String, String> values = new LinkedHashMap<>();
+                for (String name : names) {
+                    values.put(name, element.getAttribute(name));
+                }
+                return values;
+            });
+    }
+    
+    /**
+     * Reads the cell texts of every matching row
+     * 
+     * @param driver The WebDriver instance
+     * @param rowLocator Row locator
+     * @param columns Cell locators relative to the row (first match each), or none for the row's child elements
+     * @param pageSize Rows per script call, 0 for all at once
+     * @param pageConsumer Receives each page of rows
+     * @return Total number of matching rows
+     */
+    static int table(WebDriver driver, By rowLocator, By[] columns, int pageSize, Consumer<List<List<String>>> pageConsumer) {
+        List<Object> scriptColumns = new ArrayList<>(columns.length);
+        for (By column : columns) {
+            Optional<Map<String, Object>> scriptColumn = LocatorScripts.toScriptLocator(column);
+            if (scriptColumn.isEmpty()) {
+                scriptColumns = null;
+                break;
+            }
+            scriptColumns.add(scriptColumn.get());
+        }
+        return extract(driver, rowLocator, TABLE, scriptColumns, pageSize, pageConsumer,
+            items -> {
+                List<List<String>> rows = new ArrayList<>(items.size());
+                for (Object item : items) {
+                    rows.add(castItems((List<?>) item));
+                }
+                return rows;
+            },
+            row -> {
+                List<String> cells = new ArrayList<>();
+                if (columns.length == 0) {
+                    row.findElements(By.xpath("./*")).forEach(cell -> cells.add(cell.getText()));
+                }
+                for (By column : columns) {
+                    List<WebElement> matches = row.findElements(column);
+                    cells.add(matches.isEmpty() ? null : matches.get(0).getText());
+                }
+                return cells;
+            });
+    }
+    
+    /**
+     * Gets extraction statistics
+     * 
+     * @return Extraction statistics summary
+     */
+    static String getStatistics() {
+        return String.format("Bulk Extraction - Extractions: %d, Items: %d, Script Calls: %d, Per-Element Fallbacks: %d",
+            extractions.sum(), itemsRead.sum(), scriptCalls.sum(), fallbacks.sum());
+    }
+    
+    /**
+     * Runs the extraction script page by page, or reads element by element if the script cannot be used
+     * 
+     * @param details Attribute names or script column locators; null if a column cannot be resolved in the page
+     * @return Total number of matching elements
+     */
+    private static <T> int extract(WebDriver driver, By locator, String mode, List<?> details, int pageSize,
+                                   Consumer<List<T>> pageConsumer, Function<List<?>, List<T>> converter,
+                                   Function<WebElement, T> perElement) {
+        extractions.increment();
+        Optional<Map<String, Object>> scriptLocator = LocatorScripts.toScriptLocator(locator);
+        if (scriptLocator.isEmpty() || details == null || !(driver instanceof JavascriptExecutor)) {
+            return extractPerElement(driver, locator, pageSize, pageConsumer, perElement);
+        }
+        
+        int offset = 0;
+        int total;
+        do {
+            Object result;
+            try {
+                scriptCalls.increment();
+                result = ((JavascriptExecutor) driver).executeScript(EXTRACT_SCRIPT, scriptLocator.get(), mode, details, offset, pageSize);
+            } catch (WebDriverException e) {
+                if (offset > 0) {
+                    throw e;
+                }
+                LogManager.debug("Bulk extraction unavailable, reading element by element: {}", e.getMessage());
+                return extractPerElement(driver, locator, pageSize, pageConsumer, perElement);
+            }
+            if (!(result instanceof Map) || !(((Map<?, ?>) result).get("items") instanceof List)) {
+                if (offset > 0) {
+                    throw new WebDriverException("Bulk extraction returned no page at offset " + offset + " for: " + locator);
+                }
+                return extractPerElement(driver, locator, pageSize, pageConsumer, perElement);
+            }
+            
+            total = ((Number) ((Map<?, ?>) result).get("total")).intValue();
+            List<?> items = (List<?>) ((Map<?, ?>) result).get("items");
+            if (items.isEmpty()) {
+                break;
+            }
+            itemsRead.add(items.size());
+            pageConsumer.accept(converter.apply(items));
+            offset += items.size();
+        } while (pageSize > 0 && offset < total);
+        return total;
+    }
+    
+    private static <T> int extractPerElement(WebDriver driver, By locator, int pageSize, Consumer<List<T>> pageConsumer,
+                                             Function<WebElement, T> perElement) {
+        fallbacks.increment();
+        List<WebElement> elements = driver.findElements(locator);
+        int size = pageSize > 0 ? pageSize : Math.max(1, elements.size());
+        for (int start = 0; start < elements.size(); start += size) {
+            List<T> page = new ArrayList<>();
+            for (WebElement element : elements.subList(start, Math.min(elements.size(), start + size))) {
+                page.add(perElement.apply(element));
+            }
+            itemsRead.add(page.size());
+            pageConsumer.accept(page);
+        }
+        return elements.size();
+    }
+    
+    private static List<String> castItems(List<?> items) {
+        List<String> values = new ArrayList<>(items.size());
+        for (Object item : items) {
+            values.add(item != null ? String.valueOf(item) : null);
+        }
+        return values;
+    }
+    
+    private static Map<String, String> toAttributeMap(String[] names, List<?> values) {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            Object value = i < values.size() ? values.get(i) : null;
+            attributes.put(names[i], value != null ? String.valueOf(value) : null);
+        }
+        return attributes;
+    }
+}
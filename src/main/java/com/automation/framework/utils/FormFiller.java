@@ -0,0 +1,263 @@
+package com.automation.framework.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Form Filler - Bulk form fill in a fixed number of round trips
+ * Fields are applied in spec order, in segments: one script resolves the fields of a segment, sets its
+ * dropdowns and checkboxes and clears its text fields, then its text is typed with one sendKeys per field.
+ * A new segment starts at each dropdown or checkbox that follows text, so a form with all dropdowns and
+ * checkboxes first needs a single script. One more script validates every value; fields that could not
+ * be resolved or failed validation are handed back for per-field handling
+ * 
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+final class FormFiller {
+    
+    // Resolves the first visible, editable match per field of a segment; clears text fields, sets dropdowns and checkboxes
+    private static final String RESOLVE_SCRIPT =
+        LocatorScripts.FIND_ALL_FUNCTION +
+        LocatorScripts.IS_VISIBLE_FUNCTION +
+        "function normalize(text) { return (text || '').replace(/\\s+/g, ' ').trim(); }" +
+        "function fire(element, type) { element.dispatchEvent(new Event(type, {bubbles: true})); }" +
+        "function setValue(element, value) {" +
+        "  var descriptor = Object.getOwnPropertyDescriptor(Object.getPrototypeOf(element), 'value');" +
+        "  if (descriptor && descriptor.set) { descriptor.set.call(element, value); } else { element.value = value; }" +
+        "}" +
+        "var fields = arguments[0], elements = [];" +
+        "for (var i = 0; i < fields.length; i++) {" +
+        "  var field = fields[i], element = field.locator ? (findAll(field.locator)[0] || null) : null;" +
+        "  if (element && (!isVisible(element) || element.disabled || element.readOnly)) { element = null; }" +
+        "  if (element && field.type === 'text') {" +
+        "    if (element.value !== '') { setValue(element, ''); fire(element, 'input'); fire(element, 'change'); }" +
+        "  } else if (element && field.type === 'checkbox') {" +
+        "    if (element.checked !== (field.value === 'true')) { element.click(); }" +
+        "  } else if (element) {" +
+        "    var option = Array.prototype.filter.call(element.options || [], function (candidate) {" +
+        "      return field.type === 'select-text' ? normalize(candidate.text) === normalize(field.value) : candidate.value === field.value;" +
+        "    })[0];" +
+        "    if (!option) { element = null; }" +
+        "    else if (!option.selected) { option.selected = true; fire(element, 'input'); fire(element, 'change'); }" +
+        "  }" +
+        "  elements.push(element);" +
+        "}" +
+        "return elements;";
+    
+    // Returns the indexes of the fields whose value is not the expected one
+    private static final String VALIDATE_SCRIPT =
+        "function normalize(text) { return (text || '').replace(/\\s+/g, ' ').trim(); }" +
+        "var elements = arguments[0], fields = arguments[1], failed = [];" +
+        "for (var i = 0; i < fields.length; i++) {" +
+        "  var element = elements[i], field = fields[i], valid = !!element && element.isConnected;" +
+        "  if (valid && field.type === 'text') { valid = element.value === field.value; }" +
+        "  else if (valid && field.type === 'checkbox') { valid = element.checked === (field.value === 'true'); }" +
+        "  else if (valid && field.type === 'select-value') { valid = element.value === field.value; }" +
+        "  else if (valid) {" +
+        "    var selected = element.options[element.selectedIndex];" +
+        "    valid = !!selected && normalize(selected.text) === normalize(field.value);" +
+        "  }" +
+        "  if (!valid) { failed.push(i); }" +
+        "}" +
+        "return failed;";
+    
+    // Fill statistics
+    private static final LongAdder forms = new LongAdder();
+    private static final LongAdder fieldsFilled = new LongAdder();
+    private static final LongAdder bulkRoundTrips = new LongAdder();
+    private static final LongAdder fallbackFields = new LongAdder();
+    
+    // Prevent instantiation
+    private FormFiller() {
+        throw new UnsupportedOperationException("FormFiller is a utility class and cannot be instantiated");
+    }
+    
+    /**
+     * Fills a form in bulk
+     * 
+     * @param driver The WebDriver instance
+     * @param form The form to fill
+     * @return Fields left for per-field handling and the round trips used
+     */
+    static Result fill(WebDriver driver, FormSpec form) {
+        List<FormSpec.Field> fields = form.getFields();
+        List<Map<String, Object>> scriptFields = new ArrayList<>(fields.size());
+        for (FormSpec.Field field : fields) {
+            Map<String, Object> scriptField = new HashMap<>();
+            scriptField.put("locator", LocatorScripts.toScriptLocator(field.getLocator()).orElse(null));
+            scriptField.put("type", field.getType().scriptName());
+            scriptField.put("value", field.getValue());
+            scriptFields.add(scriptField);
+        }
+        
+        JavascriptExecutor executor = (JavascriptExecutor) driver;
+        boolean[] failed = new boolean[fields.size()];
+        List<Object> typed = new ArrayList<>(Collections.nCopies(fields.size(), null));
+        int roundTrips = 0;
+        int start = 0;
+        while (start < fields.size()) {
+            int end = segmentEnd(fields, start);
+            roundTrips += fillSegment(executor, form, fields, scriptFields, start, end, typed, failed);
+            start = end;
+        }
+        
+        roundTrips++;
+        try {
+            Object invalid = executor.executeScript(VALIDATE_SCRIPT, typed, scriptFields);
+            if (invalid instanceof List) {
+                for (Object index : (List<?>) invalid) {
+                    failed[((Number) index).intValue()] = true;
+                }
+            } else {
+                Arrays.fill(failed, true);
+            }
+        } catch (WebDriverException e) {
+            // A field was replaced after it was typed into; check every field individually
+            LogManager.debug("Bulk validation failed for {}: {}", form.getName(), e.getMessage());
+            Arrays.fill(failed, true);
+        }
+        return record(fields, failed, roundTrips);
+    }
+    
+    /**
+     * Finds the end of the segment starting at a field: the first dropdown or checkbox that follows a text field
+     * 
+     * @param fields Fields in spec order
+     * @param start Index of the segment's first field
+     * @return Index of the next segment's first field
+     */
+    private static int segmentEnd(List<FormSpec.Field> fields, int start) {
+        boolean textSeen = false;
+        for (int i = start; i < fields.size(); i++) {
+            boolean text = fields.get(i).getType() == FormSpec.FieldType.TEXT;
+            if (textSeen && !text) {
+                return i;
+            }
+            textSeen |= text;
+        }
+        return fields.size();
+    }
+    
+    /**
+     * Resolves a segment in one script, which also sets its dropdowns and checkboxes and clears its text fields,
+     * then types its text
+     * 
+     * @param executor Script executor
+     * @param form The form, for logging
+     * @param fields All fields
+     * @param scriptFields Script form of all fields
+     * @param start Index of the segment's first field
+     * @param end Index after the segment's last field
+     * @param typed Receives the element of every field that was filled
+     * @param failed Marks fields that were not resolved or could not be typed into
+     * @return Round trips used
+     */
+    private static int fillSegment(JavascriptExecutor executor, FormSpec form, List<FormSpec.Field> fields,
+                                   List<Map<String, Object>> scriptFields, int start, int end,
+                                   List<Object> typed, boolean[] failed) {
+        int roundTrips = 1;
+        List<?> elements = null;
+        try {
+            Object resolved = executor.executeScript(RESOLVE_SCRIPT, scriptFields.subList(start, end));
+            if (resolved instanceof List && ((List<?>) resolved).size() == end - start) {
+                elements = (List<?>) resolved;
+            }
+        } catch (WebDriverException e) {
+            LogManager.debug("Bulk field resolution failed for {}: {}", form.getName(), e.getMessage());
+        }
+        if (elements == null) {
+            Arrays.fill(failed, start, end, true);
+            return roundTrips;
+        }
+        
+        // Type into the segment's resolved text fields back to back
+        for (int i = start; i < end; i++) {
+            FormSpec.Field field = fields.get(i);
+            Object element = elements.get(i - start);
+            if (!(element instanceof WebElement)) {
+                failed[i] = true;
+                continue;
+            }
+            if (field.getType() == FormSpec.FieldType.TEXT && !field.getValue().isEmpty()) {
+                roundTrips++;
+                try {
+                    ((WebElement) element).sendKeys(field.getValue());
+                } catch (WebDriverException e) {
+                    LogManager.debug("Typing into {} failed: {}", field.getLocator(), e.getMessage());
+                    failed[i] = true;
+                    continue;
+                }
+            }
+            typed.set(i, element);
+        }
+        return roundTrips;
+    }
+    
+    /**
+     * Gets form fill statistics
+     * 
+     * @return Form fill statistics summary
+     */
+    static String getStatistics() {
+        long formCount = forms.sum();
+        return String.format("Form Fill - Forms: %d, Fields: %d, Bulk Round Trips: %d (avg %.1f per form), Per-Field Fallbacks: %d",
+            formCount, fieldsFilled.sum(), bulkRoundTrips.sum(), formCount > 0 ? (double) bulkRoundTrips.sum() / formCount : 0.0,
+            fallbackFields.sum());
+    }
+    
+    private static Result record(List<FormSpec.Field> fields, boolean[] failed, int roundTrips) {
+        List<FormSpec.Field> remaining = new ArrayList<>();
+        for (int i = 0; i < fields.size(); i++) {
+            if (failed[i]) {
+                remaining.add(fields.get(i));
+            }
+        }
+        forms.increment();
+        fieldsFilled.add(fields.size());
+        bulkRoundTrips.add(roundTrips);
+        fallbackFields.add(remaining.size());
+        return new Result(remaining, roundTrips);
+    }
+    
+    /**
+     * Outcome of a bulk fill
+     */
+    static final class Result {
+        private final List<FormSpec.Field> failedFields;
+        private final int roundTrips;
+        
+        private Result(List<FormSpec.Field> failedFields, int roundTrips) {
+            this.failedFields = failedFields;
+            this.roundTrips = roundTrips;
+        }
+        
+        /**
+         * Gets the fields that still need per-field handling
+         * 
+         * @return Fields that were not resolved or failed validation
+         */
+        List<FormSpec.Field> getFailedFields() {
+            return failedFields;
+        }
+        
+        /**
+         * Gets the WebDriver round trips the bulk fill used
+         * 
+         * @return Number of WebDriver commands issued
+         */
+        int getRoundTrips() {
+            return roundTrips;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.automation.framework.utils;
+
+import org.openqa.selenium.By;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Form Spec - The fields of a form and the values to put in them, for {@link ElementActions#fillForm(FormSpec)}
+ * Fields are filled in the order they are added
+ * 
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+public final class FormSpec {
+    
+    private final String name;
+    private final List<Field> fields;
+    
+    private FormSpec(String name, List<Field> fields) {
+        this.name = name;
+        this.fields = Collections.unmodifiableList(new ArrayList<>(fields));
+    }
+    
+    /**
+     * Starts a form spec
+     * 
+     * @return Form spec builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+    
+    /**
+     * Creates a form spec of text fields
+     * 
+     * @param values Text per field locator, in fill order
+     * @return Form spec
+     */
+    public static FormSpec ofText(Map<By, String> values) {
+        Builder builder = builder();
+        values.forEach(builder::text);
+        return builder.build();
+    }
+    
+    /**
+     * Gets the form name used in logs and reports
+     * 
+     * @return Form name
+     */
+    public String getName() {
+        return name;
+    }
+    
+    /**
+     * Gets the number of fields
+     * 
+     * @return Number of fields
+     */
+    public int size() {
+        return fields.size();
+    }
+    
+    List<Field> getFields() {
+        return fields;
+    }
+    
+    /**
+     * Kinds of form fields
+     */
+    enum FieldType {
+        TEXT("text"),
+        SELECT_BY_TEXT("select-text"),
+        SELECT_BY_VALUE("select-value"),
+        CHECKBOX("checkbox");
+        
+        private final String scriptName;
+        
+        FieldType(String scriptName) {
+            this.scriptName = scriptName;
+        }
+        
+        String scriptName() {
+            return scriptName;
+        }
+    }
+    
+    /**
+     * One field of a form
+     */
+    static final class Field {
+        private final FieldType type;
+        private final By locator;
+        private final String value;
+        
+        private Field(FieldType type, By locator, String value) {
+            this.type = type;
+            this.locator = Objects.requireNonNull(locator, "Field locator cannot be null");
+            this.value = Objects.requireNonNull(value, "Field value cannot be null");
+        }
+        
+        FieldType getType() {
+            return type;
+        }
+        
+        By getLocator() {
+            return locator;
+        }
+        
+        String getValue() {
+            return value;
+        }
+        
+        @Override
+        public String toString() {
+            return type.scriptName() + " " + locator + " = " + value;
+        }
+    }
+    
+    /**
+     * Builder for form specs
+     */
+    public static final class Builder {
+        private final List<Field> fields = new ArrayList<>();
+        private String name = "form";
+        
+        private Builder() {
+        }
+        
+        /**
+         * Sets the form name used in logs and reports
+         * 
+         * @param name Form name
+         * @return This builder
+         */
+        public Builder named(String name) {
+            this.name = name;
+            return this;
+        }
+        
+        /**
+         * Adds a text field; its current content is replaced
+         * 
+         * @param locator Field locator
+         * @param text Text to type
+         * @return This builder
+         */
+        public Builder text(By locator, String text) {
+            fields.add(new Field(FieldType.TEXT, locator, text));
+            return this;
+        }
+        
+        /**
+         * Adds a dropdown whose option is chosen by visible text
+         * 
+         * @param locator Select element locator
+         * @param optionText Visible text of the option
+         * @return This builder
+         */
+        public Builder select(By locator, String optionText) {
+            fields.add(new Field(FieldType.SELECT_BY_TEXT, locator, optionText));
+            return this;
+        }
+        
+        /**
+         * Adds a dropdown whose option is chosen by value
+         * 
+         * @param locator Select element locator
+         * @param value Value of the option
+         * @return This builder
+         */
+        public Builder selectByValue(By locator, String value) {
+            fields.add(new Field(FieldType.SELECT_BY_VALUE, locator, value));
+            return this;
+        }
+        
+        /**
+         * Adds a checkbox
+         * 
+         * @param locator Checkbox locator
+         * @param checked Whether the checkbox ends up checked
+         * @return This builder
+         */
+        public Builder checkbox(By locator, boolean checked) {
+            fields.add(new Field(FieldType.CHECKBOX, locator, String.valueOf(checked)));
+            return this;
+        }
+        
+        /**
+         * Builds the form spec
+         * 
+         * @return Form spec
+         */
+        public FormSpec build() {
+            return new FormSpec(name, fields);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.automation.framework.utils;
+
+import com.automation.framework.config.ConfigLoader;
+import com.automation.framework.constants.FrameworkConstants;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Implicit Waits - Keeps the session implicit wait from stacking on top of explicit waits
+ * Every findElement inside an ExpectedCondition otherwise blocks for the full implicit timeout,
+ * so negative checks take far longer than their stated timeout. The wait.mode setting decides
+ * whether the implicit wait is left alone (mixed), zeroed while an explicit wait that looks up
+ * elements runs (suspend), or disabled for the whole session (explicit, the default)
+ * 
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+public final class ImplicitWaits {
+    
+    private static final ConfigLoader config = ConfigLoader.getInstance();
+    
+    // Condition types that never look up elements, so the implicit wait cannot slow them down
+    private static final Set<String> PAGE_CONDITIONS = Set.of("url", "title", "document-ready", "network-idle", "framework-ready");
+    
+    // Nesting depth of suspensions on the current thread; only the outermost one talks to the driver
+    private static final ThreadLocal<int[]> suspensionDepth = ThreadLocal.withInitial(() -> new int[1]);
+    
+    // Suspension statistics
+    private static final LongAdder suspensions = new LongAdder();
+    private static final LongAdder skippedSuspensions = new LongAdder();
+    private static final LongAdder restoreFailures = new LongAdder();
+    
+    // Prevent instantiation
+    private ImplicitWaits() {
+        throw new UnsupportedOperationException("ImplicitWaits is a utility class and cannot be instantiated");
+    }
+    
+    /**
+     * Gets the implicit wait sessions are created with under the configured wait mode
+     * 
+     * @return Implicit wait in seconds; zero in explicit mode
+     */
+    public static int getSessionImplicitWait() {
+        return FrameworkConstants.WAIT_MODE_EXPLICIT.equals(config.getWaitMode()) ? 0 : config.getImplicitWaitTimeout();
+    }
+    
+    /**
+     * Checks whether element lookups on the current thread return immediately
+     * 
+     * @return true if the implicit wait is zero or currently suspended
+     */
+    public static boolean isLookupImmediate() {
+        return getSessionImplicitWait() == 0 || suspensionDepth.get()[0] > 0;
+    }
+    
+    /**
+     * Runs an explicit wait with the implicit wait suspended when the wait mode is suspend
+     * Waits on page-level conditions (URL, title, readiness) run as they are, without extra commands
+     * 
+     * @param driver The WebDriver instance
+     * @param conditionKey Condition type of the wait
+     * @param action Action to run
+     * @param <T> Result type
+     * @return Result of the action
+     */
+    public static <T> T suspendFor(WebDriver driver, String conditionKey, Supplier<T> action) {
+        if (PAGE_CONDITIONS.contains(conditionKey)) {
+            return action.get();
+        }
+        return suspendFor(driver, action);
+    }
+    
+    /**
+     * Runs an action with the implicit wait suspended when the wait mode is suspend
+     * The implicit wait is restored afterwards to the value the session had, including one the test set itself
+     * 
+     * @param driver The WebDriver instance
+     * @param action Action to run
+     * @param <T> Result type
+     * @return Result of the action
+     */
+    public static <T> T suspendFor(WebDriver driver, Supplier<T> action) {
+        int[] depth = suspensionDepth.get();
+        if (driver == null || depth[0] > 0 || !FrameworkConstants.WAIT_MODE_SUSPEND.equals(config.getWaitMode())
+                || config.getImplicitWaitTimeout() == 0) {
+            return action.get();
+        }
+        
+        Duration current = driver.manage().timeouts().getImplicitWaitTimeout();
+        if (current == null || current.isZero()) {
+            skippedSuspensions.increment();
+            return action.get();
+        }
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        suspensions.increment();
+        depth[0]++;
+        try {
+            return action.get();
+        } finally {
+            depth[0]--;
+            try {
+                driver.manage().timeouts().implicitlyWait(current);
+            } catch (Exception e) {
+                restoreFailures.increment();
+                LogManager.warn("Could not restore implicit wait: {}", e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * Gets implicit wait statistics
+     * 
+     * @return Implicit wait statistics summary
+     */
+    public static String getImplicitWaitStatistics() {
+        return String.format("Implicit Waits - Mode: %s, Session Implicit Wait: %ds, Suspensions: %d, Already Zero: %d, Restore Failures: %d",
+            config.getWaitMode(), getSessionImplicitWait(), suspensions.sum(), skippedSuspensions.sum(), restoreFailures.sum());
+    }
+}
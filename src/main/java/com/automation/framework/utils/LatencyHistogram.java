@@ -0,0 +1,121 @@
+package com.automation.framework.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency Histogram - Lock-free log-linear histogram of durations in microseconds
+ * Buckets follow the HdrHistogram layout: each power of two is split into 16 linear sub-buckets,
+ * so recorded values keep a relative error below 1/16 while the histogram stays a fixed-size array
+ * that any number of threads can record into without locking
+ * 
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+final class LatencyHistogram {
+    
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    
+    // Values up to 2^40 microseconds (about 12 days) get their own bucket; larger ones share the last
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+    
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final AtomicLong maxMicros = new AtomicLong();
+    
+    /**
+     * Records one duration
+     * 
+     * @param micros Duration in microseconds
+     */
+    void record(long micros) {
+        long value = Math.max(0, micros);
+        counts.incrementAndGet(bucketOf(value));
+        totalCount.increment();
+        totalMicros.add(value);
+        maxMicros.accumulateAndGet(value, Math::max);
+    }
+    
+    /**
+     * Gets the number of recorded values
+     * 
+     * @return Value count
+     */
+    long getCount() {
+        return totalCount.sum();
+    }
+    
+    /**
+     * Gets the sum of the recorded values
+     * 
+     * @return Total in microseconds
+     */
+    long getTotalMicros() {
+        return totalMicros.sum();
+    }
+    
+    /**
+     * Gets the largest recorded value
+     * 
+     * @return Maximum in microseconds
+     */
+    long getMaxMicros() {
+        return maxMicros.get();
+    }
+    
+    /**
+     * Gets the value at a percentile
+     * 
+     * @param percentile Percentile between 0 and 100
+     * @return Upper bound of the bucket holding the percentile, in microseconds (0 if nothing was recorded)
+     */
+    long getValueAtPercentile(double percentile) {
+        long count = 0;
+        long[] snapshot = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(count * Math.min(100, Math.max(0, percentile)) / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), getMaxMicros());
+            }
+        }
+        return getMaxMicros();
+    }
+    
+    /**
+     * Maps a value to its bucket
+     */
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Math.min(MAX_EXPONENT, 63 - Long.numberOfLeadingZeros(value));
+        int subBucket = (int) ((value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+    
+    /**
+     * Gets the largest value that maps to a bucket
+     */
+    private static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = bucket % SUB_BUCKETS;
+        long lowerBound = (1L << exponent) + (subBucket << (exponent - SUB_BUCKET_BITS));
+        return lowerBound + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
@@ -0,0 +1,143 @@
+package com.automation.framework.utils;
+
+import org.openqa.selenium.By;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Locator Scripts - Shared JavaScript building blocks for running locator lookups inside the page
+ * Converts Selenium locators into a serializable form and provides an in-page finder that resolves
+ * them the way the browser driver would, so waits and bulk operations can run in a single script
+ * 
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+public final class LocatorScripts {
+    
+    /**
+     * Declares findAll(locator, root), returning the elements matching a script locator
+     * Root defaults to the document
+     */
+    public static final String FIND_ALL_FUNCTION =
+        "function findAll(locator, root) {" +
+        "  root = root || document;" +
+        "  var value = locator.value;" +
+        "  switch (locator.using) {" +
+        "    case 'id': return Array.prototype.slice.call(root.querySelectorAll('[id=\"' + CSS.escape(value) + '\"]'));" +
+        "    case 'name': return Array.prototype.slice.call(root.querySelectorAll('[name=\"' + CSS.escape(value) + '\"]'));" +
+        "    case 'class name': return Array.prototype.slice.call(root.getElementsByClassName(value));" +
+        "    case 'css selector': return Array.prototype.slice.call(root.querySelectorAll(value));" +
+        "    case 'tag name': return Array.prototype.slice.call(root.getElementsByTagName(value));" +
+        "    case 'xpath':" +
+        "      var snapshot = document.evaluate(value, root, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+        "      var nodes = [];" +
+        "      for (var i = 0; i < snapshot.snapshotLength; i++) {" +
+        "        if (snapshot.snapshotItem(i).nodeType === 1) { nodes.push(snapshot.snapshotItem(i)); }" +
+        "      }" +
+        "      return nodes;" +
+        "    case 'link text':" +
+        "    case 'partial link text':" +
+        "      return Array.prototype.filter.call(root.querySelectorAll('a'), function(link) {" +
+        "        var text = (link.innerText || link.textContent || '').trim();" +
+        "        return locator.using === 'link text' ? text === value : text.indexOf(value) >= 0;" +
+        "      });" +
+        "  }" +
+        "  return [];" +
+        "}";
+    
+    /**
+     * Declares isVisible(element), approximating WebElement.isDisplayed
+     */
+    public static final String IS_VISIBLE_FUNCTION =
+        "function isVisible(element) {" +
+        "  if (!element || !element.isConnected) { return false; }" +
+        "  for (var node = element; node && node.nodeType === 1; node = node.parentElement) {" +
+        "    var style = window.getComputedStyle(node);" +
+        "    if (style.display === 'none' || style.opacity === '0') { return false; }" +
+        "  }" +
+        "  var rect = element.getBoundingClientRect();" +
+        "  return window.getComputedStyle(element).visibility !== 'hidden' && rect.width > 0 && rect.height > 0;" +
+        "}";
+    
+    /**
+     * Declares text(element), approximating WebElement.getText; requires isVisible
+     */
+    public static final String TEXT_FUNCTION =
+        "function text(element) {" +
+        "  if (!isVisible(element)) { return ''; }" +
+        "  return (element.innerText || element.textContent || '').replace(/[^\\S\\n]+/g, ' ').replace(/ ?\\n ?/g, '\\n').trim();" +
+        "}";
+    
+    /**
+     * Declares attribute(element, name), approximating WebElement.getAttribute
+     */
+    public static final String ATTRIBUTE_FUNCTION =
+        "function attribute(element, name) {" +
+        "  var property = element[name];" +
+        "  if (typeof property === 'boolean') { return property ? 'true' : null; }" +
+        "  if (property !== undefined && property !== null && typeof property !== 'object' && typeof property !== 'function') {" +
+        "    return String(property);" +
+        "  }" +
+        "  return element.getAttribute(name);" +
+        "}";
+    
+    /**
+     * Declares checkCondition(condition, locator, expected, name), which returns {element} when the
+     * condition holds and null otherwise; requires findAll and isVisible
+     */
+    public static final String CHECK_CONDITION_FUNCTION =
+        "function checkCondition(condition, locator, expected, name) {" +
+        "  switch (condition) {" +
+        "    case 'url': return location.href.indexOf(expected) >= 0 ? {element: null} : null;" +
+        "    case 'title': return document.title.indexOf(expected) >= 0 ? {element: null} : null;" +
+        "  }" +
+        "  var element = findAll(locator)[0] || null;" +
+        "  switch (condition) {" +
+        "    case 'present': return element ? {element: element} : null;" +
+        "    case 'visible': return isVisible(element) ? {element: element} : null;" +
+        "    case 'clickable': return isVisible(element) && !element.disabled ? {element: element} : null;" +
+        "    case 'invisible': return !isVisible(element) ? {element: null} : null;" +
+        "    case 'text':" +
+        "      return element && (element.innerText || element.textContent || '').indexOf(expected) >= 0 ? {element: element} : null;" +
+        "    case 'attribute':" +
+        "      return element && (element.getAttribute(name) === expected || String(element[name]) === expected) ? {element: element} : null;" +
+        "  }" +
+        "  return null;" +
+        "}";
+    
+    // Prevent instantiation
+    private LocatorScripts() {
+        throw new UnsupportedOperationException("LocatorScripts is a utility class and cannot be instantiated");
+    }
+    
+    /**
+     * Converts a locator into the {using, value} form understood by findAll
+     * 
+     * @param locator The By locator
+     * @return Script locator, or empty for custom locators that cannot be resolved in the page
+     */
+    public static Optional<Map<String, Object>> toScriptLocator(By locator) {
+        if (!(locator instanceof By.Remotable)) {
+            return Optional.empty();
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        switch (parameters.using()) {
+            case "id":
+            case "name":
+            case "class name":
+            case "css selector":
+            case "tag name":
+            case "xpath":
+            case "link text":
+            case "partial link text":
+                Map<String, Object> scriptLocator = new LinkedHashMap<>();
+                scriptLocator.put("using", parameters.using());
+                scriptLocator.put("value", String.valueOf(parameters.value()));
+                return Optional.of(scriptLocator);
+            default:
+                return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.automation.framework.utils;
+
+import com.automation.framework.config.ConfigLoader;
+import com.automation.framework.constants.FrameworkConstants;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Mutation Wait Engine - Event-driven element waits backed by a MutationObserver in the page
+ * Installs an asynchronous script that re-checks the condition whenever the DOM changes and returns
+ * as soon as it holds, instead of polling from the test at a fixed interval
+ * Returns empty for locators or drivers it cannot handle so callers can fall back to polling
+ * 
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+public final class MutationWaitEngine {
+    
+    private static final ConfigLoader config = ConfigLoader.getInstance();
+    
+    // Milliseconds kept in reserve below the session script timeout for each in-page wait
+    private static final long SCRIPT_TIMEOUT_MARGIN_MS = 500;
+    
+    // Pause before re-installing the observer after the page navigated away under it
+    private static final long NAVIGATION_RETRY_PAUSE_MS = 100;
+    
+    // Driver messages for scripts cut off by an unload or navigation, lower case
+    private static final String[] NAVIGATION_ERRORS = {
+        "document unloaded", "unload", "navigat", "execution context was destroyed", "cannot find context", 
+        "no such execution context", "target closed"
+    };
+    
+    // Re-checks layout-only changes (CSS transitions, scrolling) that produce no mutation
+    private static final int LAYOUT_CHECK_INTERVAL_MS = 200;
+    
+    private static final String WAIT_SCRIPT =
+        "var locator = arguments[0], condition = arguments[1], expected = arguments[2], name = arguments[3];" +
+        "var timeout = arguments[4], done = arguments[arguments.length - 1];" +
+        LocatorScripts.FIND_ALL_FUNCTION +
+        LocatorScripts.IS_VISIBLE_FUNCTION +
+        LocatorScripts.CHECK_CONDITION_FUNCTION +
+        "function check() { return checkCondition(condition, locator, expected, name); }" +
+        "var initial = check();" +
+        "if (initial) { done({status: 'met', element: initial.element}); return; }" +
+        "var finished = false, observer, interval, timer;" +
+        "function finish(result) {" +
+        "  if (finished) { return; }" +
+        "  finished = true; observer.disconnect(); clearInterval(interval); clearTimeout(timer); done(result);" +
+        "}" +
+        "function recheck() { var result = check(); if (result) { finish({status: 'met', element: result.element}); } }" +
+        "observer = new MutationObserver(recheck);" +
+        "observer.observe(document.documentElement || document, {childList: true, subtree: true, attributes: true, characterData: true});" +
+        "interval = setInterval(recheck, " + LAYOUT_CHECK_INTERVAL_MS + ");" +
+        "timer = setTimeout(function() { finish({status: 'timeout'}); }, timeout);";
+    
+    // Engine statistics
+    private static final LongAdder eventWaits = new LongAdder();
+    private static final LongAdder fallbackWaits = new LongAdder();
+    private static final LongAdder navigationRetries = new LongAdder();
+    
+    // Prevent instantiation
+    private MutationWaitEngine() {
+        throw new UnsupportedOperationException("MutationWaitEngine is a utility class and cannot be instantiated");
+    }
+    
+    /**
+     * Conditions the engine can evaluate in the page
+     */
+    public enum Condition {
+        PRESENT, VISIBLE, CLICKABLE, INVISIBLE, TEXT, ATTRIBUTE;
+        
+        private String scriptName() {
+            return name().toLowerCase();
+        }
+    }
+    
+    /**
+     * Checks whether element waits use this engine
+     * 
+     * @return true if the configured wait engine is mutation
+     */
+    public static boolean isEnabled() {
+        return FrameworkConstants.WAIT_ENGINE_MUTATION.equals(config.getWaitEngine());
+    }
+    
+    /**
+     * Waits for a condition on the first element matching a locator
+     * 
+     * @param driver The WebDriver instance
+     * @param locator The By locator for the element
+     * @param condition Condition to wait for
+     * @param timeout Maximum time to wait
+     * @return Wait result, or empty if the wait cannot run in the page
+     * @throws TimeoutException if the condition does not hold within the timeout
+     */
+    public static Optional<Result> await(WebDriver driver, By locator, Condition condition, Duration timeout) {
+        return await(driver, locator, condition, null, null, timeout);
+    }
+    
+    /**
+     * Waits for a condition on the first element matching a locator
+     * 
+     * @param driver The WebDriver instance
+     * @param locator The By locator for the element
+     * @param condition Condition to wait for
+     * @param expected Expected text (TEXT) or attribute value (ATTRIBUTE)
+     * @param attributeName Attribute name (ATTRIBUTE)
+     * @param timeout Maximum time to wait
+     * @return Wait result, or empty if the wait cannot run in the page
+     * @throws TimeoutException if the condition does not hold within the timeout
+     */
+    public static Optional<Result> await(WebDriver driver, By locator, Condition condition,
+                                         String expected, String attributeName, Duration timeout) {
+        Optional<Map<String, Object>> scriptLocator = LocatorScripts.toScriptLocator(locator);
+        if (scriptLocator.isEmpty() || !(driver instanceof JavascriptExecutor)) {
+            fallbackWaits.increment();
+            return Optional.empty();
+        }
+        
+        long deadline = System.nanoTime() + timeout.toNanos();
+        // Sessions are created with the configured script timeout, which bounds each in-page wait
+        long scriptTimeoutMillis = Duration.ofSeconds(config.getScriptTimeout()).toMillis();
+        long sliceLimit = Math.max(SCRIPT_TIMEOUT_MARGIN_MS, scriptTimeoutMillis - SCRIPT_TIMEOUT_MARGIN_MS);
+        
+        while (true) {
+            long remaining = Duration.ofNanos(deadline - System.nanoTime()).toMillis();
+            long slice = Math.max(0, Math.min(remaining, sliceLimit));
+            
+            Object response;
+            WaitTelemetry.addPolls(1);
+            try {
+                response = ((JavascriptExecutor) driver).executeAsyncScript(WAIT_SCRIPT, scriptLocator.get(),
+                    condition.scriptName(), expected, attributeName, slice);
+            } catch (NoSuchSessionException e) {
+                throw e;
+            } catch (ScriptTimeoutException | JavascriptException e) {
+                if (!isNavigation(e)) {
+                    // A script error such as an invalid selector; let the polling wait report the real error
+                    LogManager.debug("Mutation wait script failed, falling back to polling: {}", e.getMessage());
+                    fallbackWaits.increment();
+                    return Optional.empty();
+                }
+                // Page navigated or the script was interrupted; install the observer again on the new document
+                navigationRetries.increment();
+                if (System.nanoTime() >= deadline) {
+                    throw new TimeoutException("Condition " + condition + " not met for: " + locator, e);
+                }
+                pauseBeforeRetry(deadline);
+                continue;
+            } catch (WebDriverException e) {
+                LogManager.debug("Mutation wait unavailable, falling back to polling: {}", e.getMessage());
+                fallbackWaits.increment();
+                return Optional.empty();
+            }
+            
+            if (!(response instanceof Map)) {
+                // Driver without an asynchronous script engine
+                fallbackWaits.increment();
+                return Optional.empty();
+            }
+            
+            Map<?, ?> result = (Map<?, ?>) response;
+            if ("met".equals(result.get("status"))) {
+                eventWaits.increment();
+                Object element = result.get("element");
+                return Optional.of(new Result(element instanceof WebElement ? (WebElement) element : null));
+            }
+            if (System.nanoTime() >= deadline) {
+                throw new TimeoutException("Condition " + condition + " not met within " + timeout.toMillis() + " ms for: " + locator);
+            }
+        }
+    }
+    
+    /**
+     * Checks whether a script failure means the document went away under the script
+     * 
+     * @param e The script failure
+     * @return true for script timeouts and unload or navigation errors
+     */
+    private static boolean isNavigation(WebDriverException e) {
+        if (e instanceof ScriptTimeoutException) {
+            return true;
+        }
+        String message = String.valueOf(e.getMessage()).toLowerCase();
+        for (String marker : NAVIGATION_ERRORS) {
+            if (message.contains(marker)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Gives a navigating page a moment before the observer is installed again
+     * 
+     * @param deadline System.nanoTime() deadline of the wait
+     */
+    private static void pauseBeforeRetry(long deadline) {
+        long pause = Math.min(NAVIGATION_RETRY_PAUSE_MS, Duration.ofNanos(deadline - System.nanoTime()).toMillis());
+        if (pause <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pause);
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * Gets mutation wait statistics
+     * 
+     * @return Engine statistics summary
+     */
+    public static String getEngineStatistics() {
+        return String.format("Mutation Wait Engine - Event Waits: %d, Polling Fallbacks: %d, Navigation Retries: %d",
+            eventWaits.sum(), fallbackWaits.sum(), navigationRetries.sum());
+    }
+    
+    /**
+     * Outcome of a wait that completed in the page
+     */
+    public static final class Result {
+        private final WebElement element;
+        
+        private Result(WebElement element) {
+            this.element = element;
+        }
+        
+        /**
+         * Gets the element that satisfied the condition
+         * 
+         * @return Matching element, or null for INVISIBLE
+         */
+        public WebElement getElement() {
+            return element;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.automation.framework.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Page Condition - One condition of a composite wait
+ * Compiles to an in-page check so that several conditions are evaluated in one script call per poll,
+ * and keeps the equivalent ExpectedCondition for locators or drivers that cannot run the script
+ * 
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+public final class PageCondition {
+    
+    private final String condition;
+    private final By locator;
+    private final String expected;
+    private final String attributeName;
+    private final ExpectedCondition<?> fallback;
+    
+    private PageCondition(String condition, By locator, String expected, String attributeName, ExpectedCondition<?> fallback) {
+        this.condition = condition;
+        this.locator = locator;
+        this.expected = expected;
+        this.attributeName = attributeName;
+        this.fallback = fallback;
+    }
+    
+    /**
+     * Condition that holds when the first element matching the locator is present in the DOM
+     * 
+     * @param locator The By locator for the element
+     * @return Page condition
+     */
+    public static PageCondition present(By locator) {
+        return new PageCondition("present", locator, null, null, ExpectedConditions.presenceOfElementLocated(locator));
+    }
+    
+    /**
+     * Condition that holds when the first element matching the locator is visible
+     * 
+     * @param locator The By locator for the element
+     * @return Page condition
+     */
+    public static PageCondition visible(By locator) {
+        return new PageCondition("visible", locator, null, null, ExpectedConditions.visibilityOfElementLocated(locator));
+    }
+    
+    /**
+     * Condition that holds when the first element matching the locator is visible and enabled
+     * 
+     * @param locator The By locator for the element
+     * @return Page condition
+     */
+    public static PageCondition clickable(By locator) {
+        return new PageCondition("clickable", locator, null, null, ExpectedConditions.elementToBeClickable(locator));
+    }
+    
+    /**
+     * Condition that holds when no element matching the locator is visible
+     * 
+     * @param locator The By locator for the element
+     * @return Page condition
+     */
+    public static PageCondition invisible(By locator) {
+        return new PageCondition("invisible", locator, null, null, ExpectedConditions.invisibilityOfElementLocated(locator));
+    }
+    
+    /**
+     * Condition that holds when the element's text contains the expected text
+     * 
+     * @param locator The By locator for the element
+     * @param text The text to wait for
+     * @return Page condition
+     */
+    public static PageCondition textPresent(By locator, String text) {
+        return new PageCondition("text", locator, text, null, ExpectedConditions.textToBePresentInElementLocated(locator, text));
+    }
+    
+    /**
+     * Condition that holds when the element's attribute has the expected value
+     * 
+     * @param locator The By locator for the element
+     * @param attribute The attribute name
+     * @param value The expected attribute value
+     * @return Page condition
+     */
+    public static PageCondition attributeIs(By locator, String attribute, String value) {
+        return new PageCondition("attribute", locator, value, attribute, ExpectedConditions.attributeToBe(locator, attribute, value));
+    }
+    
+    /**
+     * Condition that holds when the page URL contains the fragment
+     * 
+     * @param urlFragment The URL fragment to wait for
+     * @return Page condition
+     */
+    public static PageCondition urlContains(String urlFragment) {
+        return new PageCondition("url", null, urlFragment, null, ExpectedConditions.urlContains(urlFragment));
+    }
+    
+    /**
+     * Condition that holds when the page title contains the fragment
+     * 
+     * @param titleFragment The title fragment to wait for
+     * @return Page condition
+     */
+    public static PageCondition titleContains(String titleFragment) {
+        return new PageCondition("title", null, titleFragment, null, ExpectedConditions.titleContains(titleFragment));
+    }
+    
+    /**
+     * Gets the argument passed to checkCondition in the page
+     * 
+     * @return Script form of the condition, or empty if the locator cannot be resolved in the page
+     */
+    Optional<Map<String, Object>> toScript() {
+        Optional<Map<String, Object>> scriptLocator = locator != null ? LocatorScripts.toScriptLocator(locator) : Optional.of(Map.of());
+        return scriptLocator.map(resolved -> {
+            Map<String, Object> script = new LinkedHashMap<>();
+            script.put("condition", condition);
+            script.put("locator", resolved);
+            script.put("expected", expected);
+            script.put("name", attributeName);
+            return script;
+        });
+    }
+    
+    /**
+     * Gets the equivalent ExpectedCondition, evaluated through WebDriver commands
+     * 
+     * @return Fallback condition
+     */
+    ExpectedCondition<?> getFallback() {
+        return fallback;
+    }
+    
+    @Override
+    public String toString() {
+        return fallback.toString();
+    }
+}
@@ -0,0 +1,255 @@
+package com.automation.framework.utils;
+
+import com.automation.framework.config.ConfigLoader;
+import org.openqa.selenium.By;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.interactions.MoveTargetOutOfBoundsException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Recovery Strategies - Registry and success-rate learning for {@link RecoveryStrategy} implementations
+ * After a failed element action the applicable strategies are tried in order of observed success rate until
+ * one of them acts; it is credited if the next attempt succeeds. A strategy that has acted several times for
+ * a locator without ever helping is skipped for that locator
+ * 
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+public final class RecoveryStrategies {
+    
+    private static final ConfigLoader config = ConfigLoader.getInstance();
+    
+    private static final List<RecoveryStrategy> strategies = new CopyOnWriteArrayList<>();
+    
+    // Outcomes per strategy, and per strategy and locator
+    private static final Map<String, Outcomes> strategyOutcomes = new ConcurrentHashMap<>();
+    private static final Map<String, Outcomes> locatorOutcomes = new ConcurrentHashMap<>();
+    private static final LongAdder skipped = new LongAdder();
+    
+    static {
+        strategies.add(new ScrollToTop());
+        strategies.add(new DismissOverlays());
+        loadConfiguredStrategies();
+    }
+    
+    // Prevent instantiation
+    private RecoveryStrategies() {
+        throw new UnsupportedOperationException("RecoveryStrategies is a utility class and cannot be instantiated");
+    }
+    
+    /**
+     * Registers a recovery strategy
+     * 
+     * @param strategy The strategy
+     */
+    public static void register(RecoveryStrategy strategy) {
+        strategies.add(strategy);
+        LogManager.debug("Registered recovery strategy: {}", strategy.getName());
+    }
+    
+    /**
+     * Removes a recovery strategy by name, including the built-in scroll-to-top and dismiss-overlays
+     * 
+     * @param name Strategy name
+     */
+    public static void unregister(String name) {
+        strategies.removeIf(strategy -> strategy.getName().equals(name));
+    }
+    
+    /**
+     * Gets the registered strategies in registration order
+     * 
+     * @return Registered strategies
+     */
+    public static List<RecoveryStrategy> getStrategies() {
+        return List.copyOf(strategies);
+    }
+    
+    /**
+     * Runs the most successful applicable strategy that acts on the failure
+     * 
+     * @param driver The WebDriver instance
+     * @param failure The exception thrown by the failed attempt
+     * @param target The By locator or WebElement the action works on
+     * @return The strategy that acted, or null
+     */
+    static RecoveryStrategy recover(WebDriver driver, Throwable failure, Object target) {
+        if (ActionRetries.hasCause(failure, NoSuchSessionException.class)) {
+            LogManager.warn("Driver session is gone, cannot recover");
+            return null;
+        }
+        
+        String locatorKey = locatorKey(target);
+        List<RecoveryStrategy> candidates = new ArrayList<>();
+        for (RecoveryStrategy strategy : strategies) {
+            if (!strategy.appliesTo(failure)) {
+                continue;
+            }
+            if (neverHelps(strategy, locatorKey)) {
+                skipped.increment();
+                continue;
+            }
+            candidates.add(strategy);
+        }
+        candidates.sort(Comparator.comparingDouble(RecoveryStrategies::successRate).reversed());
+        
+        for (RecoveryStrategy strategy : candidates) {
+            try {
+                if (strategy.recover(driver, failure, target)) {
+                    LogManager.debug("Recovery strategy '{}' applied for: {}", strategy.getName(), locatorKey);
+                    return strategy;
+                }
+            } catch (RuntimeException e) {
+                LogManager.debug("Recovery strategy '{}' failed: {}", strategy.getName(), e.getMessage());
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Records whether the attempt after a recovery succeeded
+     * 
+     * @param strategy The strategy that acted
+     * @param target The By locator or WebElement the action works on
+     * @param succeeded true if the next attempt succeeded
+     */
+    static void recordOutcome(RecoveryStrategy strategy, Object target, boolean succeeded) {
+        strategyOutcomes.computeIfAbsent(strategy.getName(), key -> new Outcomes()).record(succeeded);
+        locatorOutcomes.computeIfAbsent(strategy.getName() + '|' + locatorKey(target), key -> new Outcomes()).record(succeeded);
+    }
+    
+    /**
+     * Gets recovery strategy statistics
+     * 
+     * @return Recovery statistics summary with the success rate of each strategy
+     */
+    public static String getRecoveryStatistics() {
+        String perStrategy = strategies.stream()
+            .map(strategy -> {
+                Outcomes outcomes = strategyOutcomes.get(strategy.getName());
+                long applied = outcomes != null ? outcomes.applied.sum() : 0;
+                long helped = outcomes != null ? outcomes.helped.sum() : 0;
+                return String.format("%s %d/%d helped", strategy.getName(), helped, applied);
+            })
+            .collect(Collectors.joining(", "));
+        return String.format("Recovery Strategies - %s, Skipped as unhelpful: %d", perStrategy, skipped.sum());
+    }
+    
+    /**
+     * Success rate with one assumed success and failure, so new strategies start in the middle
+     */
+    private static double successRate(RecoveryStrategy strategy) {
+        Outcomes outcomes = strategyOutcomes.get(strategy.getName());
+        if (outcomes == null) {
+            return 0.5;
+        }
+        return (outcomes.helped.sum() + 1.0) / (outcomes.applied.sum() + 2.0);
+    }
+    
+    private static boolean neverHelps(RecoveryStrategy strategy, String locatorKey) {
+        Outcomes outcomes = locatorOutcomes.get(strategy.getName() + '|' + locatorKey);
+        return outcomes != null && outcomes.helped.sum() == 0 && outcomes.applied.sum() >= config.getRecoverySkipThreshold();
+    }
+    
+    private static String locatorKey(Object target) {
+        return target instanceof By ? target.toString() : "element";
+    }
+    
+    private static void loadConfiguredStrategies() {
+        try {
+            for (RecoveryStrategy strategy : ServiceLoader.load(RecoveryStrategy.class)) {
+                register(strategy);
+            }
+        } catch (ServiceConfigurationError e) {
+            LogManager.warn("Could not load recovery strategies: {}", e.getMessage());
+        }
+        for (String className : config.getRecoveryStrategyClasses()) {
+            try {
+                register((RecoveryStrategy) Class.forName(className).getDeclaredConstructor().newInstance());
+            } catch (ReflectiveOperationException | ClassCastException e) {
+                LogManager.warn("Could not create recovery strategy {}: {}", className, e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * Lock-free outcome counters
+     */
+    private static final class Outcomes {
+        private final LongAdder applied = new LongAdder();
+        private final LongAdder helped = new LongAdder();
+        
+        private void record(boolean succeeded) {
+            applied.increment();
+            if (succeeded) {
+                helped.increment();
+            }
+        }
+    }
+    
+    /**
+     * Scrolls back to the top of the page to reset the scroll state of sticky headers and lazy sections
+     */
+    private static final class ScrollToTop implements RecoveryStrategy {
+        @Override
+        public String getName() {
+            return "scroll-to-top";
+        }
+        
+        @Override
+        public boolean appliesTo(Throwable failure) {
+            return ActionRetries.hasCause(failure, ElementNotInteractableException.class)
+                || ActionRetries.hasCause(failure, MoveTargetOutOfBoundsException.class);
+        }
+        
+        @Override
+        public boolean recover(WebDriver driver, Throwable failure, Object target) {
+            Object scrolled = ((JavascriptExecutor) driver).executeScript(
+                "if (window.scrollY === 0 && window.scrollX === 0) { return false; } window.scrollTo(0, 0); return true;");
+            return !Boolean.FALSE.equals(scrolled);
+        }
+    }
+    
+    /**
+     * Hides modals, overlays and popups that may cover the element
+     */
+    private static final class DismissOverlays implements RecoveryStrategy {
+        @Override
+        public String getName() {
+            return "dismiss-overlays";
+        }
+        
+        @Override
+        public boolean appliesTo(Throwable failure) {
+            return !ActionRetries.hasCause(failure, StaleElementReferenceException.class)
+                && (ActionRetries.hasCause(failure, ElementNotInteractableException.class)
+                    || ActionRetries.hasCause(failure, TimeoutException.class));
+        }
+        
+        @Override
+        public boolean recover(WebDriver driver, Throwable failure, Object target) {
+            Object hidden = ((JavascriptExecutor) driver).executeScript(
+                "var hidden = 0;" +
+                "document.querySelectorAll('.modal, .overlay, .popup').forEach(function(modal) {" +
+                "  if (modal.style.display !== 'none') { modal.style.display = 'none'; hidden++; }" +
+                "});" +
+                "return hidden;");
+            return !(hidden instanceof Number) || ((Number) hidden).intValue() > 0;
+        }
+    }
+}
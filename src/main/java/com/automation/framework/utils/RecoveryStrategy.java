@@ -0,0 +1,42 @@
+package com.automation.framework.utils;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Recovery Strategy - Service interface for putting the page back into a usable state after an element action fails
+ * Implementations are picked up through {@link java.util.ServiceLoader} (META-INF/services/
+ * com.automation.framework.utils.RecoveryStrategy), listed by class name in the recovery.strategies property,
+ * or registered with {@link RecoveryStrategies#register(RecoveryStrategy)}. Implementations must be thread safe
+ *
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+public interface RecoveryStrategy {
+
+    /**
+     * Gets the strategy name used in logs and statistics
+     *
+     * @return Strategy name
+     */
+    default String getName() {
+        return getClass().getSimpleName();
+    }
+
+    /**
+     * Checks whether the strategy can help with a failure
+     *
+     * @param failure The exception thrown by the failed attempt
+     * @return true if the strategy should be considered
+     */
+    boolean appliesTo(Throwable failure);
+
+    /**
+     * Tries to recover before the action is attempted again
+     *
+     * @param driver The WebDriver instance
+     * @param failure The exception thrown by the failed attempt
+     * @param target The By locator or WebElement the action works on
+     * @return true if the strategy changed something, false if there was nothing for it to do
+     */
+    boolean recover(WebDriver driver, Throwable failure, Object target);
+}
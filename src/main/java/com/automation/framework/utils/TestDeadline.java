@@ -0,0 +1,187 @@
+package com.automation.framework.utils;
+
+import com.automation.framework.config.ConfigLoader;
+import com.automation.framework.exceptions.BudgetExhaustedException;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Test Deadline - Per-test wait time budget shared by every wait and element action on the test's thread
+ * Each wait shrinks its own timeout to the remaining budget, and once the budget is spent waits and actions
+ * fail fast with {@link BudgetExhaustedException} instead of each running its full timeout
+ * 
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+public final class TestDeadline {
+    
+    private static final ConfigLoader config = ConfigLoader.getInstance();
+    
+    private static final ThreadLocal<Deadline> currentDeadline = new ThreadLocal<>();
+    
+    // Budget statistics
+    private static final LongAdder budgetedTests = new LongAdder();
+    private static final LongAdder exhaustedTests = new LongAdder();
+    private static final LongAdder shortenedWaits = new LongAdder();
+    
+    // Prevent instantiation
+    private TestDeadline() {
+        throw new UnsupportedOperationException("TestDeadline is a utility class and cannot be instantiated");
+    }
+    
+    /**
+     * Resolves the budget for a test from {@link WaitBudget} or configuration
+     * 
+     * @param testClass The test class
+     * @param method The test method
+     * @return Budget, or Duration.ZERO if the test has no budget
+     */
+    public static Duration resolveBudget(Class<?> testClass, Method method) {
+        WaitBudget budget = method.getAnnotation(WaitBudget.class);
+        if (budget == null) {
+            budget = testClass.getAnnotation(WaitBudget.class);
+        }
+        int seconds = budget != null ? budget.seconds() : config.getTestWaitBudget();
+        return Duration.ofSeconds(Math.max(0, seconds));
+    }
+    
+    /**
+     * Starts the budget for the test running on the current thread
+     * 
+     * @param testName Test name for messages
+     * @param budget Budget; zero or negative leaves the test unbounded
+     */
+    public static void start(String testName, Duration budget) {
+        if (budget.isZero() || budget.isNegative()) {
+            currentDeadline.remove();
+            return;
+        }
+        currentDeadline.set(new Deadline(testName, budget));
+        budgetedTests.increment();
+        LogManager.debug("Wait budget of {}s started for: {}", budget.getSeconds(), testName);
+    }
+    
+    /**
+     * Ends the budget of the current thread's test
+     */
+    public static void clear() {
+        currentDeadline.remove();
+    }
+    
+    /**
+     * Checks whether the current test has a budget
+     * 
+     * @return true if a budget is running
+     */
+    public static boolean isActive() {
+        return currentDeadline.get() != null;
+    }
+    
+    /**
+     * Checks whether the current test's budget has run out
+     * 
+     * @return true if a budget is running and nothing is left of it
+     */
+    public static boolean isExhausted() {
+        Deadline deadline = currentDeadline.get();
+        return deadline != null && deadline.remainingNanos() <= 0;
+    }
+    
+    /**
+     * Gets the remaining budget
+     * 
+     * @return Remaining budget, or null if the test has no budget
+     */
+    public static Duration remaining() {
+        Deadline deadline = currentDeadline.get();
+        return deadline != null ? Duration.ofNanos(Math.max(0, deadline.remainingNanos())) : null;
+    }
+    
+    /**
+     * Shrinks a timeout to the remaining budget
+     * 
+     * @param timeout The timeout the caller asked for
+     * @param operation Operation name for the failure message
+     * @return The timeout, or the remaining budget if that is shorter
+     * @throws BudgetExhaustedException if the budget has run out
+     */
+    public static Duration bound(Duration timeout, String operation) {
+        Deadline deadline = currentDeadline.get();
+        if (deadline == null) {
+            return timeout;
+        }
+        long remaining = deadline.remainingNanos();
+        if (remaining <= 0) {
+            throw exhausted(operation, null);
+        }
+        if (remaining >= timeout.toNanos()) {
+            return timeout;
+        }
+        shortenedWaits.increment();
+        return Duration.ofNanos(remaining);
+    }
+    
+    /**
+     * Fails fast if the budget has run out
+     * 
+     * @param operation Operation name for the failure message
+     * @throws BudgetExhaustedException if the budget has run out
+     */
+    public static void check(String operation) {
+        if (isExhausted()) {
+            throw exhausted(operation, null);
+        }
+    }
+    
+    /**
+     * Creates the failure for an operation that ran into the end of the budget
+     * 
+     * @param operation Operation name or timeout message
+     * @param cause The timeout that hit the end of the budget, or null
+     * @return Budget exhausted exception
+     */
+    public static BudgetExhaustedException exhausted(String operation, Throwable cause) {
+        Deadline deadline = currentDeadline.get();
+        String message = deadline != null
+            ? String.format("Wait budget of %ds exhausted for test '%s': %s", deadline.budget.getSeconds(), deadline.testName, operation)
+            : "Wait budget exhausted: " + operation;
+        if (deadline != null && !deadline.reported) {
+            deadline.reported = true;
+            exhaustedTests.increment();
+            LogManager.error(message);
+        }
+        return new BudgetExhaustedException(message, cause);
+    }
+    
+    /**
+     * Gets wait budget statistics
+     * 
+     * @return Wait budget statistics summary
+     */
+    public static String getBudgetStatistics() {
+        return String.format("Wait Budget - Budgeted Tests: %d, Exhausted: %d, Shortened Waits: %d",
+            budgetedTests.sum(), exhaustedTests.sum(), shortenedWaits.sum());
+    }
+    
+    /**
+     * Budget of one test
+     */
+    private static final class Deadline {
+        private final String testName;
+        private final Duration budget;
+        private final long deadlineNanos;
+        private boolean reported;
+        
+        private Deadline(String testName, Duration budget) {
+            this.testName = testName;
+            this.budget = budget;
+            this.deadlineNanos = System.nanoTime() + budget.toNanos();
+        }
+        
+        private long remainingNanos() {
+            return deadlineNanos - System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.automation.framework.utils;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * WaitBudget Annotation - Bounds the total time a test may spend in waits and element actions
+ * A method annotation takes precedence over a class annotation; without either, test.wait.budget.seconds applies
+ *
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Inherited
+public @interface WaitBudget {
+
+    /**
+     * Budget in seconds, counted from the end of driver setup
+     *
+     * @return Budget in seconds (0 disables the budget for this test)
+     */
+    int seconds();
+}
@@ -0,0 +1,162 @@
+package com.automation.framework.utils;
+
+import com.automation.framework.config.ConfigLoader;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Wait Cache - Per-thread, per-driver cache of configured wait objects
+ * WaitFactory reuses one wait per condition type, timeout, polling interval and ignore list instead of
+ * allocating a new wait, clock, sleeper and ignore list for every call. The cache belongs to the thread's
+ * current driver and is dropped when DriverManager swaps or quits the driver
+ * 
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+final class WaitCache {
+    
+    private static final ConfigLoader config = ConfigLoader.getInstance();
+    
+    // Bounds the cache when tests use many distinct timeouts
+    private static final int MAX_ENTRIES = 64;
+    
+    private static final ThreadLocal<WaitCache> threadCache = new ThreadLocal<>();
+    
+    // Cache statistics
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    private static final LongAdder invalidations = new LongAdder();
+    
+    private final WebDriver driver;
+    private final Map<Key, AdaptiveWait> waits = new HashMap<>();
+    
+    // Reused for lookups so a cache hit allocates nothing
+    private final Key probe = new Key();
+    
+    private WaitCache(WebDriver driver) {
+        this.driver = driver;
+    }
+    
+    /**
+     * Gets a configured wait for the current thread, reusing a cached one when possible
+     * A cached wait that is still running (a wait started from inside a condition) is never handed out twice
+     * 
+     * @param driver The WebDriver instance
+     * @param conditionKey Condition type the polling schedule is tuned for
+     * @param timeout The timeout
+     * @param pollingInterval Fixed polling interval, or null to poll adaptively
+     * @param ignored Exceptions the wait ignores in addition to NotFoundException
+     * @return Wait ready for until()
+     */
+    static AdaptiveWait get(WebDriver driver, String conditionKey, Duration timeout, Duration pollingInterval, 
+                            List<Class<? extends Throwable>> ignored) {
+        if (!config.isWaitCacheEnabled()) {
+            return create(driver, conditionKey, timeout, pollingInterval, ignored);
+        }
+        
+        WaitCache cache = threadCache.get();
+        if (cache == null || cache.driver != driver) {
+            if (cache != null) {
+                invalidations.increment();
+            }
+            cache = new WaitCache(driver);
+            threadCache.set(cache);
+        }
+        
+        AdaptiveWait wait = cache.waits.get(cache.probe.set(conditionKey, timeout, pollingInterval, ignored));
+        if (wait != null && !wait.isInUse()) {
+            hits.increment();
+            return wait;
+        }
+        
+        misses.increment();
+        wait = create(driver, conditionKey, timeout, pollingInterval, ignored);
+        if (cache.waits.size() >= MAX_ENTRIES) {
+            cache.waits.clear();
+        }
+        cache.waits.putIfAbsent(new Key().set(conditionKey, timeout, pollingInterval, ignored), wait);
+        return wait;
+    }
+    
+    /**
+     * Drops the current thread's cached waits
+     */
+    static void invalidate() {
+        if (threadCache.get() != null) {
+            threadCache.remove();
+            invalidations.increment();
+        }
+    }
+    
+    /**
+     * Gets wait cache statistics
+     * 
+     * @return Wait cache statistics summary
+     */
+    static String getStatistics() {
+        long lookups = hits.sum() + misses.sum();
+        return String.format("Wait Cache - Enabled: %s, Hits: %d, Misses: %d, Hit Rate: %.1f%%, Invalidations: %d",
+            config.isWaitCacheEnabled(), hits.sum(), misses.sum(), lookups > 0 ? hits.sum() * 100.0 / lookups : 0, 
+            invalidations.sum());
+    }
+    
+    /**
+     * Creates a configured wait
+     */
+    private static AdaptiveWait create(WebDriver driver, String conditionKey, Duration timeout, Duration pollingInterval, 
+                                       List<Class<? extends Throwable>> ignored) {
+        AdaptiveWait wait = pollingInterval != null 
+            ? new AdaptiveWait(driver, conditionKey, timeout, pollingInterval) 
+            : new AdaptiveWait(driver, conditionKey, timeout);
+        for (Class<? extends Throwable> exception : ignored) {
+            wait.ignoring(exception);
+        }
+        return wait;
+    }
+    
+    /**
+     * Cache key: everything a wait is configured with
+     * Mutable only so the per-thread probe can be reused; keys stored in the map are never changed
+     */
+    private static final class Key {
+        private String conditionKey;
+        private Duration timeout;
+        private Duration pollingInterval;
+        private List<Class<? extends Throwable>> ignored;
+        
+        private Key set(String conditionKey, Duration timeout, Duration pollingInterval, List<Class<? extends Throwable>> ignored) {
+            this.conditionKey = conditionKey;
+            this.timeout = timeout;
+            this.pollingInterval = pollingInterval;
+            this.ignored = ignored;
+            return this;
+        }
+        
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return conditionKey.equals(key.conditionKey) && timeout.equals(key.timeout)
+                && Objects.equals(pollingInterval, key.pollingInterval) && ignored.equals(key.ignored);
+        }
+        
+        @Override
+        public int hashCode() {
+            int hash = conditionKey.hashCode();
+            hash = 31 * hash + timeout.hashCode();
+            hash = 31 * hash + Objects.hashCode(pollingInterval);
+            return 31 * hash + ignored.hashCode();
+        }
+    }
+}
@@ -3,7 +3,11 @@ package com.automation.framework.utils;
 import com.automation.framework.config.ConfigLoader;
 import com.automation.framework.constants.FrameworkConstants;
 import com.automation.framework.driver.DriverManager;
+import com.automation.framework.driver.NetworkActivity;
+import com.automation.framework.exceptions.BudgetExhaustedException;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.TimeoutException;
@@ -16,12 +20,20 @@ import org.openqa.selenium.support.ui.Wait;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 
 /**
  * Wait Factory - Provides intelligent wait strategies using FluentWait and ExpectedConditions
  * Implements adaptive wait patterns with automatic timeout adjustment and exception filtering
+ * Element waits run on the MutationObserver-backed engine when enabled and fall back to polling;
+ * polling waits start at a sub-second interval and back off per condition type (see {@link AdaptivePolling})
+ * and reuse per-thread wait objects instead of allocating new ones for every call (see {@link WaitCache});
+ * every wait is shortened to the test's remaining wait budget (see {@link TestDeadline}) and recorded in
+ * per-condition, per-locator latency histograms (see {@link WaitTelemetry})
  * 
  * @author Test Automation Framework
  * @version 1.0.0
@@ -30,6 +42,57 @@ public final class WaitFactory {
     
     private static final ConfigLoader config = ConfigLoader.getInstance();
     
+    // Telemetry target of waits on the page as a whole
+    private static final String PAGE_TARGET = "page";
+    
+    // Condition last described for wait telemetry on this thread and its description
+    private static final ThreadLocal<Object[]> lastDescribedCondition = ThreadLocal.withInitial(() -> new Object[2]);
+    
+    // Ignore lists of the cached waits, shared so cache lookups allocate nothing for them
+    private static final List<Class<? extends Throwable>> NO_EXTRA_IGNORED = List.of();
+    private static final List<Class<? extends Throwable>> FLUENT_IGNORED = 
+        List.of(NoSuchElementException.class, StaleElementReferenceException.class);
+    private static final List<Class<? extends Throwable>> COMPOSITE_IGNORED = 
+        List.of(JavascriptException.class, StaleElementReferenceException.class);
+    
+    // Hit-tests the element's centre the way a WebDriver click does, scrolling it into view first if needed
+    private static final String UNOBSCURED_SCRIPT =
+        "var element = arguments[0], rect = element.getBoundingClientRect();" +
+        "if (rect.bottom < 0 || rect.right < 0 || rect.top > window.innerHeight || rect.left > window.innerWidth) {" +
+        "  element.scrollIntoView({block: 'center', inline: 'center'});" +
+        "  rect = element.getBoundingClientRect();" +
+        "}" +
+        "var hit = document.elementFromPoint(rect.left + rect.width / 2, rect.top + rect.height / 2);" +
+        "return hit !== null && (hit === element || element.contains(hit));";
+    
+    // Evaluates every condition of a composite wait in one call; stops at the first one that holds when asked to
+    private static final String COMPOSITE_SCRIPT =
+        LocatorScripts.FIND_ALL_FUNCTION +
+        LocatorScripts.IS_VISIBLE_FUNCTION +
+        LocatorScripts.CHECK_CONDITION_FUNCTION +
+        "var conditions = arguments[0], stopAtFirst = arguments[1], satisfied = [];" +
+        "for (var i = 0; i < conditions.length; i++) {" +
+        "  var c = conditions[i];" +
+        "  satisfied.push(!!checkCondition(c.condition, c.locator, c.expected, c.name));" +
+        "  if (stopAtFirst && satisfied[i]) { break; }" +
+        "}" +
+        "return satisfied;";
+    
+    // Returns the name of the first layer that is still busy, or falls through to the application hook
+    private static final String FRAMEWORK_READY_SCRIPT =
+        "if (document.readyState !== 'complete') { return 'document'; }" +
+        "if (window.jQuery && window.jQuery.active > 0) { return 'jQuery'; }" +
+        "if (window.getAllAngularTestabilities) {" +
+        "  var stable = window.getAllAngularTestabilities().every(function(testability) { return testability.isStable(); });" +
+        "  if (!stable) { return 'Angular'; }" +
+        "}" +
+        "if (window.angular && window.angular.element) {" +
+        "  try {" +
+        "    var injector = window.angular.element(document.body).injector();" +
+        "    if (injector && injector.get('$http').pendingRequests.length > 0) { return 'AngularJS'; }" +
+        "  } catch (e) {}" +
+        "}";
+    
     // Prevent instantiation
     private WaitFactory() {
         throw new UnsupportedOperationException("WaitFactory is a utility class and cannot be instantiated");
@@ -37,12 +100,23 @@ public final class WaitFactory {
     
     /**
      * Creates a standard WebDriverWait instance
+     * The instance belongs to the caller; WaitFactory's own waits come from the per-thread wait cache
      * 
      * @param timeoutInSeconds The timeout in seconds
      * @return WebDriverWait instance
      */
     public static WebDriverWait createWebDriverWait(int timeoutInSeconds) {
-        return new WebDriverWait(DriverManager.getDriver(), Duration.ofSeconds(timeoutInSeconds));
+        return createWebDriverWait(Duration.ofSeconds(timeoutInSeconds));
+    }
+    
+    /**
+     * Creates a WebDriverWait instance that polls adaptively
+     * 
+     * @param timeout The timeout
+     * @return WebDriverWait instance
+     */
+    public static WebDriverWait createWebDriverWait(Duration timeout) {
+        return new AdaptiveWait(DriverManager.getDriver(), "custom", TestDeadline.bound(timeout, "custom wait"));
     }
     
     /**
@@ -53,9 +127,18 @@ public final class WaitFactory {
      * @return FluentWait instance
      */
     public static Wait<WebDriver> createFluentWait(int timeoutInSeconds, int pollingIntervalInSeconds) {
-        return new FluentWait<>(DriverManager.getDriver())
-                .withTimeout(Duration.ofSeconds(timeoutInSeconds))
-                .pollingEvery(Duration.ofSeconds(pollingIntervalInSeconds))
+        return createFluentWait(Duration.ofSeconds(timeoutInSeconds), Duration.ofSeconds(pollingIntervalInSeconds));
+    }
+    
+    /**
+     * Creates a FluentWait instance with a sub-second capable polling interval
+     * 
+     * @param timeout The timeout
+     * @param pollingInterval The polling interval
+     * @return FluentWait instance
+     */
+    public static Wait<WebDriver> createFluentWait(Duration timeout, Duration pollingInterval) {
+        return new AdaptiveWait(DriverManager.getDriver(), "fluent", TestDeadline.bound(timeout, "fluent wait"), pollingInterval)
                 .ignoring(NoSuchElementException.class)
                 .ignoring(StaleElementReferenceException.class);
     }
@@ -71,9 +154,23 @@ public final class WaitFactory {
     @SafeVarargs
     public static Wait<WebDriver> createFluentWait(int timeoutInSeconds, int pollingIntervalInSeconds, 
                                                    Class<? extends Throwable>... exceptionsToIgnore) {
-        FluentWait<WebDriver> wait = new FluentWait<>(DriverManager.getDriver())
-                .withTimeout(Duration.ofSeconds(timeoutInSeconds))
-                .pollingEvery(Duration.ofSeconds(pollingIntervalInSeconds));
+        return createFluentWait(Duration.ofSeconds(timeoutInSeconds), Duration.ofSeconds(pollingIntervalInSeconds), 
+            exceptionsToIgnore);
+    }
+    
+    /**
+     * Creates a FluentWait instance with custom exception handling and a sub-second capable polling interval
+     * 
+     * @param timeout The timeout
+     * @param pollingInterval The polling interval
+     * @param exceptionsToIgnore List of exception classes to ignore
+     * @return FluentWait instance
+     */
+    @SafeVarargs
+    public static Wait<WebDriver> createFluentWait(Duration timeout, Duration pollingInterval, 
+                                                   Class<? extends Throwable>... exceptionsToIgnore) {
+        FluentWait<WebDriver> wait = new AdaptiveWait(DriverManager.getDriver(), "fluent", 
+            TestDeadline.bound(timeout, "fluent wait"), pollingInterval);
         
         for (Class<? extends Throwable> exception : exceptionsToIgnore) {
             wait = wait.ignoring(exception);
@@ -102,19 +199,31 @@ public final class WaitFactory {
      * @return The visible WebElement
      */
     public static WebElement waitForElementVisible(By locator, int timeoutInSeconds) {
+        return waitForElementVisible(locator, Duration.ofSeconds(timeoutInSeconds));
+    }
+    
+    /**
+     * Waits for an element to be visible with a sub-second capable timeout
+     * 
+     * @param locator The By locator for the element
+     * @param timeout The timeout
+     * @return The visible WebElement
+     */
+    public static WebElement waitForElementVisible(By locator, Duration timeout) {
         LogManager.debug("Waiting for element to be visible: {}", locator);
         
         try {
-            WebElement element = createWebDriverWait(timeoutInSeconds)
-                    .until(ExpectedConditions.visibilityOfElementLocated(locator));
+            WebElement element = WaitTelemetry.record("visible", locator, () -> awaitInPage(locator, MutationWaitEngine.Condition.VISIBLE, timeout)
+                    .map(MutationWaitEngine.Result::getElement)
+                    .orElseGet(() -> newWait("visible", timeout)
+                            .until(ExpectedConditions.visibilityOfElementLocated(locator))));
             
             LogManager.logElementFound(locator.toString());
             return element;
             
         } catch (TimeoutException e) {
             LogManager.logTimeout(locator.toString());
-            throw new TimeoutException("Element not visible within " + timeoutInSeconds + 
-                " seconds: " + locator, e);
+            throw timeoutFailure("Element not visible within " + describe(timeout) + ": " + locator, e);
         }
     }
     
@@ -127,19 +236,31 @@ public final class WaitFactory {
      * @return The visible WebElement
      */
     public static WebElement waitForElementVisibleFluent(By locator, int timeoutInSeconds, int pollingIntervalInSeconds) {
+        return waitForElementVisibleFluent(locator, Duration.ofSeconds(timeoutInSeconds), 
+            Duration.ofSeconds(pollingIntervalInSeconds));
+    }
+    
+    /**
+     * Waits for an element to be visible using FluentWait with a sub-second capable polling interval
+     * 
+     * @param locator The By locator for the element
+     * @param timeout The timeout
+     * @param pollingInterval The polling interval
+     * @return The visible WebElement
+     */
+    public static WebElement waitForElementVisibleFluent(By locator, Duration timeout, Duration pollingInterval) {
         LogManager.debug("Waiting for element to be visible (FluentWait): {}", locator);
         
         try {
-            WebElement element = createFluentWait(timeoutInSeconds, pollingIntervalInSeconds)
-                    .until(ExpectedConditions.visibilityOfElementLocated(locator));
+            WebElement element = WaitTelemetry.record("visible-fluent", locator, () -> newFluentWait(timeout, pollingInterval)
+                    .until(ExpectedConditions.visibilityOfElementLocated(locator)));
             
             LogManager.logElementFound(locator.toString());
             return element;
             
         } catch (TimeoutException e) {
             LogManager.logTimeout(locator.toString());
-            throw new TimeoutException("Element not visible within " + timeoutInSeconds + 
-                " seconds (FluentWait): " + locator, e);
+            throw timeoutFailure("Element not visible within " + describe(timeout) + " (FluentWait): " + locator, e);
         }
     }
     
@@ -163,19 +284,31 @@ public final class WaitFactory {
      * @return The clickable WebElement
      */
     public static WebElement waitForElementClickable(By locator, int timeoutInSeconds) {
+        return waitForElementClickable(locator, Duration.ofSeconds(timeoutInSeconds));
+    }
+    
+    /**
+     * Waits for an element to be clickable with a sub-second capable timeout
+     * 
+     * @param locator The By locator for the element
+     * @param timeout The timeout
+     * @return The clickable WebElement
+     */
+    public static WebElement waitForElementClickable(By locator, Duration timeout) {
         LogManager.debug("Waiting for element to be clickable: {}", locator);
         
         try {
-            WebElement element = createWebDriverWait(timeoutInSeconds)
-                    .until(ExpectedConditions.elementToBeClickable(locator));
+            WebElement element = WaitTelemetry.record("clickable", locator, () -> awaitInPage(locator, MutationWaitEngine.Condition.CLICKABLE, timeout)
+                    .map(MutationWaitEngine.Result::getElement)
+                    .orElseGet(() -> newWait("clickable", timeout)
+                            .until(ExpectedConditions.elementToBeClickable(locator))));
             
             LogManager.logElementFound(locator.toString());
             return element;
             
         } catch (TimeoutException e) {
             LogManager.logTimeout(locator.toString());
-            throw new TimeoutException("Element not clickable within " + timeoutInSeconds + 
-                " seconds: " + locator, e);
+            throw timeoutFailure("Element not clickable within " + describe(timeout) + ": " + locator, e);
         }
     }
     
@@ -190,15 +323,57 @@ public final class WaitFactory {
         LogManager.debug("Waiting for WebElement to be clickable");
         
         try {
-            WebElement clickableElement = createWebDriverWait(timeoutInSeconds)
-                    .until(ExpectedConditions.elementToBeClickable(element));
+            WebElement clickableElement = WaitTelemetry.record("clickable", "WebElement", () -> newWait("clickable", Duration.ofSeconds(timeoutInSeconds))
+                    .until(ExpectedConditions.elementToBeClickable(element)));
             
             LogManager.debug("WebElement is now clickable");
             return clickableElement;
             
         } catch (TimeoutException e) {
             LogManager.error("WebElement not clickable within {} seconds", timeoutInSeconds);
-            throw new TimeoutException("WebElement not clickable within " + timeoutInSeconds + " seconds", e);
+            throw timeoutFailure("WebElement not clickable within " + timeoutInSeconds + " seconds", e);
+        }
+    }
+    
+    /**
+     * Waits for an element to be clickable and not covered by another element at its centre,
+     * which is where a WebDriver click lands
+     * 
+     * @param locator The By locator for the element
+     * @param timeout The timeout duration
+     * @return The unobscured WebElement
+     */
+    public static WebElement waitForElementUnobscured(By locator, Duration timeout) {
+        LogManager.debug("Waiting for element to be unobscured: {}", locator);
+        
+        try {
+            return WaitTelemetry.record("unobscured", locator, () -> budgetedWait(DriverManager.getDriver(), "unobscured", 
+                    timeout, null, FLUENT_IGNORED)
+                    .until(driver -> unobscured(driver, driver.findElement(locator))));
+            
+        } catch (TimeoutException e) {
+            LogManager.logTimeout(locator.toString());
+            throw timeoutFailure("Element still obscured within " + describe(timeout) + ": " + locator, e);
+        }
+    }
+    
+    /**
+     * Waits for a WebElement to be clickable and not covered by another element at its centre
+     * 
+     * @param element The WebElement to wait for
+     * @param timeout The timeout duration
+     * @return The unobscured WebElement
+     */
+    public static WebElement waitForElementUnobscured(WebElement element, Duration timeout) {
+        LogManager.debug("Waiting for WebElement to be unobscured");
+        
+        try {
+            return WaitTelemetry.record("unobscured", "WebElement", () -> newWait("unobscured", timeout)
+                    .until(driver -> unobscured(driver, element)));
+            
+        } catch (TimeoutException e) {
+            LogManager.error("WebElement still obscured within {}", describe(timeout));
+            throw timeoutFailure("WebElement still obscured within " + describe(timeout), e);
         }
     }
     
@@ -222,19 +397,31 @@ public final class WaitFactory {
      * @return The present WebElement
      */
     public static WebElement waitForElementPresent(By locator, int timeoutInSeconds) {
+        return waitForElementPresent(locator, Duration.ofSeconds(timeoutInSeconds));
+    }
+    
+    /**
+     * Waits for an element to be present in DOM with a sub-second capable timeout
+     * 
+     * @param locator The By locator for the element
+     * @param timeout The timeout
+     * @return The present WebElement
+     */
+    public static WebElement waitForElementPresent(By locator, Duration timeout) {
         LogManager.debug("Waiting for element to be present: {}", locator);
         
         try {
-            WebElement element = createWebDriverWait(timeoutInSeconds)
-                    .until(ExpectedConditions.presenceOfElementLocated(locator));
+            WebElement element = WaitTelemetry.record("present", locator, () -> awaitInPage(locator, MutationWaitEngine.Condition.PRESENT, timeout)
+                    .map(MutationWaitEngine.Result::getElement)
+                    .orElseGet(() -> newWait("present", timeout)
+                            .until(ExpectedConditions.presenceOfElementLocated(locator))));
             
             LogManager.logElementFound(locator.toString());
             return element;
             
         } catch (TimeoutException e) {
             LogManager.logTimeout(locator.toString());
-            throw new TimeoutException("Element not present within " + timeoutInSeconds + 
-                " seconds: " + locator, e);
+            throw timeoutFailure("Element not present within " + describe(timeout) + ": " + locator, e);
         }
     }
     
@@ -249,15 +436,15 @@ public final class WaitFactory {
         LogManager.debug("Waiting for elements to be present: {}", locator);
         
         try {
-            List<WebElement> elements = createWebDriverWait(timeoutInSeconds)
-                    .until(ExpectedConditions.presenceOfAllElementsLocatedBy(locator));
+            List<WebElement> elements = WaitTelemetry.record("present-all", locator, () -> newWait("present-all", Duration.ofSeconds(timeoutInSeconds))
+                    .until(ExpectedConditions.presenceOfAllElementsLocatedBy(locator)));
             
             LogManager.debug("Found {} elements matching locator: {}", elements.size(), locator);
             return elements;
             
         } catch (TimeoutException e) {
             LogManager.logTimeout(locator.toString());
-            throw new TimeoutException("Elements not present within " + timeoutInSeconds + 
+            throw timeoutFailure("Elements not present within " + timeoutInSeconds + 
                 " seconds: " + locator, e);
         }
     }
@@ -276,15 +463,17 @@ public final class WaitFactory {
         LogManager.debug("Waiting for text '{}' to be present in element: {}", text, locator);
         
         try {
-            boolean result = createWebDriverWait(timeoutInSeconds)
-                    .until(ExpectedConditions.textToBePresentInElementLocated(locator, text));
+            boolean result = WaitTelemetry.record("text", locator, () -> awaitInPage(locator, MutationWaitEngine.Condition.TEXT, text, null, Duration.ofSeconds(timeoutInSeconds))
+                    .map(met -> true)
+                    .orElseGet(() -> newWait("text", Duration.ofSeconds(timeoutInSeconds))
+                            .until(ExpectedConditions.textToBePresentInElementLocated(locator, text))));
             
             LogManager.debug("Text '{}' found in element: {}", text, locator);
             return result;
             
         } catch (TimeoutException e) {
             LogManager.error("Text '{}' not found in element {} within {} seconds", text, locator, timeoutInSeconds);
-            throw new TimeoutException("Text '" + text + "' not found in element within " + 
+            throw timeoutFailure("Text '" + text + "' not found in element within " + 
                 timeoutInSeconds + " seconds: " + locator, e);
         }
     }
@@ -302,8 +491,11 @@ public final class WaitFactory {
         LogManager.debug("Waiting for attribute '{}' to have value '{}' in element: {}", attribute, value, locator);
         
         try {
-            boolean result = createWebDriverWait(timeoutInSeconds)
-                    .until(ExpectedConditions.attributeToBe(locator, attribute, value));
+            boolean result = WaitTelemetry.record("attribute", locator, () -> awaitInPage(locator, MutationWaitEngine.Condition.ATTRIBUTE, value, attribute, 
+                        Duration.ofSeconds(timeoutInSeconds))
+                    .map(met -> true)
+                    .orElseGet(() -> newWait("attribute", Duration.ofSeconds(timeoutInSeconds))
+                            .until(ExpectedConditions.attributeToBe(locator, attribute, value))));
             
             LogManager.debug("Attribute '{}' has expected value '{}' in element: {}", attribute, value, locator);
             return result;
@@ -311,7 +503,7 @@ public final class WaitFactory {
         } catch (TimeoutException e) {
             LogManager.error("Attribute '{}' does not have expected value '{}' in element {} within {} seconds", 
                 attribute, value, locator, timeoutInSeconds);
-            throw new TimeoutException("Attribute '" + attribute + "' does not have expected value '" + 
+            throw timeoutFailure("Attribute '" + attribute + "' does not have expected value '" + 
                 value + "' within " + timeoutInSeconds + " seconds: " + locator, e);
         }
     }
@@ -329,19 +521,154 @@ public final class WaitFactory {
         LogManager.debug("Waiting for element to become invisible: {}", locator);
         
         try {
-            boolean result = createWebDriverWait(timeoutInSeconds)
-                    .until(ExpectedConditions.invisibilityOfElementLocated(locator));
+            boolean result = WaitTelemetry.record("invisible", locator, () -> awaitInPage(locator, MutationWaitEngine.Condition.INVISIBLE, Duration.ofSeconds(timeoutInSeconds))
+                    .map(met -> true)
+                    .orElseGet(() -> newWait("invisible", Duration.ofSeconds(timeoutInSeconds))
+                            .until(ExpectedConditions.invisibilityOfElementLocated(locator))));
             
             LogManager.debug("Element became invisible: {}", locator);
             return result;
             
         } catch (TimeoutException e) {
             LogManager.error("Element did not become invisible within {} seconds: {}", timeoutInSeconds, locator);
-            throw new TimeoutException("Element did not become invisible within " + 
+            throw timeoutFailure("Element did not become invisible within " + 
                 timeoutInSeconds + " seconds: " + locator, e);
         }
     }
     
+    // ========== PAGE READINESS WAITS ==========
+    
+    /**
+     * Waits for the network to go idle using the configured quiet period and in-flight allowance
+     * 
+     * @return true once the network is idle
+     */
+    public static boolean waitForNetworkIdle() {
+        return waitForNetworkIdle(Duration.ofMillis(config.getNetworkQuietPeriod()), config.getNetworkMaxInflight());
+    }
+    
+    /**
+     * Waits for the network to go idle using the default timeout
+     * 
+     * @param quietPeriod How long no request may have started or finished
+     * @param maxInflight Number of requests allowed to stay open (e.g. long polling)
+     * @return true once the network is idle
+     */
+    public static boolean waitForNetworkIdle(Duration quietPeriod, int maxInflight) {
+        return waitForNetworkIdle(quietPeriod, maxInflight, Duration.ofSeconds(config.getExplicitWaitTimeout()));
+    }
+    
+    /**
+     * Waits until at most maxInflight requests are open and none has started or finished for the quiet period
+     * In-flight requests are tracked through CDP on Chromium and through a fetch/XHR interceptor elsewhere
+     * 
+     * @param quietPeriod How long no request may have started or finished
+     * @param maxInflight Number of requests allowed to stay open (e.g. long polling)
+     * @param timeout The timeout
+     * @return true once the network is idle
+     */
+    public static boolean waitForNetworkIdle(Duration quietPeriod, int maxInflight, Duration timeout) {
+        LogManager.debug("Waiting for network idle (quiet {}, max in flight {})", describe(quietPeriod), maxInflight);
+        WebDriver driver = DriverManager.getDriver();
+        
+        try {
+            boolean result = WaitTelemetry.record("network-idle", PAGE_TARGET, () -> newWait("network-idle", timeout)
+                    .until(webDriver -> NetworkActivity.isIdle(webDriver, quietPeriod, maxInflight) ? Boolean.TRUE : null));
+            
+            LogManager.debug("Network is idle");
+            return result;
+            
+        } catch (TimeoutException e) {
+            String activity = NetworkActivity.describe(driver);
+            LogManager.error("Network not idle within {}: {}", describe(timeout), activity);
+            throw timeoutFailure("Network not idle within " + describe(timeout) + ": " + activity, e);
+        }
+    }
+    
+    /**
+     * Waits for document.readyState to be complete using the default timeout
+     * 
+     * @return true once the document is ready
+     */
+    public static boolean waitForDocumentReady() {
+        return waitForDocumentReady(Duration.ofSeconds(config.getExplicitWaitTimeout()));
+    }
+    
+    /**
+     * Waits for document.readyState to be complete
+     * 
+     * @param timeout The timeout
+     * @return true once the document is ready
+     */
+    public static boolean waitForDocumentReady(Duration timeout) {
+        LogManager.debug("Waiting for document ready state");
+        
+        try {
+            boolean result = WaitTelemetry.record("document-ready", PAGE_TARGET, () -> newWait("document-ready", timeout)
+                    .until(webDriver -> "complete".equals(((JavascriptExecutor) webDriver).executeScript(
+                        "return document.readyState;")) ? Boolean.TRUE : null));
+            
+            LogManager.debug("Document is ready");
+            return result;
+            
+        } catch (TimeoutException e) {
+            LogManager.error("Document not ready within {}", describe(timeout));
+            throw timeoutFailure("Document not ready within " + describe(timeout), e);
+        }
+    }
+    
+    /**
+     * Waits for the page and its front-end framework to be idle using the default timeout
+     * 
+     * @return true once the application is ready
+     */
+    public static boolean waitForFrameworkReady() {
+        return waitForFrameworkReady(Duration.ofSeconds(config.getExplicitWaitTimeout()));
+    }
+    
+    /**
+     * Waits for the page and its front-end framework to be idle: document complete, no active jQuery requests,
+     * stable Angular testabilities, no pending AngularJS $http requests, and the configured application hook
+     * (wait.app.ready.script, e.g. a flag a React app sets when rendering settles)
+     * 
+     * @param timeout The timeout
+     * @return true once the application is ready
+     */
+    public static boolean waitForFrameworkReady(Duration timeout) {
+        LogManager.debug("Waiting for framework ready state");
+        String script = FRAMEWORK_READY_SCRIPT + appReadyCheck();
+        String[] busy = {null};
+        
+        try {
+            boolean result = WaitTelemetry.record("framework-ready", PAGE_TARGET, () -> newWait("framework-ready", timeout)
+                    .until(webDriver -> {
+                        busy[0] = (String) ((JavascriptExecutor) webDriver).executeScript(script);
+                        return busy[0] == null ? Boolean.TRUE : null;
+                    }));
+            
+            LogManager.debug("Application is ready");
+            return result;
+            
+        } catch (TimeoutException e) {
+            LogManager.error("Application not ready within {} (busy: {})", describe(timeout), busy[0]);
+            throw timeoutFailure("Application not ready within " + describe(timeout) + " (busy: " + busy[0] + ")", e);
+        }
+    }
+    
+    /**
+     * Builds the check for the configured application readiness hook
+     * 
+     * @return Script fragment returning 'application' while the hook reports busy
+     */
+    private static String appReadyCheck() {
+        String hook = config.getAppReadyScript();
+        if (hook.isEmpty()) {
+            return "return null;";
+        }
+        return "try { if (!(function() {" + hook + "})()) { return 'application'; } } catch (e) { return 'application'; }" +
+            "return null;";
+    }
+    
     // ========== URL AND TITLE WAITS ==========
     
     /**
@@ -355,15 +682,15 @@ public final class WaitFactory {
         LogManager.debug("Waiting for URL to contain: {}", urlFragment);
         
         try {
-            boolean result = createWebDriverWait(timeoutInSeconds)
-                    .until(ExpectedConditions.urlContains(urlFragment));
+            boolean result = WaitTelemetry.record("url", urlFragment, () -> newWait("url", Duration.ofSeconds(timeoutInSeconds))
+                    .until(ExpectedConditions.urlContains(urlFragment)));
             
             LogManager.debug("URL now contains: {}", urlFragment);
             return result;
             
         } catch (TimeoutException e) {
             LogManager.error("URL does not contain '{}' within {} seconds", urlFragment, timeoutInSeconds);
-            throw new TimeoutException("URL does not contain '" + urlFragment + 
+            throw timeoutFailure("URL does not contain '" + urlFragment + 
                 "' within " + timeoutInSeconds + " seconds", e);
         }
     }
@@ -379,15 +706,15 @@ public final class WaitFactory {
         LogManager.debug("Waiting for title to contain: {}", titleFragment);
         
         try {
-            boolean result = createWebDriverWait(timeoutInSeconds)
-                    .until(ExpectedConditions.titleContains(titleFragment));
+            boolean result = WaitTelemetry.record("title", titleFragment, () -> newWait("title", Duration.ofSeconds(timeoutInSeconds))
+                    .until(ExpectedConditions.titleContains(titleFragment)));
             
             LogManager.debug("Title now contains: {}", titleFragment);
             return result;
             
         } catch (TimeoutException e) {
             LogManager.error("Title does not contain '{}' within {} seconds", titleFragment, timeoutInSeconds);
-            throw new TimeoutException("Title does not contain '" + titleFragment + 
+            throw timeoutFailure("Title does not contain '" + titleFragment + 
                 "' within " + timeoutInSeconds + " seconds", e);
         }
     }
@@ -404,18 +731,31 @@ public final class WaitFactory {
      * @return The result of the condition
      */
     public static <T> T waitForCondition(Function<WebDriver, T> condition, int timeoutInSeconds, int pollingIntervalInSeconds) {
-        LogManager.debug("Waiting for custom condition with timeout: {}s, polling: {}s", timeoutInSeconds, pollingIntervalInSeconds);
+        return waitForCondition(condition, Duration.ofSeconds(timeoutInSeconds), Duration.ofSeconds(pollingIntervalInSeconds));
+    }
+    
+    /**
+     * Waits for a custom condition using FluentWait with a sub-second capable polling interval
+     * 
+     * @param condition The custom condition to wait for
+     * @param timeout The timeout
+     * @param pollingInterval The polling interval
+     * @param <T> The return type of the condition
+     * @return The result of the condition
+     */
+    public static <T> T waitForCondition(Function<WebDriver, T> condition, Duration timeout, Duration pollingInterval) {
+        LogManager.debug("Waiting for custom condition with timeout: {}, polling: {}", describe(timeout), describe(pollingInterval));
         
         try {
-            T result = createFluentWait(timeoutInSeconds, pollingIntervalInSeconds)
-                    .until(condition);
+            T result = WaitTelemetry.record("custom", describeCondition(condition), () -> newFluentWait(timeout, pollingInterval)
+                    .until(condition));
             
             LogManager.debug("Custom condition satisfied");
             return result;
             
         } catch (TimeoutException e) {
-            LogManager.error("Custom condition not satisfied within {} seconds", timeoutInSeconds);
-            throw new TimeoutException("Custom condition not satisfied within " + timeoutInSeconds + " seconds", e);
+            LogManager.error("Custom condition not satisfied within {}", describe(timeout));
+            throw timeoutFailure("Custom condition not satisfied within " + describe(timeout), e);
         }
     }
     
@@ -431,21 +771,357 @@ public final class WaitFactory {
         LogManager.debug("Waiting for ExpectedCondition with timeout: {}s", timeoutInSeconds);
         
         try {
-            T result = createWebDriverWait(timeoutInSeconds).until(condition);
+            T result = WaitTelemetry.record("expected-condition", describeCondition(condition), () -> newWait("expected-condition", Duration.ofSeconds(timeoutInSeconds)).until(condition));
             
             LogManager.debug("ExpectedCondition satisfied");
             return result;
             
         } catch (TimeoutException e) {
             LogManager.error("ExpectedCondition not satisfied within {} seconds", timeoutInSeconds);
-            throw new TimeoutException("ExpectedCondition not satisfied within " + timeoutInSeconds + " seconds", e);
+            throw timeoutFailure("ExpectedCondition not satisfied within " + timeoutInSeconds + " seconds", e);
         }
     }
     
+    // ========== COMPOSITE WAITS ==========
+    
+    /**
+     * Waits until all conditions hold, using the default timeout
+     * 
+     * @param conditions Conditions to wait for
+     * @return Result telling which conditions held
+     */
+    public static CompositeWaitResult allOf(PageCondition... conditions) {
+        return allOf(Duration.ofSeconds(config.getExplicitWaitTimeout()), conditions);
+    }
+    
+    /**
+     * Waits until all conditions hold
+     * All conditions are evaluated in one browser round trip per poll
+     * 
+     * @param timeout The timeout
+     * @param conditions Conditions to wait for
+     * @return Result telling which conditions held
+     */
+    public static CompositeWaitResult allOf(Duration timeout, PageCondition... conditions) {
+        return awaitComposite("all", timeout, false, conditions);
+    }
+    
+    /**
+     * Waits until at least one condition holds, using the default timeout
+     * 
+     * @param conditions Conditions to wait for
+     * @return Result telling which conditions held
+     */
+    public static CompositeWaitResult anyOf(PageCondition... conditions) {
+        return anyOf(Duration.ofSeconds(config.getExplicitWaitTimeout()), conditions);
+    }
+    
+    /**
+     * Waits until at least one condition holds
+     * All conditions are evaluated in one browser round trip per poll
+     * 
+     * @param timeout The timeout
+     * @param conditions Conditions to wait for
+     * @return Result telling which conditions held
+     */
+    public static CompositeWaitResult anyOf(Duration timeout, PageCondition... conditions) {
+        return awaitComposite("any", timeout, false, conditions);
+    }
+    
+    /**
+     * Waits until one of several outcomes occurs, using the default timeout
+     * 
+     * @param conditions Conditions to wait for, in priority order
+     * @return Index of the branch that fired
+     */
+    public static int firstOf(PageCondition... conditions) {
+        return firstOf(Duration.ofSeconds(config.getExplicitWaitTimeout()), conditions);
+    }
+    
+    /**
+     * Waits until one of several outcomes occurs (e.g. a dashboard or an error banner)
+     * Conditions are checked in order and the check stops at the first one that holds
+     * 
+     * @param timeout The timeout
+     * @param conditions Conditions to wait for, in priority order
+     * @return Index of the branch that fired
+     */
+    public static int firstOf(Duration timeout, PageCondition... conditions) {
+        return awaitComposite("first", timeout, true, conditions).getFiredIndex();
+    }
+    
+    /**
+     * Polls a set of conditions until the mode's requirement is met
+     * 
+     * @param mode all, any or first
+     * @param timeout The timeout
+     * @param stopAtFirst true to stop evaluating at the first condition that holds
+     * @param conditions Conditions to wait for
+     * @return Result of the poll that ended the wait
+     */
+    private static CompositeWaitResult awaitComposite(String mode, Duration timeout, boolean stopAtFirst, 
+                                                      PageCondition... conditions) {
+        if (conditions.length == 0) {
+            throw new IllegalArgumentException("A composite wait needs at least one condition");
+        }
+        List<PageCondition> conditionList = List.of(conditions);
+        WebDriver driver = DriverManager.getDriver();
+        List<Map<String, Object>> scripts = toScripts(driver, conditionList);
+        LogManager.debug("Waiting for {} of {} ({})", mode, conditionList, 
+            scripts != null ? "one script call per poll" : "one command per condition per poll");
+        
+        boolean[][] lastPoll = {new boolean[conditions.length]};
+        AdaptiveWait wait = budgetedWait(driver, "composite-" + mode, timeout, null, COMPOSITE_IGNORED);
+        
+        try {
+            WaitTelemetry.record("composite-" + mode, conditionList.toString(), () -> wait.until(webDriver -> {
+                boolean[] satisfied = evaluate(webDriver, conditionList, scripts, stopAtFirst);
+                lastPoll[0] = satisfied;
+                return isMet(mode, satisfied) ? Boolean.TRUE : null;
+            }));
+            
+            CompositeWaitResult result = new CompositeWaitResult(conditionList, lastPoll[0], wait.getLastPollCount());
+            LogManager.debug("Composite wait ({} of) satisfied: {}", mode, result.getSatisfied());
+            return result;
+            
+        } catch (TimeoutException e) {
+            CompositeWaitResult partial = new CompositeWaitResult(conditionList, lastPoll[0], wait.getLastPollCount());
+            LogManager.error("Composite wait ({} of) not satisfied within {}; satisfied: {}", mode, describe(timeout), 
+                partial.getSatisfied());
+            throw timeoutFailure("Conditions (" + mode + " of " + conditionList + ") not satisfied within " + 
+                describe(timeout) + "; satisfied: " + partial.getSatisfied(), e);
+        }
+    }
+    
+    /**
+     * Compiles conditions for in-page evaluation
+     * 
+     * @param driver The WebDriver instance
+     * @param conditions Conditions to compile
+     * @return Script arguments, or null if any condition has to be evaluated through WebDriver commands
+     */
+    private static List<Map<String, Object>> toScripts(WebDriver driver, List<PageCondition> conditions) {
+        if (!(driver instanceof JavascriptExecutor)) {
+            return null;
+        }
+        List<Map<String, Object>> scripts = new ArrayList<>();
+        for (PageCondition condition : conditions) {
+            Optional<Map<String, Object>> script = condition.toScript();
+            if (script.isEmpty()) {
+                return null;
+            }
+            scripts.add(script.get());
+        }
+        return scripts;
+    }
+    
+    /**
+     * Evaluates every condition once
+     * 
+     * @param driver The WebDriver instance
+     * @param conditions Conditions to evaluate
+     * @param scripts Compiled conditions, or null to evaluate through WebDriver commands
+     * @param stopAtFirst true to stop at the first condition that holds
+     * @return Satisfied flag per condition
+     */
+    private static boolean[] evaluate(WebDriver driver, List<PageCondition> conditions, List<Map<String, Object>> scripts, 
+                                      boolean stopAtFirst) {
+        boolean[] satisfied = new boolean[conditions.size()];
+        if (scripts != null) {
+            Object result = ((JavascriptExecutor) driver).executeScript(COMPOSITE_SCRIPT, scripts, stopAtFirst);
+            if (result instanceof List) {
+                List<?> flags = (List<?>) result;
+                for (int i = 0; i < flags.size() && i < satisfied.length; i++) {
+                    satisfied[i] = Boolean.TRUE.equals(flags.get(i));
+                }
+                return satisfied;
+            }
+            LogManager.debug("Composite wait script returned {}, evaluating conditions one by one", result);
+        }
+        
+        for (int i = 0; i < satisfied.length; i++) {
+            try {
+                Object value = conditions.get(i).getFallback().apply(driver);
+                satisfied[i] = value != null && !Boolean.FALSE.equals(value);
+            } catch (NoSuchElementException | StaleElementReferenceException e) {
+                satisfied[i] = false;
+            }
+            if (stopAtFirst && satisfied[i]) {
+                break;
+            }
+        }
+        return satisfied;
+    }
+    
+    /**
+     * Checks whether a poll meets the composite wait's requirement
+     * 
+     * @param mode all, any or first
+     * @param satisfied Satisfied flag per condition
+     * @return true if the wait is over
+     */
+    private static boolean isMet(String mode, boolean[] satisfied) {
+        boolean all = true;
+        boolean any = false;
+        for (boolean met : satisfied) {
+            all &= met;
+            any |= met;
+        }
+        return "all".equals(mode) ? all : any;
+    }
+    
+    // ========== WAIT ENGINE ==========
+    
+    /**
+     * Runs an element wait in the page through the MutationObserver engine when it is enabled
+     * 
+     * @param locator The By locator for the element
+     * @param condition Condition to wait for
+     * @param timeout The timeout
+     * @return Wait result, or empty if the wait should poll instead
+     */
+    private static Optional<MutationWaitEngine.Result> awaitInPage(By locator, MutationWaitEngine.Condition condition, 
+                                                                   Duration timeout) {
+        return awaitInPage(locator, condition, null, null, timeout);
+    }
+    
+    /**
+     * Runs an element wait in the page through the MutationObserver engine when it is enabled
+     * 
+     * @param locator The By locator for the element
+     * @param condition Condition to wait for
+     * @param expected Expected text or attribute value
+     * @param attributeName Attribute name for attribute conditions
+     * @param timeout The timeout
+     * @return Wait result, or empty if the wait should poll instead
+     */
+    private static Optional<MutationWaitEngine.Result> awaitInPage(By locator, MutationWaitEngine.Condition condition, 
+                                                                   String expected, String attributeName, 
+                                                                   Duration timeout) {
+        if (!MutationWaitEngine.isEnabled()) {
+            return Optional.empty();
+        }
+        return MutationWaitEngine.await(DriverManager.getDriver(), locator, condition, expected, attributeName, 
+            TestDeadline.bound(timeout, condition.name().toLowerCase() + " wait for " + locator));
+    }
+    
+    /**
+     * Creates the polling wait used for one condition type
+     * 
+     * @param conditionKey Condition type the polling schedule is tuned for
+     * @param timeout The timeout
+     * @return Adaptive wait
+     */
+    private static AdaptiveWait newWait(String conditionKey, Duration timeout) {
+        return budgetedWait(DriverManager.getDriver(), conditionKey, timeout, null, NO_EXTRA_IGNORED);
+    }
+    
+    /**
+     * Gets the fixed-interval wait used by FluentWait-style waits
+     * 
+     * @param timeout The timeout
+     * @param pollingInterval The polling interval
+     * @return Wait that also ignores NoSuchElementException and StaleElementReferenceException
+     */
+    private static AdaptiveWait newFluentWait(Duration timeout, Duration pollingInterval) {
+        return budgetedWait(DriverManager.getDriver(), "fluent", timeout, pollingInterval, FLUENT_IGNORED);
+    }
+    
+    /**
+     * Gets a wait whose timeout is shortened to the test's remaining budget
+     * Shortened waits are one-offs and bypass the wait cache
+     * 
+     * @param driver The WebDriver instance
+     * @param conditionKey Condition type the polling schedule is tuned for
+     * @param timeout The timeout the caller asked for
+     * @param pollingInterval Fixed polling interval, or null to poll adaptively
+     * @param ignored Exceptions the wait ignores in addition to NotFoundException
+     * @return Wait ready for until()
+     */
+    private static AdaptiveWait budgetedWait(WebDriver driver, String conditionKey, Duration timeout, Duration pollingInterval, 
+                                             List<Class<? extends Throwable>> ignored) {
+        Duration bounded = TestDeadline.bound(timeout, conditionKey + " wait");
+        if (bounded.equals(timeout)) {
+            return WaitCache.get(driver, conditionKey, timeout, pollingInterval, ignored);
+        }
+        AdaptiveWait wait = pollingInterval != null 
+            ? new AdaptiveWait(driver, conditionKey, bounded, pollingInterval) 
+            : new AdaptiveWait(driver, conditionKey, bounded);
+        ignored.forEach(wait::ignoring);
+        return wait;
+    }
+    
+    /**
+     * Checks that an element is displayed, enabled and the topmost element at its centre
+     * 
+     * @param driver The WebDriver
+     * @param element The element
+     * @return The element if a click would reach it, null otherwise
+     */
+    private static WebElement unobscured(WebDriver driver, WebElement element) {
+        if (!element.isDisplayed() || !element.isEnabled()) {
+            return null;
+        }
+        // Drivers that cannot run the hit test return null; the element then only has to be clickable
+        Object hit = ((JavascriptExecutor) driver).executeScript(UNOBSCURED_SCRIPT, element);
+        return Boolean.FALSE.equals(hit) ? null : element;
+    }
+    
+    /**
+     * Describes a custom condition for wait telemetry
+     * The description of the condition last described on the thread is reused, so a condition kept in a field
+     * is not described again on every wait
+     * 
+     * @param condition The condition
+     * @return The condition's description, or its class name for lambdas and classes whose toString is not stable
+     */
+    private static String describeCondition(Object condition) {
+        Object[] last = lastDescribedCondition.get();
+        if (last[0] == condition) {
+            return (String) last[1];
+        }
+        Class<?> type = condition.getClass();
+        String description = type.isSynthetic() ? type.getName().replaceAll("/0x\\p{XDigit}+$", "") : condition.toString();
+        if (description.startsWith(type.getName() + "@")) {
+            // Object.toString carries the identity hash
+            description = type.getName();
+        }
+        last[0] = condition;
+        last[1] = description;
+        return description;
+    }
+    
+    /**
+     * Builds the exception for a wait that timed out
+     * 
+     * @param message Timeout message
+     * @param cause The wait's timeout
+     * @return BudgetExhaustedException if the wait ran into the end of the test's budget, otherwise a TimeoutException
+     */
+    private static TimeoutException timeoutFailure(String message, TimeoutException cause) {
+        if (cause instanceof BudgetExhaustedException) {
+            return cause;
+        }
+        if (TestDeadline.isExhausted()) {
+            return TestDeadline.exhausted(message, cause);
+        }
+        return new TimeoutException(message, cause);
+    }
+    
+    /**
+     * Describes a timeout for log and exception messages
+     * 
+     * @param timeout The timeout
+     * @return Timeout in seconds, or in milliseconds when it is not a whole number of seconds
+     */
+    private static String describe(Duration timeout) {
+        return timeout.toMillis() % 1000 == 0 ? timeout.getSeconds() + " seconds" : timeout.toMillis() + " ms";
+    }
+    
     // ========== UTILITY METHODS ==========
     
     /**
-     * Sleeps for a specified duration (use sparingly - prefer explicit waits)
+     * Sleeps for a specified duration (use sparingly - prefer explicit waits, waitForNetworkIdle or waitForFrameworkReady)
      * 
      * @param milliseconds The duration to sleep in milliseconds
      */
@@ -460,6 +1136,22 @@ public final class WaitFactory {
         }
     }
     
+    /**
+     * Drops the current thread's cached wait objects; called when the thread's driver is swapped or quit
+     */
+    public static void clearWaitCache() {
+        WaitCache.invalidate();
+    }
+    
+    /**
+     * Gets wait cache statistics
+     * 
+     * @return Wait cache statistics summary
+     */
+    public static String getWaitCacheStatistics() {
+        return WaitCache.getStatistics();
+    }
+    
     /**
      * Gets the default explicit wait timeout from configuration
      * 
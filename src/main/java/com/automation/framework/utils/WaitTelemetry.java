@@ -0,0 +1,263 @@
+package com.automation.framework.utils;
+
+import com.automation.framework.config.ConfigLoader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openqa.selenium.TimeoutException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Wait Telemetry - Latency histograms of every WaitFactory wait, keyed by condition type and locator
+ * Records time-to-satisfy, polls and timeouts lock-free across threads, and at suite end writes them
+ * as JSON and logs a table of the locators that account for the most waiting time. Recording a wait for a
+ * known condition/target pair allocates nothing; once wait.telemetry.max.entries pairs exist, new targets
+ * are folded into one overflow entry per condition
+ * 
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+public final class WaitTelemetry {
+    
+    private static final ConfigLoader config = ConfigLoader.getInstance();
+    
+    // Target recorded for waits beyond the entry cap
+    private static final String OVERFLOW_TARGET = "(other targets)";
+    
+    // Condition type -> target (locator, URL fragment, condition description) -> stats
+    private static final Map<String, Map<Object, WaitStats>> stats = new ConcurrentHashMap<>();
+    private static final AtomicInteger entryCount = new AtomicInteger();
+    
+    // Wait running on the current thread, reused across waits
+    private static final ThreadLocal<PollCounter> currentPolls = ThreadLocal.withInitial(PollCounter::new);
+    
+    // Prevent instantiation
+    private WaitTelemetry() {
+        throw new UnsupportedOperationException("WaitTelemetry is a utility class and cannot be instantiated");
+    }
+    
+    /**
+     * Runs a wait and records how long it took, how often it polled and whether it timed out
+     * Waits nested inside another recorded wait count towards the outer one only
+     * 
+     * @param condition Condition type (e.g. visible, clickable)
+     * @param target Locator or other target the wait is for; must have value equality, e.g. a By or a String
+     * @param wait The wait to run
+     * @param <T> Result type
+     * @return Result of the wait
+     */
+    public static <T> T record(String condition, Object target, Supplier<T> wait) {
+        PollCounter polls = currentPolls.get();
+        if (polls.active || !config.isWaitTelemetryEnabled()) {
+            return wait.get();
+        }
+        
+        polls.active = true;
+        polls.count = 0;
+        long start = System.nanoTime();
+        boolean satisfied = false;
+        boolean timedOut = false;
+        try {
+            T result = wait.get();
+            satisfied = true;
+            return result;
+        } catch (TimeoutException e) {
+            timedOut = true;
+            throw e;
+        } finally {
+            polls.active = false;
+            long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+            statsFor(condition, target).record(micros, polls.count, satisfied, timedOut);
+        }
+    }
+    
+    /**
+     * Finds the stats entry of a condition/target pair, creating it while the entry cap allows
+     * 
+     * @param condition Condition type
+     * @param target Wait target
+     * @return Stats entry
+     */
+    private static WaitStats statsFor(String condition, Object target) {
+        Map<Object, WaitStats> targets = stats.get(condition);
+        if (targets == null) {
+            targets = stats.computeIfAbsent(condition, key -> new ConcurrentHashMap<>());
+        }
+        WaitStats entry = targets.get(target);
+        if (entry != null) {
+            return entry;
+        }
+        Object key = entryCount.get() < config.getWaitTelemetryMaxEntries() ? target : OVERFLOW_TARGET;
+        return targets.computeIfAbsent(key, newKey -> {
+            entryCount.incrementAndGet();
+            return new WaitStats(condition, String.valueOf(newKey));
+        });
+    }
+    
+    /**
+     * Adds polls (condition evaluations or in-page wait calls) to the wait running on the current thread
+     * 
+     * @param polls Number of polls
+     */
+    static void addPolls(int polls) {
+        PollCounter current = currentPolls.get();
+        if (current.active) {
+            current.count += polls;
+        }
+    }
+    
+    /**
+     * Gets the recorded waits ordered by total waiting time
+     * 
+     * @param limit Maximum number of entries
+     * @return Summaries of the slowest condition/locator pairs
+     */
+    public static List<Map<String, Object>> getSlowest(int limit) {
+        return entries()
+            .sorted(Comparator.comparingLong(WaitStats::totalMicros).reversed())
+            .limit(limit)
+            .map(WaitStats::toMap)
+            .collect(Collectors.toList());
+    }
+    
+    /**
+     * Formats the top-N table of the locators that account for the most waiting time
+     * 
+     * @param limit Number of rows
+     * @return Slowest locators table
+     */
+    public static String getSlowestLocatorsTable(int limit) {
+        StringBuilder table = new StringBuilder(String.format("Slowest Wait Locators (top %d by total wait time)", limit));
+        table.append(String.format("%n  %-18s %-50s %7s %10s %9s %9s %9s %9s %8s %6s",
+            "Condition", "Target", "Waits", "Total ms", "p50 ms", "p95 ms", "p99 ms", "Max ms", "Timeouts", "Polls"));
+        for (Map<String, Object> row : getSlowest(limit)) {
+            table.append(String.format("%n  %-18s %-50s %7d %10.1f %9.1f %9.1f %9.1f %9.1f %8d %6.1f",
+                row.get("condition"), abbreviate(String.valueOf(row.get("target")), 50), row.get("waits"), row.get("totalMs"),
+                row.get("p50Ms"), row.get("p95Ms"), row.get("p99Ms"), row.get("maxMs"), row.get("timeouts"), row.get("avgPolls")));
+        }
+        return table.toString();
+    }
+    
+    /**
+     * Writes the telemetry as JSON and logs the slowest locators table
+     * Does nothing if no wait was recorded
+     */
+    public static void writeReport() {
+        if (entryCount.get() == 0) {
+            return;
+        }
+        int limit = config.getWaitTelemetryTopN();
+        LogManager.info(getSlowestLocatorsTable(limit));
+        
+        Map<String, Object> report = new LinkedHashMap<>();
+        long waits = entries().mapToLong(WaitStats::waits).sum();
+        report.put("waits", waits);
+        report.put("totalMs", entries().mapToLong(WaitStats::totalMicros).sum() / 1000.0);
+        report.put("entries", getSlowest(Integer.MAX_VALUE));
+        
+        Path path = Paths.get(config.getWaitTelemetryReportPath());
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(path.toFile(), report);
+            LogManager.info("Wait telemetry for {} wait(s) written to: {}", waits, path.toAbsolutePath());
+        } catch (IOException e) {
+            LogManager.warn("Could not write wait telemetry to {}: {}", path, e.getMessage());
+        }
+    }
+    
+    /**
+     * Gets wait telemetry statistics
+     * 
+     * @return Wait telemetry statistics summary
+     */
+    public static String getTelemetryStatistics() {
+        long waits = entries().mapToLong(WaitStats::waits).sum();
+        long timeouts = entries().mapToLong(entry -> entry.timeouts.sum()).sum();
+        long totalMillis = entries().mapToLong(WaitStats::totalMicros).sum() / 1000;
+        return String.format("Wait Telemetry - Waits: %d, Timeouts: %d, Total Wait Time: %d ms, Condition/Locator Pairs: %d",
+            waits, timeouts, totalMillis, entryCount.get());
+    }
+    
+    private static Stream<WaitStats> entries() {
+        return stats.values().stream().flatMap(targets -> targets.values().stream());
+    }
+    
+    private static String abbreviate(String value, int width) {
+        return value.length() <= width ? value : value.substring(0, width - 3) + "...";
+    }
+    
+    /**
+     * Poll count of the wait running on a thread
+     */
+    private static final class PollCounter {
+        private boolean active;
+        private int count;
+    }
+    
+    /**
+     * Aggregated waits for one condition type and target
+     */
+    private static final class WaitStats {
+        private final String condition;
+        private final String target;
+        private final LatencyHistogram satisfiedLatency = new LatencyHistogram();
+        private final LatencyHistogram allLatency = new LatencyHistogram();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder polls = new LongAdder();
+        
+        private WaitStats(String condition, String target) {
+            this.condition = condition;
+            this.target = target;
+        }
+        
+        private void record(long micros, int pollCount, boolean satisfied, boolean timedOut) {
+            allLatency.record(micros);
+            if (satisfied) {
+                satisfiedLatency.record(micros);
+            }
+            if (timedOut) {
+                timeouts.increment();
+            }
+            polls.add(pollCount);
+        }
+        
+        private long waits() {
+            return allLatency.getCount();
+        }
+        
+        private long totalMicros() {
+            return allLatency.getTotalMicros();
+        }
+        
+        private Map<String, Object> toMap() {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("condition", condition);
+            entry.put("target", target);
+            entry.put("waits", waits());
+            entry.put("timeouts", timeouts.sum());
+            entry.put("totalMs", totalMicros() / 1000.0);
+            // Time-to-satisfy percentiles exclude timed-out waits
+            entry.put("p50Ms", satisfiedLatency.getValueAtPercentile(50) / 1000.0);
+            entry.put("p95Ms", satisfiedLatency.getValueAtPercentile(95) / 1000.0);
+            entry.put("p99Ms", satisfiedLatency.getValueAtPercentile(99) / 1000.0);
+            entry.put("maxMs", allLatency.getMaxMicros() / 1000.0);
+            entry.put("avgPolls", waits() > 0 ? (double) polls.sum() / waits() : 0.0);
+            return entry;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.automation.framework.benchmark;
+
+import com.automation.framework.config.ConfigLoader;
+import com.automation.framework.driver.DriverManager;
+import com.automation.framework.testsupport.SimulatedWebDriver;
+import com.automation.framework.utils.WaitFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wait Allocation Benchmark - Measures allocation per wait with and without wait-object reuse
+ * waitForCondition runs the same WaitFactory entry point with wait.cache.enabled switched by the
+ * waitCache parameter, so the difference between the two runs is the cost of building a wait per call.
+ * plainWebDriverWait is the Selenium baseline of a new WebDriverWait per call, without the framework's
+ * deadline, telemetry and adaptive polling. All run against {@link SimulatedWebDriver} with an element
+ * that is already present. Compare gc.alloc.rate.norm (bytes per wait)
+ *
+ * Run from the project root after mvn test-compile:
+ * java -cp target/test-classes:target/classes:&lt;test classpath&gt; com.automation.framework.benchmark.WaitAllocationBenchmark
+ *
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WaitAllocationBenchmark {
+
+    private static final By LOCATOR = By.id("benchmark-target");
+    private static final int TIMEOUT_SECONDS = 5;
+
+    @Param({"true", "false"})
+    public String waitCache;
+
+    private SimulatedWebDriver driver;
+    private ExpectedCondition<WebElement> condition;
+
+    @Setup
+    public void setUp() {
+        ConfigLoader.getInstance().setProperty("wait.cache.enabled", waitCache);
+        driver = new SimulatedWebDriver();
+        driver.addElement(LOCATOR);
+        DriverManager.setDriver(driver, "simulated");
+        condition = ExpectedConditions.presenceOfElementLocated(LOCATOR);
+    }
+
+    @TearDown
+    public void tearDown() {
+        DriverManager.detachDriver();
+        ConfigLoader.getInstance().reloadConfiguration();
+    }
+
+    @Benchmark
+    public WebElement waitForCondition() {
+        return WaitFactory.waitForExpectedCondition(condition, TIMEOUT_SECONDS);
+    }
+
+    @Benchmark
+    public WebElement plainWebDriverWait() {
+        return new WebDriverWait(driver, Duration.ofSeconds(TIMEOUT_SECONDS)).until(condition);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(WaitAllocationBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+}
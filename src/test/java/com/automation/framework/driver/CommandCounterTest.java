@@ -0,0 +1,37 @@
+package com.automation.framework.driver;
+
+import org.openqa.selenium.remote.http.HttpHandler;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * CommandCounterTest - Counting of session setup commands on the HTTP client
+ *
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+public class CommandCounterTest {
+
+    @Test(description = "Every request is counted until counting stops, and all of them are passed on")
+    public void testCountsUntilStopped() {
+        AtomicInteger sent = new AtomicInteger();
+        CommandCounter counter = new CommandCounter();
+        HttpHandler handler = counter.apply(request -> {
+            sent.incrementAndGet();
+            return new HttpResponse();
+        });
+
+        handler.execute(new HttpRequest(HttpMethod.POST, "/session"));
+        handler.execute(new HttpRequest(HttpMethod.POST, "/session/1/timeouts"));
+
+        Assert.assertEquals(counter.stop(), 2);
+        handler.execute(new HttpRequest(HttpMethod.GET, "/session/1/url"));
+        Assert.assertEquals(counter.stop(), 2);
+        Assert.assertEquals(sent.get(), 3);
+    }
+}
@@ -0,0 +1,176 @@
+package com.automation.framework.driver;
+
+import com.automation.framework.testsupport.SimulatedWebDriver;
+import com.automation.framework.testsupport.Statistics;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DriverPoolTest - Lease, release, reset and retirement of pooled sessions backed by simulated drivers
+ *
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+public class DriverPoolTest {
+
+    private static final Duration BACKGROUND_TIMEOUT = Duration.ofSeconds(10);
+
+    private final List<SimulatedWebDriver> created = new CopyOnWriteArrayList<>();
+    private final AtomicInteger storageResets = new AtomicInteger();
+    private DriverPool pool;
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() {
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+        created.clear();
+        storageResets.set(0);
+    }
+
+    @Test(description = "A released session is reset in the page and leased again instead of creating a new one")
+    public void testLeaseReleaseReuse() {
+        pool = newPool(1, 0, 10, 5);
+
+        WebDriver first = pool.lease();
+        Assert.assertTrue(DriverPool.isPooled(first));
+        Assert.assertTrue(DriverPool.releaseToPool(first));
+        Assert.assertFalse(DriverPool.isPooled(first));
+
+        WebDriver second = pool.lease();
+
+        Assert.assertSame(second, first);
+        Assert.assertEquals(created.size(), 1);
+        Assert.assertEquals(storageResets.get(), 1);
+        Assert.assertEquals(Statistics.read(pool.getStatistics(), "Leases"), 2);
+        Assert.assertEquals(Statistics.read(pool.getStatistics(), "Created"), 1);
+        DriverPool.releaseToPool(second);
+    }
+
+    @Test(description = "A session that reached its reuse count is quit and replaced")
+    public void testRetireAfterReuseCount() {
+        pool = newPool(1, 0, 2, 5);
+
+        WebDriver first = pool.lease();
+        DriverPool.releaseToPool(first);
+        Assert.assertSame(pool.lease(), first);
+        DriverPool.releaseToPool(first);
+
+        WebDriver replacement = pool.lease();
+
+        Assert.assertNotSame(replacement, first);
+        Assert.assertTrue(Statistics.awaitCondition(() -> created.get(0).getCommandCount("quit") == 1, BACKGROUND_TIMEOUT),
+            "Retired session was not quit");
+        Assert.assertEquals(Statistics.read(pool.getStatistics(), "Retired"), 1);
+        DriverPool.releaseToPool(replacement);
+    }
+
+    @Test(description = "An idle session past its maximum age is retired instead of leased")
+    public void testRetireAfterMaxAge() throws InterruptedException {
+        pool = newPool(1, 1, 10, 5);
+
+        WebDriver first = pool.lease();
+        DriverPool.releaseToPool(first);
+        Assert.assertTrue(Statistics.awaitCondition(() -> storageResets.get() == 1, BACKGROUND_TIMEOUT));
+        Thread.sleep(1100);
+
+        WebDriver replacement = pool.lease();
+
+        Assert.assertNotSame(replacement, first);
+        Assert.assertEquals(created.size(), 2);
+        Assert.assertEquals(Statistics.read(pool.getStatistics(), "Retired"), 1);
+        DriverPool.releaseToPool(replacement);
+    }
+
+    @Test(description = "A session whose reset fails is retired")
+    public void testRetireAfterFailedReset() {
+        pool = newPool(1, 0, 10, 5);
+
+        SimulatedWebDriver first = (SimulatedWebDriver) pool.lease();
+        first.injectFault("executeScript", () -> new WebDriverException("renderer crashed"), 1);
+        DriverPool.releaseToPool(first);
+
+        WebDriver replacement = pool.lease();
+
+        Assert.assertNotSame(replacement, first);
+        Assert.assertEquals(Statistics.read(pool.getStatistics(), "Reset Failures"), 1);
+        DriverPool.releaseToPool(replacement);
+    }
+
+    @Test(description = "A session still being reset when the pool shuts down is quit instead of pooled")
+    public void testReleaseRacingShutdown() {
+        pool = newPool(1, 0, 10, 5);
+        SimulatedWebDriver leased = (SimulatedWebDriver) pool.lease();
+        leased.onScript("window.localStorage.clear()", args -> {
+            storageResets.incrementAndGet();
+            try {
+                Thread.sleep(300);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        });
+
+        DriverPool.releaseToPool(leased);
+        pool.shutdown();
+
+        Assert.assertEquals(storageResets.get(), 1);
+        Assert.assertEquals(Statistics.read(pool.getStatistics(), "Idle"), 0);
+        Assert.assertTrue(Statistics.awaitCondition(() -> leased.getCommandCount("quit") == 1, BACKGROUND_TIMEOUT),
+            "Session reset during shutdown was not quit");
+    }
+
+    @Test(description = "A lease gives up after the lease timeout when every session is in use")
+    public void testLeaseTimeout() {
+        pool = newPool(1, 0, 10, 1);
+        WebDriver leased = pool.lease();
+
+        IllegalStateException failure = Assert.expectThrows(IllegalStateException.class, pool::lease);
+
+        Assert.assertTrue(failure.getMessage().contains("Timed out"), failure.getMessage());
+        Assert.assertEquals(created.size(), 1);
+        DriverPool.releaseToPool(leased);
+    }
+
+    @Test(description = "A discarded session is quit rather than pooled")
+    public void testDiscardLeased() {
+        pool = newPool(1, 0, 10, 5);
+        WebDriver leased = pool.lease();
+
+        Assert.assertTrue(DriverPool.discardLeased(leased, "owner thread died"));
+
+        Assert.assertFalse(DriverPool.isPooled(leased));
+        Assert.assertFalse(DriverPool.discardLeased(leased, "twice"));
+        Assert.assertTrue(Statistics.awaitCondition(() -> created.get(0).getCommandCount("quit") == 1, BACKGROUND_TIMEOUT));
+        WebDriver replacement = pool.lease();
+        Assert.assertNotSame(replacement, leased);
+        DriverPool.releaseToPool(replacement);
+    }
+
+    @Test(description = "Drivers that were not leased from a pool are not taken back")
+    public void testReleaseUnpooledDriver() {
+        Assert.assertFalse(DriverPool.releaseToPool(new SimulatedWebDriver()));
+        Assert.assertFalse(DriverPool.releaseToPool(null));
+    }
+
+    private DriverPool newPool(int size, int maxAgeSeconds, int maxReuse, int leaseTimeoutSeconds) {
+        return new DriverPool("simulated-test", size, maxAgeSeconds, maxReuse, leaseTimeoutSeconds, () -> {
+            SimulatedWebDriver driver = new SimulatedWebDriver();
+            driver.onScript("window.localStorage.clear()", args -> {
+                storageResets.incrementAndGet();
+                return null;
+            });
+            created.add(driver);
+            return driver;
+        });
+    }
+}
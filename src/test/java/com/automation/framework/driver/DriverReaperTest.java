@@ -0,0 +1,98 @@
+package com.automation.framework.driver;
+
+import com.automation.framework.testsupport.SimulatedWebDriver;
+import com.automation.framework.testsupport.Statistics;
+import org.openqa.selenium.WebDriverException;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DriverReaperTest - Quit timeout, failure and force-kill accounting of the driver reaper
+ * Simulated drivers have no local driver process, so a hung quit is counted as failed; force-killing is
+ * checked against a child process of the test JVM
+ *
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+public class DriverReaperTest {
+
+    @Test(description = "A quit within the timeout is counted as reaped only")
+    public void testQuitWithinTimeout() {
+        SimulatedWebDriver driver = new SimulatedWebDriver();
+        String before = DriverReaper.getReaperStatistics();
+
+        DriverReaper.quitWithTimeout(driver, "quick quit", 5);
+
+        String after = DriverReaper.getReaperStatistics();
+        Assert.assertEquals(driver.getCommandCount("quit"), 1);
+        Assert.assertEquals(Statistics.read(after, "Reaped"), Statistics.read(before, "Reaped") + 1);
+        Assert.assertEquals(Statistics.read(after, "Failed"), Statistics.read(before, "Failed"));
+        Assert.assertEquals(Statistics.read(after, "Force Killed"), Statistics.read(before, "Force Killed"));
+    }
+
+    @Test(description = "A hung quit is abandoned at the timeout and counted as failed when no process can be killed")
+    public void testHungQuitTimesOut() {
+        SimulatedWebDriver driver = new SimulatedWebDriver().withCommandLatency(Duration.ofSeconds(10));
+        String before = DriverReaper.getReaperStatistics();
+        long start = System.nanoTime();
+
+        DriverReaper.quitWithTimeout(driver, "hung quit", 1);
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        String after = DriverReaper.getReaperStatistics();
+        Assert.assertTrue(elapsedMillis >= 1000 && elapsedMillis < 5000, "Quit returned after " + elapsedMillis + " ms");
+        Assert.assertEquals(Statistics.read(after, "Failed"), Statistics.read(before, "Failed") + 1);
+        Assert.assertEquals(Statistics.read(after, "Force Killed"), Statistics.read(before, "Force Killed"));
+        Assert.assertEquals(Statistics.read(after, "Reaped"), Statistics.read(before, "Reaped") + 1);
+    }
+
+    @Test(description = "A quit that throws is counted as failed")
+    public void testFailingQuit() {
+        SimulatedWebDriver driver = new SimulatedWebDriver();
+        driver.injectFault("quit", () -> new WebDriverException("connection refused"), 1);
+        long failed = Statistics.read(DriverReaper.getReaperStatistics(), "Failed");
+
+        DriverReaper.quitWithTimeout(driver, "failing quit", 5);
+
+        Assert.assertEquals(Statistics.read(DriverReaper.getReaperStatistics(), "Failed"), failed + 1);
+    }
+
+    @Test(description = "Queued quits run in the background and drain")
+    public void testReapAndDrain() {
+        SimulatedWebDriver driver = new SimulatedWebDriver().withCommandLatency(Duration.ofMillis(200));
+
+        DriverReaper.reap(driver, "background quit");
+
+        Assert.assertTrue(DriverReaper.awaitDrain(5));
+        Assert.assertEquals(driver.getCommandCount("quit"), 1);
+        Assert.assertEquals(Statistics.read(DriverReaper.getReaperStatistics(), "Pending"), 0);
+    }
+
+    @Test(description = "Force-killing waits for the process to exit")
+    public void testForceKill() throws IOException, InterruptedException {
+        if (System.getProperty("os.name").startsWith("Windows")) {
+            throw new SkipException("Uses the POSIX sleep command");
+        }
+        Process process = new ProcessBuilder("sleep", "60").start();
+
+        Assert.assertTrue(DriverReaper.forceKill(process.pid()));
+
+        Assert.assertFalse(process.isAlive());
+    }
+
+    @Test(description = "Force-killing a process that is gone reports failure")
+    public void testForceKillMissingProcess() throws IOException, InterruptedException {
+        if (System.getProperty("os.name").startsWith("Windows")) {
+            throw new SkipException("Uses the POSIX true command");
+        }
+        Process process = new ProcessBuilder("true").start();
+        process.waitFor();
+
+        Assert.assertFalse(DriverReaper.forceKill(process.pid()));
+    }
+}
@@ -0,0 +1,450 @@
+package com.automation.framework.testsupport;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Simulated Element - In-process WebElement backing {@link SimulatedWebDriver}
+ * Holds its own tag, text, attributes and children, can appear or become visible after a delay,
+ * and can be made to throw StaleElementReferenceException for a number of interactions
+ *
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+public class SimulatedElement implements WebElement, WrapsDriver {
+
+    // Option lookups issued by org.openqa.selenium.support.ui.Select
+    private static final Pattern OPTION_XPATH = Pattern.compile(
+        "\\.//option\\[(normalize-space\\(\\.\\)|@value|contains\\(\\.,) ?= ?[\"'](.*)[\"']\\)?]");
+
+    private final SimulatedWebDriver driver;
+    private final SimulatedElement parent;
+    private final Map<String, String> attributes = new ConcurrentHashMap<>();
+    private final Map<By, List<SimulatedElement>> children = new ConcurrentHashMap<>();
+    private final List<SimulatedElement> options = new CopyOnWriteArrayList<>();
+    private final AtomicInteger staleFailures = new AtomicInteger();
+
+    private volatile String tagName = "div";
+    private volatile String text = "";
+    private volatile boolean displayed = true;
+    private volatile boolean enabled = true;
+    private volatile boolean selected;
+    private volatile boolean detached;
+    private volatile long presentFrom;
+    private volatile long visibleFrom;
+    private volatile Rectangle rect = new Rectangle(0, 0, 20, 100);
+
+    SimulatedElement(SimulatedWebDriver driver, SimulatedElement parent) {
+        this.driver = driver;
+        this.parent = parent;
+        long now = System.currentTimeMillis();
+        this.presentFrom = now;
+        this.visibleFrom = now;
+    }
+
+    // ========== CONFIGURATION ==========
+
+    /**
+     * Sets the tag name
+     *
+     * @param tagName Tag name, e.g. input or select
+     * @return This element
+     */
+    public SimulatedElement withTag(String tagName) {
+        this.tagName = tagName.toLowerCase();
+        return this;
+    }
+
+    /**
+     * Sets the visible text
+     *
+     * @param text Element text
+     * @return This element
+     */
+    public SimulatedElement withText(String text) {
+        this.text = text;
+        return this;
+    }
+
+    /**
+     * Sets an attribute
+     *
+     * @param name Attribute name
+     * @param value Attribute value
+     * @return This element
+     */
+    public SimulatedElement withAttribute(String name, String value) {
+        attributes.put(name, value);
+        return this;
+    }
+
+    /**
+     * Makes the element present only after a delay, as if rendered asynchronously
+     *
+     * @param delay Delay from now
+     * @return This element
+     */
+    public SimulatedElement appearsAfter(Duration delay) {
+        presentFrom = System.currentTimeMillis() + delay.toMillis();
+        visibleFrom = Math.max(visibleFrom, presentFrom);
+        return this;
+    }
+
+    /**
+     * Makes a present element visible only after a delay
+     *
+     * @param delay Delay from now
+     * @return This element
+     */
+    public SimulatedElement visibleAfter(Duration delay) {
+        visibleFrom = Math.max(presentFrom, System.currentTimeMillis() + delay.toMillis());
+        return this;
+    }
+
+    /**
+     * Sets whether the element is displayed
+     *
+     * @param displayed true if displayed
+     * @return This element
+     */
+    public SimulatedElement displayed(boolean displayed) {
+        this.displayed = displayed;
+        return this;
+    }
+
+    /**
+     * Sets whether the element is enabled
+     *
+     * @param enabled true if enabled
+     * @return This element
+     */
+    public SimulatedElement enabled(boolean enabled) {
+        this.enabled = enabled;
+        return this;
+    }
+
+    /**
+     * Sets the element's position and size
+     *
+     * @param rect Element rectangle
+     * @return This element
+     */
+    public SimulatedElement withRect(Rectangle rect) {
+        this.rect = rect;
+        return this;
+    }
+
+    /**
+     * Makes the next interactions with this element throw StaleElementReferenceException
+     *
+     * @param times Number of interactions that fail
+     * @return This element
+     */
+    public SimulatedElement failWithStale(int times) {
+        staleFailures.set(times);
+        return this;
+    }
+
+    /**
+     * Adds a child element found through this element
+     *
+     * @param locator Locator the child is found by
+     * @return The new child element
+     */
+    public SimulatedElement addChild(By locator) {
+        SimulatedElement child = new SimulatedElement(driver, this);
+        children.computeIfAbsent(locator, key -> new CopyOnWriteArrayList<>()).add(child);
+        return child;
+    }
+
+    /**
+     * Adds an option to a select element
+     *
+     * @param value Option value
+     * @param text Option text
+     * @return This element
+     */
+    public SimulatedElement withOption(String value, String text) {
+        SimulatedElement option = new SimulatedElement(driver, this).withTag("option").withText(text).withAttribute("value", value);
+        if (options.isEmpty() && !attributes.containsKey("multiple")) {
+            option.selected = true;
+        }
+        options.add(option);
+        return this;
+    }
+
+    /**
+     * Detaches the element from the page so every further interaction is stale
+     */
+    public void detach() {
+        detached = true;
+        children.values().forEach(list -> list.forEach(SimulatedElement::detach));
+        options.forEach(SimulatedElement::detach);
+    }
+
+    // ========== STATE ==========
+
+    /**
+     * Checks whether the element has been rendered
+     *
+     * @return true if the element is present in the page
+     */
+    boolean isPresent() {
+        return !detached && System.currentTimeMillis() >= presentFrom;
+    }
+
+    /**
+     * Gets the time the element becomes present
+     *
+     * @return Epoch milliseconds
+     */
+    long getPresentFrom() {
+        return presentFrom;
+    }
+
+    /**
+     * Sets the value typed into the element
+     *
+     * @param value New value
+     */
+    void setValue(String value) {
+        attributes.put("value", value);
+    }
+
+    // ========== WEBELEMENT ==========
+
+    @Override
+    public void click() {
+        interact("click");
+        if (!isDisplayed() || !enabled) {
+            throw new ElementNotInteractableException("Simulated element is not interactable: " + this);
+        }
+        if ("option".equals(tagName) && parent != null) {
+            if (parent.attributes.get("multiple") == null) {
+                parent.options.forEach(option -> option.selected = false);
+                selected = true;
+            } else {
+                selected = !selected;
+            }
+        } else if ("input".equals(tagName)
+            && ("checkbox".equals(attributes.get("type")) || "radio".equals(attributes.get("type")))) {
+            selected = !selected || "radio".equals(attributes.get("type"));
+        }
+    }
+
+    @Override
+    public void submit() {
+        interact("submit");
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        interact("sendKeys");
+        if (!isDisplayed() || !enabled) {
+            throw new ElementNotInteractableException("Simulated element is not interactable: " + this);
+        }
+        StringBuilder value = new StringBuilder(attributes.getOrDefault("value", ""));
+        for (CharSequence keys : keysToSend) {
+            value.append(keys);
+        }
+        attributes.put("value", value.toString());
+    }
+
+    @Override
+    public void clear() {
+        interact("clear");
+        attributes.put("value", "");
+    }
+
+    @Override
+    public String getTagName() {
+        interact("getTagName");
+        return tagName;
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        interact("getAttribute");
+        return readAttribute(name);
+    }
+
+    @Override
+    public String getDomAttribute(String name) {
+        interact("getDomAttribute");
+        return attributes.get(name);
+    }
+
+    @Override
+    public String getDomProperty(String name) {
+        interact("getDomProperty");
+        return readAttribute(name);
+    }
+
+    @Override
+    public boolean isSelected() {
+        interact("isSelected");
+        return selected;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        interact("isEnabled");
+        return enabled;
+    }
+
+    @Override
+    public String getText() {
+        interact("getText");
+        return isDisplayed() ? text : "";
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        interact("findElements");
+        List<WebElement> found = new ArrayList<>();
+        matchChildren(by).stream().filter(SimulatedElement::isPresent).forEach(found::add);
+        return found;
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        List<WebElement> found = findElements(by);
+        if (found.isEmpty()) {
+            throw new NoSuchElementException("Simulated element has no child matching: " + by);
+        }
+        return found.get(0);
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        interact("isDisplayed");
+        return displayed && System.currentTimeMillis() >= visibleFrom;
+    }
+
+    @Override
+    public Point getLocation() {
+        interact("getLocation");
+        return rect.getPoint();
+    }
+
+    @Override
+    public Dimension getSize() {
+        interact("getSize");
+        return rect.getDimension();
+    }
+
+    @Override
+    public Rectangle getRect() {
+        interact("getRect");
+        return rect;
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        interact("getCssValue");
+        return "display".equals(propertyName) ? (displayed ? "block" : "none") : "";
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        interact("elementScreenshot");
+        return target.convertFromPngBytes(driver.getScreenshotBytes());
+    }
+
+    @Override
+    public WebDriver getWrappedDriver() {
+        return driver;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SimulatedElement{tag=%s, text=%s, attributes=%s}", tagName, text, attributes);
+    }
+
+    /**
+     * Runs the driver-level command bookkeeping and element fault checks for one interaction
+     *
+     * @param command Command name
+     */
+    private void interact(String command) {
+        driver.command(command);
+        if (detached) {
+            throw new StaleElementReferenceException("Simulated element is no longer attached to the page: " + this);
+        }
+        if (staleFailures.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+            throw new StaleElementReferenceException("Injected stale element reference: " + this);
+        }
+    }
+
+    /**
+     * Reads an attribute the way getAttribute does, including boolean properties
+     *
+     * @param name Attribute name
+     * @return Attribute value or null
+     */
+    private String readAttribute(String name) {
+        return switch (name) {
+            case "selected", "checked" -> selected ? "true" : null;
+            case "disabled" -> enabled ? null : "true";
+            case "innerText", "textContent" -> text;
+            case "value" -> attributes.getOrDefault("value", "option".equals(tagName) ? text : null);
+            default -> attributes.get(name);
+        };
+    }
+
+    /**
+     * Matches registered children, plus the option lookups issued by Select
+     *
+     * @param by Child locator
+     * @return Matching children
+     */
+    private List<SimulatedElement> matchChildren(By by) {
+        List<SimulatedElement> registered = children.get(by);
+        if (registered != null) {
+            return registered;
+        }
+        if (options.isEmpty()) {
+            return List.of();
+        }
+        if (by.equals(By.tagName("option"))) {
+            return options;
+        }
+
+        Matcher matcher = OPTION_XPATH.matcher(by.toString().replaceFirst("^By\\.xpath: ", ""));
+        if (!matcher.matches()) {
+            return List.of();
+        }
+        String expected = matcher.group(2);
+        List<SimulatedElement> matched = new ArrayList<>();
+        for (SimulatedElement option : options) {
+            boolean matches = switch (matcher.group(1)) {
+                case "@value" -> expected.equals(option.attributes.get("value"));
+                case "normalize-space(.)" -> expected.equals(option.text.trim());
+                default -> option.text.contains(expected);
+            };
+            if (matches) {
+                matched.add(option);
+            }
+        }
+        return matched;
+    }
+}
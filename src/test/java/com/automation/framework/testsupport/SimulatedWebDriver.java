@@ -0,0 +1,724 @@
+package com.automation.framework.testsupport;
+
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.interactions.Interactive;
+import org.openqa.selenium.interactions.Sequence;
+import org.openqa.selenium.logging.Logs;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Simulated WebDriver - In-process WebDriver, JavascriptExecutor and TakesScreenshot for offline runs
+ * Simulates a page of registered elements with configurable per-command latency, element appearance delays,
+ * injected stale-element and timeout faults, and canned screenshot bytes, so ElementActions, WaitFactory,
+ * SmartRetryAnalyzer and ScreenshotUtil can be exercised and benchmarked without a browser
+ *
+ * Usage: create an instance, register elements, and pass it to DriverManager.setDriver
+ *
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+public class SimulatedWebDriver implements WebDriver, JavascriptExecutor, TakesScreenshot, Interactive {
+
+    // 1x1 transparent PNG
+    private static final byte[] DEFAULT_SCREENSHOT = Base64.getDecoder().decode(
+        "iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mNkYPhfDwAChwGA60e6kgAAAABJRU5ErkJggg==");
+    private static final String WINDOW_HANDLE = "simulated-window-1";
+
+    private final Map<By, List<SimulatedElement>> elements = new ConcurrentHashMap<>();
+    private final Deque<Map.Entry<String, Function<Object[], Object>>> scriptHandlers = new ConcurrentLinkedDeque<>();
+    private final Map<String, Deque<Supplier<? extends RuntimeException>>> faults = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> commandCounts = new ConcurrentHashMap<>();
+    private final Map<String, Cookie> cookies = new ConcurrentHashMap<>();
+    private final LongAdder totalCommands = new LongAdder();
+
+    private final SimulatedTimeouts timeouts = new SimulatedTimeouts();
+    private final SimulatedWindow window = new SimulatedWindow();
+
+    private volatile Duration commandLatency = Duration.ZERO;
+    private volatile Duration pageLoadLatency = Duration.ZERO;
+    private volatile byte[] screenshotBytes = DEFAULT_SCREENSHOT;
+    private volatile String currentUrl = "about:blank";
+    private volatile String title = "";
+    private volatile boolean quit;
+
+    /**
+     * Creates a simulated driver with an empty page and no latency
+     */
+    public SimulatedWebDriver() {
+        onScript("document.readyState", args -> "complete");
+    }
+
+    // ========== CONFIGURATION ==========
+
+    /**
+     * Sets the latency added to every command, simulating the WebDriver round trip
+     *
+     * @param latency Per-command latency
+     * @return This driver
+     */
+    public SimulatedWebDriver withCommandLatency(Duration latency) {
+        this.commandLatency = latency;
+        return this;
+    }
+
+    /**
+     * Sets the additional latency of page navigation
+     *
+     * @param latency Page load latency
+     * @return This driver
+     */
+    public SimulatedWebDriver withPageLoadLatency(Duration latency) {
+        this.pageLoadLatency = latency;
+        return this;
+    }
+
+    /**
+     * Sets the bytes returned by screenshot commands
+     *
+     * @param pngBytes PNG image bytes
+     * @return This driver
+     */
+    public SimulatedWebDriver withScreenshot(byte[] pngBytes) {
+        this.screenshotBytes = pngBytes.clone();
+        return this;
+    }
+
+    /**
+     * Sets the page title
+     *
+     * @param title Page title
+     * @return This driver
+     */
+    public SimulatedWebDriver withTitle(String title) {
+        this.title = title;
+        return this;
+    }
+
+    /**
+     * Registers an element on the page
+     *
+     * @param locator Locator the element is found by
+     * @return The new element, for further configuration
+     */
+    public SimulatedElement addElement(By locator) {
+        SimulatedElement element = new SimulatedElement(this, null);
+        elements.computeIfAbsent(locator, key -> new CopyOnWriteArrayList<>()).add(element);
+        return element;
+    }
+
+    /**
+     * Removes the elements found by a locator; references already handed out become stale
+     *
+     * @param locator Element locator
+     */
+    public void removeElements(By locator) {
+        List<SimulatedElement> removed = elements.remove(locator);
+        if (removed != null) {
+            removed.forEach(SimulatedElement::detach);
+        }
+    }
+
+    /**
+     * Registers a script result for scripts containing a fragment
+     * Handlers registered later take precedence over earlier ones, including the built-in ones
+     *
+     * @param scriptFragment Text the script must contain
+     * @param handler Computes the result from the script arguments
+     * @return This driver
+     */
+    public SimulatedWebDriver onScript(String scriptFragment, Function<Object[], Object> handler) {
+        scriptHandlers.addFirst(Map.entry(scriptFragment, handler));
+        return this;
+    }
+
+    /**
+     * Makes the next invocations of a command throw
+     *
+     * @param command Command name (get, findElement, click, sendKeys, executeScript, screenshot, ...)
+     * @param fault Creates the exception to throw
+     * @param times Number of invocations that fail
+     * @return This driver
+     */
+    public SimulatedWebDriver injectFault(String command, Supplier<? extends RuntimeException> fault, int times) {
+        Deque<Supplier<? extends RuntimeException>> queue = faults.computeIfAbsent(command, key -> new ConcurrentLinkedDeque<>());
+        for (int i = 0; i < times; i++) {
+            queue.add(fault);
+        }
+        return this;
+    }
+
+    /**
+     * Makes the next invocations of a command time out
+     *
+     * @param command Command name
+     * @param times Number of invocations that time out
+     * @return This driver
+     */
+    public SimulatedWebDriver injectTimeout(String command, int times) {
+        return injectFault(command, () -> new TimeoutException("Injected timeout for command: " + command), times);
+    }
+
+    // ========== STATISTICS ==========
+
+    /**
+     * Gets how often a command was issued
+     *
+     * @param command Command name
+     * @return Invocation count
+     */
+    public long getCommandCount(String command) {
+        LongAdder count = commandCounts.get(command);
+        return count != null ? count.sum() : 0;
+    }
+
+    /**
+     * Gets the total number of commands issued
+     *
+     * @return Total command count
+     */
+    public long getTotalCommands() {
+        return totalCommands.sum();
+    }
+
+    /**
+     * Resets the command counters
+     */
+    public void resetStatistics() {
+        commandCounts.clear();
+        totalCommands.reset();
+    }
+
+    /**
+     * Gets command statistics
+     *
+     * @return Command statistics summary
+     */
+    public String getCommandStatistics() {
+        return String.format("Simulated Driver - Commands: %d, By Command: %s", totalCommands.sum(), commandCounts);
+    }
+
+    // ========== WEBDRIVER ==========
+
+    @Override
+    public void get(String url) {
+        command("get");
+        sleep(pageLoadLatency);
+        currentUrl = url;
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        command("getCurrentUrl");
+        return currentUrl;
+    }
+
+    @Override
+    public String getTitle() {
+        command("getTitle");
+        return title;
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        command("findElements");
+        List<WebElement> found = presentElements(by);
+        if (found.isEmpty() && awaitImplicitly(by)) {
+            found = presentElements(by);
+        }
+        return found;
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        command("findElement");
+        List<WebElement> found = presentElements(by);
+        if (found.isEmpty() && awaitImplicitly(by)) {
+            found = presentElements(by);
+        }
+        if (found.isEmpty()) {
+            throw new NoSuchElementException("Simulated page has no element matching: " + by);
+        }
+        return found.get(0);
+    }
+
+    @Override
+    public String getPageSource() {
+        command("getPageSource");
+        return "<html><head><title>" + title + "</title></head><body></body></html>";
+    }
+
+    @Override
+    public void close() {
+        command("close");
+    }
+
+    @Override
+    public void quit() {
+        if (!quit) {
+            command("quit");
+            quit = true;
+        }
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        command("getWindowHandles");
+        return Set.of(WINDOW_HANDLE);
+    }
+
+    @Override
+    public String getWindowHandle() {
+        command("getWindowHandle");
+        return WINDOW_HANDLE;
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        return new SimulatedTargetLocator();
+    }
+
+    @Override
+    public Navigation navigate() {
+        return new SimulatedNavigation();
+    }
+
+    @Override
+    public Options manage() {
+        return new SimulatedOptions();
+    }
+
+    // ========== JAVASCRIPT / SCREENSHOT / ACTIONS ==========
+
+    @Override
+    public Object executeScript(String script, Object... args) {
+        command("executeScript");
+        return runScript(script, args);
+    }
+
+    @Override
+    public Object executeAsyncScript(String script, Object... args) {
+        command("executeAsyncScript");
+        return runScript(script, args);
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        command("screenshot");
+        return target.convertFromPngBytes(screenshotBytes);
+    }
+
+    @Override
+    public void perform(Collection<Sequence> actions) {
+        command("performActions");
+    }
+
+    @Override
+    public void resetInputState() {
+        command("releaseActions");
+    }
+
+    /**
+     * Gets the canned screenshot bytes
+     *
+     * @return PNG bytes
+     */
+    byte[] getScreenshotBytes() {
+        return screenshotBytes;
+    }
+
+    /**
+     * Records a command, applies the configured latency and throws any injected fault
+     *
+     * @param name Command name
+     */
+    void command(String name) {
+        if (quit) {
+            throw new NoSuchSessionException("Simulated session has been quit");
+        }
+        totalCommands.increment();
+        commandCounts.computeIfAbsent(name, key -> new LongAdder()).increment();
+        sleep(commandLatency);
+
+        Deque<Supplier<? extends RuntimeException>> queue = faults.get(name);
+        Supplier<? extends RuntimeException> fault = queue != null ? queue.poll() : null;
+        if (fault != null) {
+            throw fault.get();
+        }
+    }
+
+    /**
+     * Runs the built-in script emulations and registered handlers
+     *
+     * @param script Script source
+     * @param args Script arguments
+     * @return Script result
+     */
+    private Object runScript(String script, Object[] args) {
+        for (Map.Entry<String, Function<Object[], Object>> handler : scriptHandlers) {
+            if (script.contains(handler.getKey())) {
+                return handler.getValue().apply(args);
+            }
+        }
+        if (script.contains("arguments[0].click()") && args.length > 0 && args[0] instanceof SimulatedElement) {
+            ((SimulatedElement) args[0]).click();
+            return null;
+        }
+        if (script.contains("arguments[0].value = arguments[1]") && args.length > 1 && args[0] instanceof SimulatedElement) {
+            ((SimulatedElement) args[0]).setValue(String.valueOf(args[1]));
+            return null;
+        }
+        if (script.contains("innerText") && args.length > 0 && args[0] instanceof SimulatedElement) {
+            return ((SimulatedElement) args[0]).getText();
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets the registered elements for a locator that are present now
+     *
+     * @param by Element locator
+     * @return Present elements
+     */
+    private List<WebElement> presentElements(By by) {
+        List<WebElement> found = new ArrayList<>();
+        elements.getOrDefault(by, List.of()).stream().filter(SimulatedElement::isPresent).forEach(found::add);
+        return found;
+    }
+
+    /**
+     * Waits within the implicit wait for a pending element to appear, like a browser would
+     *
+     * @param by Element locator
+     * @return true if an element should now be present
+     */
+    private boolean awaitImplicitly(By by) {
+        long implicitMillis = timeouts.implicitWait.toMillis();
+        if (implicitMillis <= 0) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        long appearsAt = elements.getOrDefault(by, List.of()).stream()
+            .mapToLong(SimulatedElement::getPresentFrom)
+            .filter(time -> time > now)
+            .min()
+            .orElse(Long.MAX_VALUE);
+
+        if (appearsAt - now <= implicitMillis) {
+            sleep(Duration.ofMillis(appearsAt - now));
+            return true;
+        }
+        sleep(Duration.ofMillis(implicitMillis));
+        return false;
+    }
+
+    /**
+     * Sleeps for a simulated latency
+     *
+     * @param duration Time to sleep
+     */
+    private static void sleep(Duration duration) {
+        if (duration.isZero() || duration.isNegative()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Simulated browser options: cookies, timeouts and window
+     */
+    private final class SimulatedOptions implements Options {
+
+        @Override
+        public void addCookie(Cookie cookie) {
+            command("addCookie");
+            cookies.put(cookie.getName(), cookie);
+        }
+
+        @Override
+        public void deleteCookieNamed(String name) {
+            command("deleteCookie");
+            cookies.remove(name);
+        }
+
+        @Override
+        public void deleteCookie(Cookie cookie) {
+            deleteCookieNamed(cookie.getName());
+        }
+
+        @Override
+        public void deleteAllCookies() {
+            command("deleteAllCookies");
+            cookies.clear();
+        }
+
+        @Override
+        public Set<Cookie> getCookies() {
+            command("getCookies");
+            return new HashSet<>(cookies.values());
+        }
+
+        @Override
+        public Cookie getCookieNamed(String name) {
+            command("getCookie");
+            return cookies.get(name);
+        }
+
+        @Override
+        public Timeouts timeouts() {
+            return timeouts;
+        }
+
+        @Override
+        public Window window() {
+            return window;
+        }
+
+        @Override
+        public Logs logs() {
+            throw new UnsupportedCommandException("Logs are not available on the simulated driver");
+        }
+    }
+
+    /**
+     * Simulated session timeouts; the implicit wait is honoured by element lookups
+     */
+    private final class SimulatedTimeouts implements Timeouts {
+        private volatile Duration implicitWait = Duration.ZERO;
+        private volatile Duration scriptTimeout = Duration.ofSeconds(30);
+        private volatile Duration pageLoadTimeout = Duration.ofSeconds(300);
+
+        @Override
+        @Deprecated
+        public Timeouts implicitlyWait(long time, TimeUnit unit) {
+            return implicitlyWait(Duration.ofMillis(unit.toMillis(time)));
+        }
+
+        @Override
+        public Timeouts implicitlyWait(Duration duration) {
+            command("setTimeouts");
+            implicitWait = duration;
+            return this;
+        }
+
+        @Override
+        public Duration getImplicitWaitTimeout() {
+            return implicitWait;
+        }
+
+        @Override
+        @Deprecated
+        public Timeouts setScriptTimeout(long time, TimeUnit unit) {
+            return scriptTimeout(Duration.ofMillis(unit.toMillis(time)));
+        }
+
+        @Override
+        public Timeouts scriptTimeout(Duration duration) {
+            command("setTimeouts");
+            scriptTimeout = duration;
+            return this;
+        }
+
+        @Override
+        public Duration getScriptTimeout() {
+            return scriptTimeout;
+        }
+
+        @Override
+        @Deprecated
+        public Timeouts pageLoadTimeout(long time, TimeUnit unit) {
+            return pageLoadTimeout(Duration.ofMillis(unit.toMillis(time)));
+        }
+
+        @Override
+        public Timeouts pageLoadTimeout(Duration duration) {
+            command("setTimeouts");
+            pageLoadTimeout = duration;
+            return this;
+        }
+
+        @Override
+        public Duration getPageLoadTimeout() {
+            return pageLoadTimeout;
+        }
+    }
+
+    /**
+     * Simulated browser window
+     */
+    private final class SimulatedWindow implements Window {
+        private volatile Dimension size = new Dimension(1920, 1080);
+        private volatile Point position = new Point(0, 0);
+
+        @Override
+        public Dimension getSize() {
+            command("getWindowRect");
+            return size;
+        }
+
+        @Override
+        public void setSize(Dimension targetSize) {
+            command("setWindowRect");
+            size = targetSize;
+        }
+
+        @Override
+        public Point getPosition() {
+            command("getWindowRect");
+            return position;
+        }
+
+        @Override
+        public void setPosition(Point targetPosition) {
+            command("setWindowRect");
+            position = targetPosition;
+        }
+
+        @Override
+        public void maximize() {
+            command("maximizeWindow");
+        }
+
+        @Override
+        public void minimize() {
+            command("minimizeWindow");
+        }
+
+        @Override
+        public void fullscreen() {
+            command("fullscreenWindow");
+        }
+    }
+
+    /**
+     * Simulated navigation
+     */
+    private final class SimulatedNavigation implements Navigation {
+
+        @Override
+        public void back() {
+            command("back");
+        }
+
+        @Override
+        public void forward() {
+            command("forward");
+        }
+
+        @Override
+        public void to(String url) {
+            get(url);
+        }
+
+        @Override
+        public void to(URL url) {
+            get(url.toString());
+        }
+
+        @Override
+        public void refresh() {
+            command("refresh");
+            sleep(pageLoadLatency);
+        }
+    }
+
+    /**
+     * Simulated target locator with a single window, no frames and no alerts
+     */
+    private final class SimulatedTargetLocator implements TargetLocator {
+
+        @Override
+        public WebDriver frame(int index) {
+            command("switchToFrame");
+            return SimulatedWebDriver.this;
+        }
+
+        @Override
+        public WebDriver frame(String nameOrId) {
+            command("switchToFrame");
+            return SimulatedWebDriver.this;
+        }
+
+        @Override
+        public WebDriver frame(WebElement frameElement) {
+            command("switchToFrame");
+            return SimulatedWebDriver.this;
+        }
+
+        @Override
+        public WebDriver parentFrame() {
+            command("switchToParentFrame");
+            return SimulatedWebDriver.this;
+        }
+
+        @Override
+        public WebDriver window(String nameOrHandle) {
+            command("switchToWindow");
+            return SimulatedWebDriver.this;
+        }
+
+        @Override
+        public WebDriver newWindow(WindowType typeHint) {
+            command("newWindow");
+            return SimulatedWebDriver.this;
+        }
+
+        @Override
+        public WebDriver defaultContent() {
+            command("switchToFrame");
+            return SimulatedWebDriver.this;
+        }
+
+        @Override
+        public WebElement activeElement() {
+            command("getActiveElement");
+            return elements.values().stream()
+                .flatMap(List::stream)
+                .filter(SimulatedElement::isPresent)
+                .findFirst()
+                .orElseThrow(() -> new NoSuchElementException("Simulated page has no active element"));
+        }
+
+        @Override
+        public Alert alert() {
+            command("getAlertText");
+            throw new NoAlertPresentException("Simulated page has no alert");
+        }
+    }
+}
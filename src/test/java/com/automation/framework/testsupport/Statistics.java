@@ -0,0 +1,61 @@
+package com.automation.framework.testsupport;
+
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Statistics - Reads counters from the framework's statistics summaries for offline tests
+ * The framework keeps its counters static and reports them as text, so tests compare readings taken
+ * before and after the code under test runs
+ *
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+public final class Statistics {
+
+    // Prevent instantiation
+    private Statistics() {
+        throw new UnsupportedOperationException("Statistics is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Reads the number next to a label, e.g. 7 from "Hits: 7", 2 from "immediate 2" or 3 from "(3 with the read in the check)"
+     *
+     * @param summary Statistics summary
+     * @param label Label next to the number
+     * @return The number
+     * @throws IllegalArgumentException if the summary has no such label
+     */
+    public static long read(String summary, String label) {
+        Matcher matcher = Pattern.compile(Pattern.quote(label) + ":? (\\d+)|(\\d+) " + Pattern.quote(label)).matcher(summary);
+        if (!matcher.find()) {
+            throw new IllegalArgumentException("No '" + label + "' in: " + summary);
+        }
+        return Long.parseLong(matcher.group(1) != null ? matcher.group(1) : matcher.group(2));
+    }
+
+    /**
+     * Waits for work done on a background thread
+     *
+     * @param condition Condition to wait for
+     * @param timeout Maximum time to wait
+     * @return true if the condition became true within the timeout
+     */
+    public static boolean awaitCondition(BooleanSupplier condition, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+}
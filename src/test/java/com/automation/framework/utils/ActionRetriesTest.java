@@ -0,0 +1,106 @@
+package com.automation.framework.utils;
+
+import com.automation.framework.driver.DriverManager;
+import com.automation.framework.testsupport.SimulatedWebDriver;
+import com.automation.framework.testsupport.Statistics;
+import org.openqa.selenium.By;
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriverException;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ActionRetriesTest - Backoff schedule and failure-based policy choice of element action retries
+ * Uses the configured action.retry.backoff.ms=200, action.retry.backoff.max.ms=2000 and action.retry.jitter=0.5
+ *
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+public class ActionRetriesTest {
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() {
+        ActionRetries.resetPolicies();
+        DriverManager.detachDriver();
+    }
+
+    @Test(description = "The backoff doubles per attempt up to the cap, minus at most half of it as jitter")
+    public void testBackoffMillis() {
+        long[] expected = {200, 400, 800, 1600, 2000, 2000};
+        for (int i = 0; i < expected.length; i++) {
+            for (int sample = 0; sample < 200; sample++) {
+                long delay = ActionRetries.backoffMillis(i + 1);
+                Assert.assertTrue(delay <= expected[i] && delay >= expected[i] / 2,
+                    "Attempt " + (i + 1) + " backed off " + delay + " ms");
+            }
+        }
+        // The shift is capped so very high attempt numbers do not overflow
+        long delay = ActionRetries.backoffMillis(1000);
+        Assert.assertTrue(delay <= 2000 && delay >= 1000, "Attempt 1000 backed off " + delay + " ms");
+    }
+
+    @Test(description = "Stale references are retried at once, also when wrapped")
+    public void testStaleFailureRetriesImmediately() {
+        long immediate = Statistics.read(ActionRetries.getRetryStatistics(), "immediate");
+
+        Assert.assertTrue(ActionRetries.standard().beforeRetry(new StaleElementReferenceException("stale"), 1, null));
+        Assert.assertTrue(ActionRetries.standard().beforeRetry(
+            new WebDriverException("wrapped", new StaleElementReferenceException("stale")), 1, null));
+
+        Assert.assertEquals(Statistics.read(ActionRetries.getRetryStatistics(), "immediate"), immediate + 2);
+    }
+
+    @Test(description = "Covered elements are retried once the in-page hit test finds them on top")
+    public void testInterceptedFailureAwaitsActionable() {
+        SimulatedWebDriver driver = new SimulatedWebDriver();
+        By button = By.id("submit");
+        driver.addElement(button);
+        AtomicInteger hitTests = new AtomicInteger();
+        driver.onScript("document.elementFromPoint", args -> hitTests.incrementAndGet() > 2);
+        DriverManager.setDriver(driver, "simulated");
+        long onCondition = Statistics.read(ActionRetries.getRetryStatistics(), "on condition");
+
+        Assert.assertTrue(ActionRetries.standard().beforeRetry(
+            new ElementClickInterceptedException("covered by overlay"), 1, button));
+
+        Assert.assertEquals(hitTests.get(), 3, "Expected to poll the hit test until the overlay was gone");
+        Assert.assertEquals(Statistics.read(ActionRetries.getRetryStatistics(), "on condition"), onCondition + 1);
+    }
+
+    @Test(description = "Other failures back off")
+    public void testOtherFailureBacksOff() {
+        long backoff = Statistics.read(ActionRetries.getRetryStatistics(), "backoff");
+        long start = System.nanoTime();
+
+        Assert.assertTrue(ActionRetries.standard().beforeRetry(new WebDriverException("connection reset"), 1, null));
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        Assert.assertTrue(elapsedMillis >= 100, "Backed off only " + elapsedMillis + " ms");
+        Assert.assertEquals(Statistics.read(ActionRetries.getRetryStatistics(), "backoff"), backoff + 1);
+    }
+
+    @Test(description = "Policies registered per action type replace the standard policy for that type only")
+    public void testPolicyRegistration() {
+        ActionRetries.setPolicy("click", ActionRetries.immediate());
+
+        Assert.assertSame(ActionRetries.getPolicy("click"), ActionRetries.immediate());
+        Assert.assertSame(ActionRetries.getPolicy("send-keys"), ActionRetries.standard());
+
+        ActionRetries.resetPolicies();
+        Assert.assertSame(ActionRetries.getPolicy("click"), ActionRetries.standard());
+    }
+
+    @Test(description = "Cause chains are searched, including intercepted clicks as not-interactable failures")
+    public void testHasCause() {
+        Assert.assertTrue(ActionRetries.hasCause(new ElementClickInterceptedException("covered"),
+            ElementNotInteractableException.class));
+        Assert.assertTrue(ActionRetries.hasCause(new RuntimeException(new StaleElementReferenceException("stale")),
+            StaleElementReferenceException.class));
+        Assert.assertFalse(ActionRetries.hasCause(new WebDriverException("other"), StaleElementReferenceException.class));
+    }
+}
@@ -0,0 +1,158 @@
+package com.automation.framework.utils;
+
+import com.automation.framework.testsupport.SimulatedElement;
+import com.automation.framework.testsupport.SimulatedWebDriver;
+import com.automation.framework.testsupport.Statistics;
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * ElementCacheTest - Reuse of cached elements through the in-page check script
+ * The check script is answered by a handler that plays the page: the cached element is usable while it is
+ * still the element the locator finds, and the requested text or attribute is read in the same call
+ *
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+public class ElementCacheTest {
+
+    private static final By HEADING = By.id("heading");
+
+    private SimulatedWebDriver driver;
+    private final AtomicReference<SimulatedElement> firstMatch = new AtomicReference<>();
+    private final AtomicBoolean detached = new AtomicBoolean();
+    private final AtomicInteger finds = new AtomicInteger();
+
+    @BeforeMethod
+    public void setUp() {
+        driver = new SimulatedWebDriver();
+        firstMatch.set(driver.addElement(HEADING).withText("Welcome").withAttribute("title", "greeting"));
+        detached.set(false);
+        finds.set(0);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() {
+        ElementCache.invalidate();
+    }
+
+    @Test(description = "A cached element answers a text read in the check call without a new find")
+    public void testCombinedRead() {
+        installPage();
+        long combinedReads = Statistics.read(ElementCache.getStatistics(), "with the read in the check");
+
+        Assert.assertEquals(readText(), "Welcome");
+        Assert.assertEquals(readText(), "Welcome");
+        Assert.assertEquals(readAttribute("title"), "greeting");
+
+        Assert.assertEquals(finds.get(), 1);
+        Assert.assertEquals(Statistics.read(ElementCache.getStatistics(), "with the read in the check"), combinedReads + 2);
+    }
+
+    @Test(description = "An action on a cached element reuses it after one check")
+    public void testActionReusesElement() {
+        installPage();
+        WebElement found = ElementCache.withElement(driver, HEADING, ElementCache.Condition.CLICKABLE, this::find,
+            element -> element);
+
+        WebElement reused = ElementCache.withElement(driver, HEADING, ElementCache.Condition.CLICKABLE, this::find,
+            element -> element);
+
+        Assert.assertSame(reused, found);
+        Assert.assertEquals(finds.get(), 1);
+    }
+
+    @Test(description = "An element that is no longer the locator's first match is found again")
+    public void testMismatchRefinds() {
+        installPage();
+        readText();
+        long mismatches = Statistics.read(ElementCache.getStatistics(), "No Longer Matching");
+
+        driver.removeElements(HEADING);
+        firstMatch.set(driver.addElement(HEADING).withText("Goodbye"));
+
+        Assert.assertEquals(readText(), "Goodbye");
+        Assert.assertEquals(finds.get(), 2);
+        Assert.assertEquals(Statistics.read(ElementCache.getStatistics(), "No Longer Matching"), mismatches + 1);
+    }
+
+    @Test(description = "A cached element that went stale is found again")
+    public void testStaleRefinds() {
+        installPage();
+        readText();
+        long staleRefinds = Statistics.read(ElementCache.getStatistics(), "Stale Re-finds");
+
+        detached.set(true);
+        Assert.assertEquals(readText(), "Welcome");
+
+        Assert.assertEquals(finds.get(), 2);
+        Assert.assertEquals(Statistics.read(ElementCache.getStatistics(), "Stale Re-finds"), staleRefinds + 1);
+    }
+
+    @Test(description = "Dropping the cache forces a new find")
+    public void testInvalidate() {
+        installPage();
+        readText();
+        long invalidations = Statistics.read(ElementCache.getStatistics(), "Invalidations");
+
+        ElementCache.invalidate();
+        readText();
+
+        Assert.assertEquals(finds.get(), 2);
+        Assert.assertEquals(Statistics.read(ElementCache.getStatistics(), "Invalidations"), invalidations + 1);
+    }
+
+    @Test(description = "A driver that cannot run the check script bypasses the cache")
+    public void testDriverWithoutScriptSupport() {
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(readText(), "Welcome");
+        }
+
+        Assert.assertEquals(finds.get(), 3);
+        Assert.assertEquals(driver.getCommandCount("executeScript"), 1, "Expected one check before bypassing the cache");
+    }
+
+    /**
+     * Answers the check script like a browser showing the current first match of the locator
+     */
+    private void installPage() {
+        driver.onScript("findAll(locator)[0] === element", args -> {
+            if (detached.get()) {
+                throw new StaleElementReferenceException("Element is no longer attached to the DOM");
+            }
+            boolean usable = args[0] == firstMatch.get();
+            Map<?, ?> read = (Map<?, ?>) args[3];
+            if (!usable || read == null) {
+                return Arrays.asList(usable, null);
+            }
+            SimulatedElement element = (SimulatedElement) args[0];
+            return Arrays.asList(true, "text".equals(read.get("mode"))
+                ? element.getText() : element.getAttribute((String) read.get("name")));
+        });
+    }
+
+    private WebElement find() {
+        finds.incrementAndGet();
+        return driver.findElement(HEADING);
+    }
+
+    private String readText() {
+        return ElementCache.readElement(driver, HEADING, ElementCache.Condition.VISIBLE, this::find, null, WebElement::getText);
+    }
+
+    private String readAttribute(String name) {
+        return ElementCache.readElement(driver, HEADING, ElementCache.Condition.VISIBLE, this::find, name,
+            element -> element.getAttribute(name));
+    }
+}
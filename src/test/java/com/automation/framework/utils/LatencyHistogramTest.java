@@ -0,0 +1,89 @@
+package com.automation.framework.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * LatencyHistogramTest - Bucket and percentile maths of the wait telemetry histogram
+ *
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+public class LatencyHistogramTest {
+
+    @Test(description = "An empty histogram reports zero for every percentile")
+    public void testEmptyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        Assert.assertEquals(histogram.getCount(), 0);
+        Assert.assertEquals(histogram.getValueAtPercentile(50), 0);
+        Assert.assertEquals(histogram.getValueAtPercentile(99), 0);
+    }
+
+    @Test(description = "Values below the sub-bucket count get a bucket each and are reported exactly")
+    public void testSmallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int value = 0; value < 16; value++) {
+            histogram.record(value);
+        }
+
+        Assert.assertEquals(histogram.getCount(), 16);
+        Assert.assertEquals(histogram.getTotalMicros(), 120);
+        // Rank ceil(16 * 0.5) = 8 is the value 7
+        Assert.assertEquals(histogram.getValueAtPercentile(50), 7);
+        Assert.assertEquals(histogram.getValueAtPercentile(0), 0);
+        Assert.assertEquals(histogram.getValueAtPercentile(100), 15);
+    }
+
+    @Test(description = "Larger values report the upper bound of their bucket, capped at the maximum recorded")
+    public void testBucketUpperBound() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1000);
+        histogram.record(2000);
+
+        // 1000 lies in [992, 1023]: exponent 9 gives buckets 32 wide
+        Assert.assertEquals(histogram.getValueAtPercentile(50), 1023);
+        // 2000 lies in [1984, 2047], which the maximum caps
+        Assert.assertEquals(histogram.getValueAtPercentile(100), 2000);
+        Assert.assertEquals(histogram.getMaxMicros(), 2000);
+    }
+
+    @Test(description = "Percentiles stay within the relative error of one sub-bucket")
+    public void testPercentileAccuracy() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int value = 1; value <= 10_000; value++) {
+            histogram.record(value);
+        }
+
+        for (double percentile : new double[] {50, 90, 99, 99.9}) {
+            long exact = (long) Math.ceil(10_000 * percentile / 100);
+            long reported = histogram.getValueAtPercentile(percentile);
+            Assert.assertTrue(reported >= exact, "p" + percentile + " below the exact value: " + reported);
+            Assert.assertTrue(reported - exact <= exact / 16, "p" + percentile + " off by more than 1/16: " + reported);
+        }
+    }
+
+    @Test(description = "Negative values count as zero and out-of-range percentiles are clamped")
+    public void testClamping() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(40);
+
+        Assert.assertEquals(histogram.getTotalMicros(), 40);
+        Assert.assertEquals(histogram.getValueAtPercentile(-10), 0);
+        Assert.assertEquals(histogram.getValueAtPercentile(250), 40);
+    }
+
+    @Test(description = "Values beyond the last exponent share the last buckets without overflowing")
+    public void testHugeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+        histogram.record(1L << 45);
+
+        Assert.assertEquals(histogram.getCount(), 2);
+        Assert.assertEquals(histogram.getMaxMicros(), Long.MAX_VALUE);
+        // Both fall into the 2^40 range and report its sub-bucket bounds
+        Assert.assertEquals(histogram.getValueAtPercentile(50), (1L << 40) + (1L << 36) - 1);
+        Assert.assertEquals(histogram.getValueAtPercentile(100), (1L << 41) - 1);
+    }
+}
@@ -0,0 +1,186 @@
+package com.automation.framework.utils;
+
+import com.automation.framework.testsupport.SimulatedWebDriver;
+import com.automation.framework.testsupport.Statistics;
+import org.openqa.selenium.By;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * RecoveryStrategiesTest - Ordering by success rate, per-locator skipping and the built-in in-page strategies
+ * Custom strategies apply only to {@link CustomFailure}, which the built-in strategies ignore
+ *
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+public class RecoveryStrategiesTest {
+
+    private final List<String> registered = new ArrayList<>();
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() {
+        registered.forEach(RecoveryStrategies::unregister);
+        registered.clear();
+    }
+
+    @Test(description = "The built-in strategies are registered in order")
+    public void testBuiltInStrategies() {
+        List<RecoveryStrategy> strategies = RecoveryStrategies.getStrategies();
+
+        Assert.assertEquals(strategies.get(0).getName(), "scroll-to-top");
+        Assert.assertEquals(strategies.get(1).getName(), "dismiss-overlays");
+    }
+
+    @Test(description = "Scroll-to-top passes when the page is already at the top and dismiss-overlays acts")
+    public void testBuiltInStrategiesRunInPage() {
+        SimulatedWebDriver driver = new SimulatedWebDriver();
+        AtomicInteger scrolls = new AtomicInteger();
+        AtomicInteger dismissals = new AtomicInteger();
+        driver.onScript("window.scrollTo(0, 0)", args -> {
+            scrolls.incrementAndGet();
+            return false;
+        });
+        driver.onScript(".modal, .overlay, .popup", args -> {
+            dismissals.incrementAndGet();
+            return 1L;
+        });
+
+        RecoveryStrategy applied = RecoveryStrategies.recover(driver, new ElementNotInteractableException("covered"),
+            By.id("built-in"));
+
+        Assert.assertNotNull(applied);
+        Assert.assertEquals(applied.getName(), "dismiss-overlays");
+        Assert.assertEquals(scrolls.get(), 1);
+        Assert.assertEquals(dismissals.get(), 1);
+    }
+
+    @Test(description = "Without overlays or scrolling to undo no built-in strategy claims to have acted")
+    public void testBuiltInStrategiesWithNothingToDo() {
+        SimulatedWebDriver driver = new SimulatedWebDriver();
+        driver.onScript("window.scrollTo(0, 0)", args -> false);
+        driver.onScript(".modal, .overlay, .popup", args -> 0L);
+
+        Assert.assertNull(RecoveryStrategies.recover(driver, new ElementNotInteractableException("covered"),
+            By.id("nothing-to-do")));
+    }
+
+    @Test(description = "Strategies are tried in order of success rate")
+    public void testOrderingBySuccessRate() {
+        TestStrategy first = register(new TestStrategy("ordering-first", true));
+        TestStrategy second = register(new TestStrategy("ordering-second", true));
+        By target = By.id("ordering");
+
+        // Equal rates keep registration order
+        Assert.assertSame(recover(target), first);
+
+        RecoveryStrategies.recordOutcome(first, target, false);
+        RecoveryStrategies.recordOutcome(second, target, true);
+
+        Assert.assertSame(recover(target), second);
+        Assert.assertEquals(second.calls.get(), 1);
+    }
+
+    @Test(description = "A strategy that does not act or throws hands over to the next one")
+    public void testFallsThroughToNextStrategy() {
+        TestStrategy idle = register(new TestStrategy("fallthrough-idle", false));
+        TestStrategy broken = register(new TestStrategy("fallthrough-broken", true) {
+            @Override
+            public boolean recover(WebDriver driver, Throwable failure, Object target) {
+                super.recover(driver, failure, target);
+                throw new WebDriverException("strategy failed");
+            }
+        });
+        TestStrategy acting = register(new TestStrategy("fallthrough-acting", true));
+
+        Assert.assertSame(recover(By.id("fallthrough")), acting);
+        Assert.assertEquals(idle.calls.get(), 1);
+        Assert.assertEquals(broken.calls.get(), 1);
+    }
+
+    @Test(description = "A strategy that never helped a locator is skipped for that locator only")
+    public void testSkippingPerLocator() {
+        TestStrategy unhelpful = register(new TestStrategy("skipping-unhelpful", true));
+        By stubborn = By.id("stubborn");
+        // recovery.skip.after=3
+        for (int i = 0; i < 3; i++) {
+            RecoveryStrategies.recordOutcome(unhelpful, stubborn, false);
+        }
+        long skipped = Statistics.read(RecoveryStrategies.getRecoveryStatistics(), "Skipped as unhelpful");
+
+        Assert.assertNull(recover(stubborn));
+        Assert.assertEquals(Statistics.read(RecoveryStrategies.getRecoveryStatistics(), "Skipped as unhelpful"), skipped + 1);
+        Assert.assertSame(recover(By.id("other")), unhelpful);
+    }
+
+    @Test(description = "A lost session is not recovered")
+    public void testLostSession() {
+        TestStrategy strategy = register(new TestStrategy("lost-session", true) {
+            @Override
+            public boolean appliesTo(Throwable failure) {
+                return true;
+            }
+        });
+
+        Assert.assertNull(RecoveryStrategies.recover(new SimulatedWebDriver(),
+            new NoSuchSessionException("session deleted"), By.id("gone")));
+        Assert.assertEquals(strategy.calls.get(), 0);
+    }
+
+    private RecoveryStrategy recover(By target) {
+        return RecoveryStrategies.recover(new SimulatedWebDriver(), new CustomFailure(), target);
+    }
+
+    private <T extends RecoveryStrategy> T register(T strategy) {
+        RecoveryStrategies.register(strategy);
+        registered.add(strategy.getName());
+        return strategy;
+    }
+
+    /**
+     * Failure that only the test strategies apply to
+     */
+    private static final class CustomFailure extends WebDriverException {
+        private CustomFailure() {
+            super("custom failure");
+        }
+    }
+
+    /**
+     * Strategy that counts its invocations
+     */
+    private static class TestStrategy implements RecoveryStrategy {
+        private final String name;
+        private final boolean acts;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        private TestStrategy(String name, boolean acts) {
+            this.name = name;
+            this.acts = acts;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public boolean appliesTo(Throwable failure) {
+            return failure instanceof CustomFailure;
+        }
+
+        @Override
+        public boolean recover(WebDriver driver, Throwable failure, Object target) {
+            calls.incrementAndGet();
+            return acts;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.automation.framework.utils;
+
+import com.automation.framework.exceptions.BudgetExhaustedException;
+import com.automation.framework.testsupport.Statistics;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+
+/**
+ * TestDeadlineTest - Timeout bounding and exhaustion of the per-test wait budget
+ *
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+public class TestDeadlineTest {
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() {
+        TestDeadline.clear();
+    }
+
+    @Test(description = "Without a budget timeouts pass through unchanged")
+    public void testUnboundedTest() {
+        Assert.assertFalse(TestDeadline.isActive());
+        Assert.assertFalse(TestDeadline.isExhausted());
+        Assert.assertNull(TestDeadline.remaining());
+        Assert.assertEquals(TestDeadline.bound(Duration.ofSeconds(30), "wait"), Duration.ofSeconds(30));
+    }
+
+    @Test(description = "A zero budget leaves the test unbounded")
+    public void testZeroBudget() {
+        TestDeadline.start("zero", Duration.ZERO);
+
+        Assert.assertFalse(TestDeadline.isActive());
+    }
+
+    @Test(description = "Timeouts shorter than the remaining budget are kept, longer ones are shortened")
+    public void testBound() {
+        TestDeadline.start("bound", Duration.ofSeconds(10));
+        long shortened = Statistics.read(TestDeadline.getBudgetStatistics(), "Shortened Waits");
+
+        Assert.assertEquals(TestDeadline.bound(Duration.ofSeconds(5), "short wait"), Duration.ofSeconds(5));
+        Duration bounded = TestDeadline.bound(Duration.ofSeconds(60), "long wait");
+
+        Assert.assertTrue(bounded.compareTo(Duration.ofSeconds(10)) <= 0, "Not bounded: " + bounded);
+        Assert.assertTrue(bounded.compareTo(Duration.ofSeconds(9)) > 0, "Bounded too far: " + bounded);
+        Assert.assertEquals(Statistics.read(TestDeadline.getBudgetStatistics(), "Shortened Waits"), shortened + 1);
+    }
+
+    @Test(description = "Once the budget is spent waits fail fast and the test is counted as exhausted once")
+    public void testExhausted() throws InterruptedException {
+        long exhausted = Statistics.read(TestDeadline.getBudgetStatistics(), "Exhausted");
+        TestDeadline.start("exhausted", Duration.ofMillis(20));
+        Thread.sleep(50);
+
+        Assert.assertTrue(TestDeadline.isExhausted());
+        Assert.assertEquals(TestDeadline.remaining(), Duration.ZERO);
+        BudgetExhaustedException failure = Assert.expectThrows(BudgetExhaustedException.class,
+            () -> TestDeadline.bound(Duration.ofSeconds(5), "visible: #login"));
+        Assert.assertTrue(failure.getMessage().contains("'exhausted'"), failure.getMessage());
+        Assert.assertTrue(failure.getMessage().contains("visible: #login"), failure.getMessage());
+        Assert.expectThrows(BudgetExhaustedException.class, () -> TestDeadline.check("click"));
+
+        Assert.assertEquals(Statistics.read(TestDeadline.getBudgetStatistics(), "Exhausted"), exhausted + 1);
+    }
+
+    @Test(description = "A method budget overrides the class budget")
+    public void testResolveBudget() throws NoSuchMethodException {
+        Method annotated = BudgetedTests.class.getMethod("annotated");
+        Method inherited = BudgetedTests.class.getMethod("inherited");
+
+        Assert.assertEquals(TestDeadline.resolveBudget(BudgetedTests.class, annotated), Duration.ofSeconds(5));
+        Assert.assertEquals(TestDeadline.resolveBudget(BudgetedTests.class, inherited), Duration.ofSeconds(30));
+    }
+
+    @WaitBudget(seconds = 30)
+    private static final class BudgetedTests {
+
+        @WaitBudget(seconds = 5)
+        public void annotated() {
+        }
+
+        public void inherited() {
+        }
+    }
+}
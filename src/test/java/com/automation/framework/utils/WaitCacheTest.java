@@ -0,0 +1,79 @@
+package com.automation.framework.utils;
+
+import com.automation.framework.driver.DriverManager;
+import com.automation.framework.testsupport.SimulatedWebDriver;
+import com.automation.framework.testsupport.Statistics;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * WaitCacheTest - Cache keys of reused waits and invalidation when the thread's driver changes
+ *
+ * @author Test Automation Framework
+ * @version 1.0.0
+ */
+public class WaitCacheTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() {
+        DriverManager.detachDriver();
+    }
+
+    @Test(description = "Identical wait settings reuse one wait; any differing setting gets its own")
+    public void testCacheKeys() {
+        SimulatedWebDriver driver = new SimulatedWebDriver();
+        AdaptiveWait wait = WaitCache.get(driver, "visible", TIMEOUT, null, List.of());
+
+        Assert.assertSame(WaitCache.get(driver, "visible", TIMEOUT, null, List.of()), wait);
+        Assert.assertNotSame(WaitCache.get(driver, "clickable", TIMEOUT, null, List.of()), wait);
+        Assert.assertNotSame(WaitCache.get(driver, "visible", Duration.ofSeconds(6), null, List.of()), wait);
+        Assert.assertNotSame(WaitCache.get(driver, "visible", TIMEOUT, Duration.ofMillis(100), List.of()), wait);
+        Assert.assertNotSame(WaitCache.get(driver, "visible", TIMEOUT, null,
+            List.of(StaleElementReferenceException.class)), wait);
+    }
+
+    @Test(description = "A wait that is still running is not handed out again")
+    public void testWaitInUseIsNotShared() {
+        SimulatedWebDriver driver = new SimulatedWebDriver();
+        AdaptiveWait outer = WaitCache.get(driver, "custom", TIMEOUT, null, List.of());
+
+        AdaptiveWait inner = outer.until(ignored -> WaitCache.get(driver, "custom", TIMEOUT, null, List.of()));
+
+        Assert.assertNotSame(inner, outer);
+        Assert.assertSame(WaitCache.get(driver, "custom", TIMEOUT, null, List.of()), outer);
+    }
+
+    @Test(description = "Switching the thread's driver drops the waits bound to the previous driver")
+    public void testInvalidationOnDriverSwap() {
+        SimulatedWebDriver first = new SimulatedWebDriver();
+        SimulatedWebDriver second = new SimulatedWebDriver();
+        DriverManager.setDriver(first, "simulated");
+        AdaptiveWait wait = WaitCache.get(first, "visible", TIMEOUT, null, List.of());
+        long invalidations = Statistics.read(WaitCache.getStatistics(), "Invalidations");
+
+        DriverManager.setDriver(first, "simulated");
+        Assert.assertSame(WaitCache.get(first, "visible", TIMEOUT, null, List.of()), wait,
+            "Setting the same driver again must keep the cache");
+
+        DriverManager.setDriver(second, "simulated");
+        Assert.assertEquals(Statistics.read(WaitCache.getStatistics(), "Invalidations"), invalidations + 1);
+        Assert.assertNotSame(WaitCache.get(second, "visible", TIMEOUT, null, List.of()), wait);
+    }
+
+    @Test(description = "A lookup for another driver replaces the cache even without DriverManager")
+    public void testLookupForOtherDriverReplacesCache() {
+        SimulatedWebDriver first = new SimulatedWebDriver();
+        SimulatedWebDriver second = new SimulatedWebDriver();
+        AdaptiveWait wait = WaitCache.get(first, "present", TIMEOUT, null, List.of());
+
+        Assert.assertNotSame(WaitCache.get(second, "present", TIMEOUT, null, List.of()), wait);
+        Assert.assertNotSame(WaitCache.get(first, "present", TIMEOUT, null, List.of()), wait);
+    }
+}